@@ -0,0 +1,108 @@
+package com.sportygroup.jackpot.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.sportygroup.jackpot.config.JackpotProperties.Producer.WireFormat;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the legacy JSON String path with the byte[] JSON and binary codecs.
+ * The GC profiler the benchmark profile adds shows allocation per operation, and the encode benchmarks
+ * report the size of one encoded event as the {@code encodedBytes} counter:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="BetEventCodecBenchmark"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BetEventCodecBenchmark {
+    
+    private ObjectMapper objectMapper;
+    private BetEventCodec codec;
+    private BetEvent betEvent;
+    private String jsonString;
+    private byte[] jsonBytes;
+    private byte[] binaryBytes;
+    
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        codec = new BetEventCodec(objectMapper);
+        betEvent = BetEvent.builder()
+                .betId(UUID.randomUUID().toString())
+                .userId("user-1234")
+                .jackpotId("main-jackpot")
+                .betAmount(new BigDecimal("37.55"))
+                .timestamp(LocalDateTime.now())
+                .eventType("BET_PLACED")
+                .build();
+        jsonString = objectMapper.writeValueAsString(betEvent);
+        jsonBytes = codec.encode(betEvent, WireFormat.JSON);
+        binaryBytes = codec.encode(betEvent, WireFormat.BINARY);
+    }
+    
+    /**
+     * Size of the last encoded event. An events counter is reported as-is rather than per second,
+     * so with a single benchmark thread it reads as bytes per event.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+        public long encodedBytes;
+    }
+    
+    @Benchmark
+    public String encodeJsonString(EncodedSize size) throws IOException {
+        String json = objectMapper.writeValueAsString(betEvent);
+        // The event is plain ASCII, so characters and UTF-8 bytes match
+        size.encodedBytes = json.length();
+        return json;
+    }
+    
+    @Benchmark
+    public byte[] encodeJsonBytes(EncodedSize size) throws IOException {
+        byte[] json = codec.encode(betEvent, WireFormat.JSON);
+        size.encodedBytes = json.length;
+        return json;
+    }
+    
+    @Benchmark
+    public byte[] encodeBinary(EncodedSize size) throws IOException {
+        byte[] binary = codec.encode(betEvent, WireFormat.BINARY);
+        size.encodedBytes = binary.length;
+        return binary;
+    }
+    
+    @Benchmark
+    public BetEvent decodeJsonString() throws IOException {
+        return objectMapper.readValue(jsonString, BetEvent.class);
+    }
+    
+    @Benchmark
+    public BetEvent decodeJsonBytes() throws IOException {
+        return codec.decode(jsonBytes);
+    }
+    
+    @Benchmark
+    public BetEvent decodeBinary() throws IOException {
+        return codec.decode(binaryBytes);
+    }
+}
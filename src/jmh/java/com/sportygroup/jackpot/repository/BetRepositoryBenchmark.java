@@ -0,0 +1,98 @@
+package com.sportygroup.jackpot.repository;
+
+import com.sportygroup.jackpot.domain.Bet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares indexed user/jackpot lookups in BetRepository against the previous full scan
+ * over the primary map.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BetRepositoryBenchmark {
+    
+    private static final String[] JACKPOTS = {"main-jackpot", "weekly-jackpot", "high-roller-jackpot", "classic-jackpot"};
+    
+    @Param({"100000", "1000000"})
+    public int betCount;
+    
+    @Param({"10000"})
+    public int userCount;
+    
+    private BetRepository repository;
+    private Map<String, Bet> scanBaseline;
+    private int cursor;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        repository = new BetRepository();
+        scanBaseline = new ConcurrentHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < betCount; i++) {
+            Bet bet = Bet.builder()
+                    .betId("bet-" + i)
+                    .userId("user-" + (i % userCount))
+                    .jackpotId(JACKPOTS[i % JACKPOTS.length])
+                    .betAmount(BigDecimal.TEN)
+                    .createdAt(now)
+                    .build();
+            repository.save(bet);
+            scanBaseline.put(bet.getBetId(), bet);
+        }
+    }
+    
+    private String nextUserId() {
+        cursor = (cursor + 1) % userCount;
+        return "user-" + cursor;
+    }
+    
+    @Benchmark
+    public List<Bet> indexedFindByUserId() {
+        return repository.findByUserId(nextUserId());
+    }
+    
+    @Benchmark
+    public List<Bet> scanFindByUserId() {
+        String userId = nextUserId();
+        return scanBaseline.values().stream()
+                .filter(bet -> bet.getUserId().equals(userId))
+                .collect(Collectors.toList());
+    }
+    
+    @Benchmark
+    public int indexedCountByJackpotId() {
+        return repository.findByJackpotId(JACKPOTS[cursor++ & 3]).size();
+    }
+    
+    @Benchmark
+    public int scanCountByJackpotId() {
+        String jackpotId = JACKPOTS[cursor++ & 3];
+        return scanBaseline.values().stream()
+                .filter(bet -> bet.getJackpotId().equals(jackpotId))
+                .collect(Collectors.toList())
+                .size();
+    }
+}
@@ -0,0 +1,106 @@
+package com.sportygroup.jackpot.repository;
+
+import com.sportygroup.jackpot.domain.Bet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures BetRepository saves and lookups with millions of bets stored.
+ * Saves replace a stored bet, so every index is updated while the store keeps its size.
+ * The default sizes fit the 8 GB fork heap; 50M bets need roughly 24 GB:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="BetRepositoryScaleBenchmark -p rows=50000000 -jvmArgsAppend -Xmx24g"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BetRepositoryScaleBenchmark {
+    
+    private static final String[] JACKPOTS = {"main-jackpot", "weekly-jackpot", "high-roller-jackpot", "classic-jackpot"};
+    private static final int USER_COUNT = 100_000;
+    private static final int SAMPLE_SIZE = 1 << 16;
+    
+    @Param({"1000000", "10000000"})
+    public int rows;
+    
+    private BetRepository repository;
+    private String[] userIds;
+    private Bet[] sample;
+    private String[] cursors;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        repository = new BetRepository();
+        userIds = new String[USER_COUNT];
+        for (int i = 0; i < USER_COUNT; i++) {
+            userIds[i] = "user-" + i;
+        }
+        BigDecimal betAmount = new BigDecimal("10.00");
+        LocalDateTime start = LocalDateTime.now().minusDays(1);
+        sample = new Bet[SAMPLE_SIZE];
+        int sampleStride = Math.max(1, rows / SAMPLE_SIZE);
+        for (int i = 0; i < rows; i++) {
+            Bet bet = Bet.builder()
+                    .betId("bet-" + i)
+                    .userId(userIds[i % USER_COUNT])
+                    .jackpotId(JACKPOTS[i & 3])
+                    .betAmount(betAmount)
+                    .createdAt(start.plusNanos(i * 1000L))
+                    .build();
+            repository.save(bet);
+            if (i % sampleStride == 0 && i / sampleStride < SAMPLE_SIZE) {
+                sample[i / sampleStride] = bet;
+            }
+        }
+        // Cursors are opaque, so collect them by walking the store; a null cursor starts from the first bet
+        cursors = new String[SAMPLE_SIZE];
+        String cursor = null;
+        for (int i = 1; i < SAMPLE_SIZE; i++) {
+            cursor = repository.findPage(cursor, sampleStride).nextCursor();
+            cursors[i] = cursor;
+        }
+    }
+    
+    private Bet randomBet() {
+        return sample[ThreadLocalRandom.current().nextInt(SAMPLE_SIZE)];
+    }
+    
+    @Benchmark
+    public Bet save() {
+        return repository.save(randomBet());
+    }
+    
+    @Benchmark
+    public Optional<Bet> findById() {
+        return repository.findById(randomBet().getBetId());
+    }
+    
+    @Benchmark
+    public List<Bet> findByUserId() {
+        return repository.findByUserId(userIds[ThreadLocalRandom.current().nextInt(USER_COUNT)]);
+    }
+    
+    @Benchmark
+    public Page<Bet> findPage() {
+        return repository.findPage(cursors[ThreadLocalRandom.current().nextInt(SAMPLE_SIZE)], 100);
+    }
+}
@@ -0,0 +1,111 @@
+package com.sportygroup.jackpot.service;
+
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.config.StrategyFactory;
+import com.sportygroup.jackpot.domain.Bet;
+import com.sportygroup.jackpot.domain.Jackpot;
+import com.sportygroup.jackpot.domain.JackpotReward;
+import com.sportygroup.jackpot.repository.BetRepository;
+import com.sportygroup.jackpot.repository.JackpotContributionRepository;
+import com.sportygroup.jackpot.repository.JackpotRepository;
+import com.sportygroup.jackpot.repository.JackpotRewardRepository;
+import com.sportygroup.jackpot.strategy.impl.FixedContributionStrategy;
+import com.sportygroup.jackpot.strategy.impl.FixedRewardStrategy;
+import com.sportygroup.jackpot.strategy.impl.ThreadLocalRandomSource;
+import com.sportygroup.jackpot.strategy.impl.VariableContributionStrategy;
+import com.sportygroup.jackpot.strategy.impl.VariableRewardStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the full per-bet path through the services: createBet, processContribution and evaluateReward,
+ * on one thread and on one thread per core (any other count with -t).
+ * One jackpot shows every thread contending for the same pool; more jackpots show the parallel case.
+ * The stores are recreated before every iteration, so bets kept by one iteration do not slow down the next:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="BetPipelineBenchmark"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BetPipelineBenchmark {
+    
+    private static final int USER_COUNT = 1024;
+    private static final BigDecimal BET_AMOUNT = new BigDecimal("37.55");
+    
+    @Param({"1", "4"})
+    public int jackpotCount;
+    
+    private BetService betService;
+    private JackpotContributionService contributionService;
+    private JackpotRewardService rewardService;
+    private String[] jackpotIds;
+    private String[] userIds;
+    
+    @Setup(Level.Iteration)
+    public void setUp() {
+        JackpotProperties jackpotProperties = new JackpotProperties();
+        StrategyFactory strategyFactory = new StrategyFactory(
+                new FixedContributionStrategy(jackpotProperties),
+                new VariableContributionStrategy(jackpotProperties),
+                new FixedRewardStrategy(jackpotProperties, new ThreadLocalRandomSource()),
+                new VariableRewardStrategy(jackpotProperties, new ThreadLocalRandomSource()),
+                jackpotProperties);
+        JackpotService jackpotService = new JackpotService(new JackpotRepository(), jackpotProperties);
+        jackpotIds = new String[jackpotCount];
+        for (int i = 0; i < jackpotCount; i++) {
+            jackpotIds[i] = "jackpot-" + i;
+            // Alternate the strategies so both are on the path once there is more than one jackpot
+            boolean fixed = i % 2 == 0;
+            jackpotService.createJackpot(jackpotIds[i], "Jackpot " + i,
+                    fixed ? Jackpot.ContributionType.FIXED : Jackpot.ContributionType.VARIABLE,
+                    fixed ? Jackpot.RewardType.FIXED : Jackpot.RewardType.VARIABLE);
+        }
+        userIds = new String[USER_COUNT];
+        for (int i = 0; i < USER_COUNT; i++) {
+            userIds[i] = "user-" + i;
+        }
+        betService = new BetService(new BetRepository());
+        contributionService = new JackpotContributionService(
+                new JackpotContributionRepository(), jackpotService, strategyFactory);
+        rewardService = new JackpotRewardService(new JackpotRewardRepository(), jackpotService, strategyFactory);
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public Optional<JackpotReward> singleThread() {
+        return placeBet();
+    }
+    
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Optional<JackpotReward> allCores() {
+        return placeBet();
+    }
+    
+    private Optional<JackpotReward> placeBet() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Bet bet = betService.createBet(userIds[random.nextInt(USER_COUNT)],
+                jackpotIds[random.nextInt(jackpotCount)], BET_AMOUNT);
+        contributionService.processContribution(bet);
+        return rewardService.evaluateReward(bet);
+    }
+}
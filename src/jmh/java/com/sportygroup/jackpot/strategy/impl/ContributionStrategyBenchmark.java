@@ -0,0 +1,69 @@
+package com.sportygroup.jackpot.strategy.impl;
+
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.domain.Jackpot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the BigDecimal and fixed-point contribution calculations.
+ * The GC profiler the benchmark profile adds shows the allocation difference:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="ContributionStrategyBenchmark"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ContributionStrategyBenchmark {
+    
+    private FixedContributionStrategy fixedStrategy;
+    private VariableContributionStrategy variableStrategy;
+    private Jackpot jackpot;
+    private BigDecimal betAmount;
+    private long betAmountCents;
+    
+    @Setup
+    public void setUp() {
+        JackpotProperties jackpotProperties = new JackpotProperties();
+        fixedStrategy = new FixedContributionStrategy(jackpotProperties);
+        variableStrategy = new VariableContributionStrategy(jackpotProperties);
+        jackpot = Jackpot.create("main-jackpot", "Main Jackpot", BigDecimal.valueOf(1000.0),
+                Jackpot.ContributionType.VARIABLE, Jackpot.RewardType.VARIABLE);
+        jackpot.addContribution(BigDecimal.valueOf(123.45));
+        betAmount = new BigDecimal("37.55");
+        betAmountCents = 3755L;
+    }
+    
+    @Benchmark
+    public BigDecimal fixedBigDecimal() {
+        return fixedStrategy.calculateContribution(betAmount, jackpot);
+    }
+    
+    @Benchmark
+    public long fixedCents() {
+        return fixedStrategy.calculateContributionCents(betAmountCents, jackpot);
+    }
+    
+    @Benchmark
+    public BigDecimal variableBigDecimal() {
+        return variableStrategy.calculateContribution(betAmount, jackpot);
+    }
+    
+    @Benchmark
+    public long variableCents() {
+        return variableStrategy.calculateContributionCents(betAmountCents, jackpot);
+    }
+}
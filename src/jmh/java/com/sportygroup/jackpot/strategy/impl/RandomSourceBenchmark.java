@@ -0,0 +1,85 @@
+package com.sportygroup.jackpot.strategy.impl;
+
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.domain.Jackpot;
+import com.sportygroup.jackpot.strategy.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures fixed reward evaluation with one strategy instance shared by 1, 8 and 32 threads, drawing from
+ * a shared java.util.Random (the former behaviour), per-thread generators and the seeded per-jackpot generators:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="RandomSourceBenchmark"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RandomSourceBenchmark {
+    
+    @Param({"SHARED_RANDOM", "THREAD_LOCAL", "SEEDED"})
+    private String source;
+    
+    private FixedRewardStrategy strategy;
+    private Jackpot jackpot;
+    
+    @Setup
+    public void setUp() {
+        RandomSource randomSource = switch (source) {
+            case "SHARED_RANDOM" -> {
+                Random shared = new Random();
+                yield new RandomSource() {
+                    @Override
+                    public double nextDouble(String jackpotId) {
+                        return shared.nextDouble();
+                    }
+                    
+                    @Override
+                    public long nextLong(String jackpotId, long bound) {
+                        return shared.nextLong(bound);
+                    }
+                };
+            }
+            case "THREAD_LOCAL" -> new ThreadLocalRandomSource();
+            case "SEEDED" -> new SeededRandomSource(42);
+            default -> throw new IllegalArgumentException("Unknown random source " + source);
+        };
+        strategy = new FixedRewardStrategy(new JackpotProperties(), randomSource);
+        jackpot = Jackpot.create("main-jackpot", "Main Jackpot", BigDecimal.valueOf(1000.0),
+                Jackpot.ContributionType.FIXED, Jackpot.RewardType.FIXED);
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public boolean oneThread() {
+        return strategy.evaluateReward(jackpot);
+    }
+    
+    @Benchmark
+    @Threads(8)
+    public boolean eightThreads() {
+        return strategy.evaluateReward(jackpot);
+    }
+    
+    @Benchmark
+    @Threads(32)
+    public boolean thirtyTwoThreads() {
+        return strategy.evaluateReward(jackpot);
+    }
+}
@@ -0,0 +1,80 @@
+package com.sportygroup.jackpot.strategy.impl;
+
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.domain.Jackpot;
+import com.sportygroup.jackpot.strategy.StrategyParameters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the reward evaluation of both reward strategies, reading the pool from the jackpot
+ * and from an amount already in minor units, with the configured and with compiled parameters:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="RewardStrategyBenchmark"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RewardStrategyBenchmark {
+    
+    private FixedRewardStrategy fixedStrategy;
+    private VariableRewardStrategy variableStrategy;
+    private Jackpot jackpot;
+    private long poolAmountCents;
+    private StrategyParameters parameters;
+    
+    @Setup
+    public void setUp() {
+        JackpotProperties jackpotProperties = new JackpotProperties();
+        fixedStrategy = new FixedRewardStrategy(jackpotProperties, new ThreadLocalRandomSource());
+        variableStrategy = new VariableRewardStrategy(jackpotProperties, new ThreadLocalRandomSource());
+        jackpot = Jackpot.create("main-jackpot", "Main Jackpot", BigDecimal.valueOf(1000.0),
+                Jackpot.ContributionType.VARIABLE, Jackpot.RewardType.VARIABLE);
+        jackpot.addContribution(BigDecimal.valueOf(123.45));
+        poolAmountCents = jackpot.getCurrentAmountCents();
+        parameters = StrategyParameters.compile(jackpotProperties.getStrategies());
+    }
+    
+    @Benchmark
+    public boolean fixedFromJackpot() {
+        return fixedStrategy.evaluateReward(jackpot);
+    }
+    
+    @Benchmark
+    public boolean fixedCents() {
+        return fixedStrategy.evaluateReward(poolAmountCents, jackpot);
+    }
+    
+    @Benchmark
+    public boolean variableFromJackpot() {
+        return variableStrategy.evaluateReward(jackpot);
+    }
+    
+    @Benchmark
+    public boolean variableCents() {
+        return variableStrategy.evaluateReward(poolAmountCents, jackpot);
+    }
+    
+    @Benchmark
+    public boolean fixedCompiled() {
+        return fixedStrategy.evaluateReward(poolAmountCents, jackpot, parameters);
+    }
+    
+    @Benchmark
+    public boolean variableCompiled() {
+        return variableStrategy.evaluateReward(poolAmountCents, jackpot, parameters);
+    }
+}
@@ -1,10 +1,17 @@
 package com.sportygroup.jackpot.config;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Configuration properties for jackpot service.
@@ -18,41 +25,265 @@ public class JackpotProperties {
     private Topics topics = new Topics();
     private BigDecimal defaultInitialPool = BigDecimal.valueOf(1000.0);
     private Strategies strategies = new Strategies();
+    private Map<String, Strategies> jackpotStrategies = new ConcurrentHashMap<>(); // Replaces strategies for the jackpot IDs listed
+    private Map<String, Pool> pools = new HashMap<>();
+    private Pipeline pipeline = new Pipeline();
+    private Consumer consumer = new Consumer();
+    private Producer producer = new Producer();
+    private Dedupe dedupe = new Dedupe();
+    private Retry retry = new Retry();
+    private Bus bus = new Bus();
+    private Api api = new Api();
+    private Feed feed = new Feed();
+    private LoadGen loadgen = new LoadGen();
+    
+    /**
+     * Returns the number of Kafka listener threads: the configured concurrency,
+     * or one per partition of the bets topic when none is configured
+     * 
+     * @throws IllegalStateException when more threads are configured than there are partitions to give them
+     */
+    public int listenerConcurrency() {
+        int partitions = topics.getPartitions();
+        int concurrency = consumer.getConcurrency();
+        if (concurrency <= 0) {
+            return partitions;
+        }
+        if (concurrency > partitions) {
+            throw new IllegalStateException("jackpot.consumer.concurrency (" + concurrency
+                    + ") exceeds jackpot.topics.partitions (" + partitions + "); the extra listeners would stay idle");
+        }
+        return concurrency;
+    }
     
     @Data
     public static class Topics {
         private String bets = "jackpot-bets";
+        private String betsDlt = "jackpot-bets.DLT"; // Bet events that failed every retry
+        private int partitions = 6; // Partitions of the bets topic when it is created by the service
+        private short replicas = 1;
+    }
+    
+    /**
+     * Per-jackpot pool settings, keyed by jackpot ID
+     */
+    @Data
+    public static class Pool {
+        private boolean striped = false; // Spread contributions over per-thread cells for hot jackpots
+        private int stripes = 0; // 0 = one stripe per available processor
+    }
+    
+    /**
+     * Settings of the per-jackpot single-writer processing lanes
+     */
+    @Data
+    public static class Pipeline {
+        private boolean enabled = true; // false = process bets inline on the consumer thread
+        private int queueCapacity = 8192; // Bet events buffered per jackpot before producers block
+        private int drainBatchSize = 256; // Bet events taken from the queue per drain
+        private long shutdownTimeoutMillis = 5000;
+    }
+    
+    /**
+     * Settings of the Kafka bet consumer
+     */
+    @Data
+    public static class Consumer {
+        private boolean batchEnabled = false; // true = receive whole polls and process them grouped by jackpot
+        private int batchSize = 500; // max.poll.records
+        private int maxPollIntervalMs = 300000; // max.poll.interval.ms
+        private int concurrency = 0; // Listener threads; 0 = one per partition of the bets topic
+    }
+    
+    /**
+     * Settings of the Kafka bet producer
+     */
+    @Data
+    public static class Producer {
+        private KeyMode keyMode = KeyMode.JACKPOT_ID;
+        private WireFormat wireFormat = WireFormat.JSON; // Consumers read both formats, switch once they are upgraded
+        private int maxInFlight = 10000; // Unacknowledged bet events per pod before publishers wait
+        private long sendTimeoutMs = 10000; // Max wait for an in-flight slot and for the broker ack
+        private int lingerMs = 5; // linger.ms: time a record waits to be batched with others
+        private int batchSize = 65536; // batch.size in bytes per partition
+        private String compressionType = "lz4";
+        private String acks = "all";
+        
+        /**
+         * Record key used for bet events, which decides their partition
+         */
+        public enum KeyMode {
+            JACKPOT_ID, // All bets of a jackpot share one partition, so their order is kept
+            BET_ID // Bets are spread evenly over partitions, without per-jackpot order
+        }
+        
+        /**
+         * Encoding of published bet events
+         */
+        public enum WireFormat {
+            JSON,
+            BINARY // Compact versioned layout, see BetEventCodec
+        }
+    }
+    
+    /**
+     * Settings of the duplicate bet filter
+     */
+    @Data
+    public static class Dedupe {
+        private int expectedInsertions = 1_000_000; // Bet IDs per Bloom filter generation before it rotates
+        private double falsePositiveRate = 0.01;
+        private int recentIds = 100_000; // Most recent bet IDs kept exactly
     }
     
+    /**
+     * Retry policy for bet events that fail processing
+     */
+    @Data
+    public static class Retry {
+        private int maxAttempts = 5; // Including the first attempt; afterwards the event goes to the DLT
+        private long initialBackoffMs = 200;
+        private double multiplier = 2.0;
+        private long maxBackoffMs = 30000;
+        private long tickMs = 50; // Timer wheel resolution
+        private int wheelSize = 512;
+    }
+    
+    /**
+     * Settings of the in-process bet bus used instead of Kafka when kafka.enabled=false
+     */
+    @Data
+    public static class Bus {
+        private int capacity = 65536; // Ring buffer slots, rounded up to a power of two
+        private WaitStrategy waitStrategy = WaitStrategy.PARK;
+        private int drainBatchSize = 1024; // Bet events taken from the ring per drain
+        private long publishTimeoutMs = 1000; // Max wait for a free slot before a bet is rejected
+        private long parkMicros = 100; // Max park per wait with the PARK strategy
+        
+        /**
+         * How publishers and the bus consumer wait for a free slot or a new bet event
+         */
+        public enum WaitStrategy {
+            BUSY_SPIN, // Lowest latency, keeps a core busy
+            YIELD, // Low latency, gives the core to other runnable threads
+            PARK // Least CPU; the consumer is woken by publishers
+        }
+    }
+    
+    /**
+     * Limits of the REST API
+     */
+    @Data
+    public static class Api {
+        private int maxBulkBets = 1000; // Bets accepted per bulk placement request
+        private int defaultPageSize = 100; // Items per page of paginated listings without a limit
+        private int maxPageSize = 1000;
+    }
+    
+    /**
+     * Settings of the live jackpot amount feed (Server-Sent Events)
+     */
+    @Data
+    public static class Feed {
+        private long tickMs = 250; // Changes within one tick are coalesced into one update
+        private long heartbeatMs = 15000; // Keep-alive comment when nothing changed for this long
+        private long emitterTimeoutMs = 1800000; // Subscriptions end after this; clients reconnect
+        private int subscriberQueueSize = 16; // Frames buffered per subscriber; one that falls further behind is dropped
+    }
+    
+    /**
+     * Settings of the load generator started with the loadgen profile
+     */
+    @Data
+    public static class LoadGen {
+        private Target target = Target.IN_PROCESS;
+        private String baseUrl = "http://localhost:8080"; // Service driven by the REST target
+        private int ratePerSecond = 1000; // Bets started per second, however long earlier bets take
+        private int durationSeconds = 60;
+        private int warmupSeconds = 5; // Run before the measured duration and left out of the report
+        private int maxInFlight = 10000; // The schedule waits beyond this; the wait still counts as latency
+        private int reportIntervalSeconds = 5;
+        private String replayFile; // Newline-delimited JSON bet requests replayed in a loop instead of synthetic traffic
+        private long seed = 42; // Same seed, same synthetic traffic
+        private double jackpotSkew = 1.1; // Zipf exponent of the jackpot mix
+        private int userCount = 100000;
+        private double userSkew = 1.2; // Zipf exponent of the user mix: a few users place most bets
+        private BigDecimal medianStake = BigDecimal.valueOf(10.0);
+        private double stakeSpread = 1.0; // Sigma of the log-normal stake distribution
+        private BigDecimal minStake = new BigDecimal("0.10");
+        private BigDecimal maxStake = BigDecimal.valueOf(10000.0);
+        private boolean exitWhenDone = true;
+        
+        /**
+         * Path the generated bets take into the service
+         */
+        public enum Target {
+            IN_PROCESS, // BetController called directly: placement without HTTP
+            REST // POST /api/v1/bets over HTTP
+        }
+    }
+    
+    /**
+     * Strategy parameters; the constraints are checked when a jackpot's parameters are set through the admin API
+     */
     @Data
     public static class Strategies {
+        @NotNull @Valid
         private FixedContribution fixedContribution = new FixedContribution();
+        @NotNull @Valid
         private VariableContribution variableContribution = new VariableContribution();
+        @NotNull @Valid
         private FixedReward fixedReward = new FixedReward();
+        @NotNull @Valid
         private VariableReward variableReward = new VariableReward();
+        @NotNull @Valid
+        private Random random = new Random();
         
         @Data
         public static class FixedContribution {
+            @NotNull @DecimalMin("0") @DecimalMax("1")
             private BigDecimal percentage = BigDecimal.valueOf(0.05); // 5%
         }
         
         @Data
         public static class VariableContribution {
+            @NotNull @DecimalMin("0") @DecimalMax("1")
             private BigDecimal initialPercentage = BigDecimal.valueOf(0.10); // 10%
+            @NotNull @DecimalMin("0") @DecimalMax("1")
             private BigDecimal decayRate = BigDecimal.valueOf(0.001); // 0.1% per pool increase
         }
         
         @Data
         public static class FixedReward {
+            @NotNull @DecimalMin("0") @DecimalMax("1")
             private BigDecimal chancePercentage = BigDecimal.valueOf(0.01); // 1%
         }
         
         @Data
         public static class VariableReward {
+            @NotNull @DecimalMin("0") @DecimalMax("1")
             private BigDecimal baseChance = BigDecimal.valueOf(0.005); // 0.5%
+            @NotNull @DecimalMin("0") @DecimalMax("1")
             private BigDecimal increaseRate = BigDecimal.valueOf(0.0001); // 0.01% per pool increase
+            @NotNull @DecimalMin("0") @DecimalMax("1")
             private BigDecimal maxChance = BigDecimal.ONE; // 100%
+            @NotNull @DecimalMin("0")
             private BigDecimal triggerLimit = BigDecimal.valueOf(10000.0); // Pool amount to trigger 100% chance
         }
+        
+        /**
+         * Random source of the reward draws
+         */
+        @Data
+        public static class Random {
+            @NotNull
+            private Mode mode = Mode.THREAD_LOCAL;
+            private long seed = 0; // Used by SEEDED: same seed and bet order per jackpot, same winners
+            
+            public enum Mode {
+                THREAD_LOCAL, // Per-thread generators: no contention between consumer threads
+                SEEDED // Per-jackpot generators from a fixed seed: reproducible simulations and audits
+            }
+        }
     }
 }
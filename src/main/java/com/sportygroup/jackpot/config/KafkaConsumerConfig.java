@@ -0,0 +1,60 @@
+package com.sportygroup.jackpot.config;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Kafka consumer configuration.
+ * Builds the listener container factory of the active consumer mode on top of the Spring Boot consumer settings.
+ */
+@Configuration
+public class KafkaConsumerConfig {
+    
+    /**
+     * Listener container factory delivering single bet events that are acknowledged once their lane has processed them.
+     * Acks may arrive out of order; the container commits only the contiguous acknowledged prefix of each partition.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "jackpot.consumer.batch-enabled", havingValue = "false", matchIfMissing = true)
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> recordKafkaListenerContainerFactory(
+            ConsumerFactory<?, ?> consumerFactory, JackpotProperties jackpotProperties) {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory = containerFactory(consumerFactory, jackpotProperties);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAsyncAcks(true);
+        return factory;
+    }
+    
+    /**
+     * Listener container factory delivering whole polls of bet events to the listener
+     */
+    @Bean
+    @ConditionalOnProperty(name = "jackpot.consumer.batch-enabled", havingValue = "true")
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> batchKafkaListenerContainerFactory(
+            ConsumerFactory<?, ?> consumerFactory, JackpotProperties jackpotProperties) {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory = containerFactory(consumerFactory, jackpotProperties);
+        factory.setBatchListener(true);
+        return factory;
+    }
+    
+    private ConcurrentKafkaListenerContainerFactory<String, byte[]> containerFactory(
+            ConsumerFactory<?, ?> consumerFactory, JackpotProperties jackpotProperties) {
+        JackpotProperties.Consumer consumer = jackpotProperties.getConsumer();
+        
+        Map<String, Object> config = new HashMap<>(consumerFactory.getConfigurationProperties());
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, consumer.getBatchSize());
+        config.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, consumer.getMaxPollIntervalMs());
+        
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(config));
+        return factory;
+    }
+}
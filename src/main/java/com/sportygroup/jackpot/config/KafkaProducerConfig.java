@@ -0,0 +1,37 @@
+package com.sportygroup.jackpot.config;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Kafka producer configuration.
+ * Applies the batching and durability settings from jackpot.producer to the Spring Boot producer factory.
+ */
+@Configuration
+@ConditionalOnProperty(name = "kafka.enabled", havingValue = "true")
+public class KafkaProducerConfig {
+    
+    /**
+     * Producer tuning for pipelined bet publishing
+     */
+    @Bean
+    public DefaultKafkaProducerFactoryCustomizer betProducerCustomizer(JackpotProperties jackpotProperties) {
+        JackpotProperties.Producer producer = jackpotProperties.getProducer();
+        return producerFactory -> {
+            Map<String, Object> config = new HashMap<>();
+            config.put(ProducerConfig.LINGER_MS_CONFIG, producer.getLingerMs());
+            config.put(ProducerConfig.BATCH_SIZE_CONFIG, producer.getBatchSize());
+            config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, producer.getCompressionType());
+            config.put(ProducerConfig.ACKS_CONFIG, producer.getAcks());
+            // Retries without duplicates or reordering within a partition; the broker only allows it with acks=all
+            config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, "all".equals(producer.getAcks()));
+            producerFactory.updateConfigs(config);
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package com.sportygroup.jackpot.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+/**
+ * Kafka topic configuration.
+ * Declares the bets topic with enough partitions for the configured consumer concurrency, and its dead-letter topic.
+ */
+@Configuration
+@ConditionalOnProperty(name = "kafka.enabled", havingValue = "true")
+public class KafkaTopicConfig {
+    
+    /**
+     * Bets topic, created on startup if it does not exist yet
+     */
+    @Bean
+    public NewTopic betsTopic(JackpotProperties jackpotProperties) {
+        JackpotProperties.Topics topics = jackpotProperties.getTopics();
+        return TopicBuilder.name(topics.getBets())
+                .partitions(topics.getPartitions())
+                .replicas(topics.getReplicas())
+                .build();
+    }
+    
+    /**
+     * Dead-letter topic for bet events that failed every retry
+     */
+    @Bean
+    public NewTopic betsDeadLetterTopic(JackpotProperties jackpotProperties) {
+        JackpotProperties.Topics topics = jackpotProperties.getTopics();
+        return TopicBuilder.name(topics.getBetsDlt())
+                .partitions(topics.getPartitions())
+                .replicas(topics.getReplicas())
+                .build();
+    }
+}
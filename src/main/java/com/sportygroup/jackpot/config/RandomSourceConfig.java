@@ -0,0 +1,32 @@
+package com.sportygroup.jackpot.config;
+
+import com.sportygroup.jackpot.strategy.RandomSource;
+import com.sportygroup.jackpot.strategy.impl.SeededRandomSource;
+import com.sportygroup.jackpot.strategy.impl.ThreadLocalRandomSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Random source configuration.
+ * Picks the random source of the reward strategies from jackpot.strategies.random.mode.
+ */
+@Slf4j
+@Configuration
+public class RandomSourceConfig {
+    
+    /**
+     * Random source shared by the reward strategies
+     */
+    @Bean
+    public RandomSource randomSource(JackpotProperties jackpotProperties) {
+        JackpotProperties.Strategies.Random random = jackpotProperties.getStrategies().getRandom();
+        return switch (random.getMode()) {
+            case THREAD_LOCAL -> new ThreadLocalRandomSource();
+            case SEEDED -> {
+                log.info("Reward draws are seeded with {}", random.getSeed());
+                yield new SeededRandomSource(random.getSeed());
+            }
+        };
+    }
+}
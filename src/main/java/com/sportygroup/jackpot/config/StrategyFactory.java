@@ -3,17 +3,24 @@ package com.sportygroup.jackpot.config;
 import com.sportygroup.jackpot.domain.Jackpot;
 import com.sportygroup.jackpot.strategy.ContributionStrategy;
 import com.sportygroup.jackpot.strategy.RewardStrategy;
+import com.sportygroup.jackpot.strategy.StrategyParameters;
 import com.sportygroup.jackpot.strategy.impl.FixedContributionStrategy;
 import com.sportygroup.jackpot.strategy.impl.FixedRewardStrategy;
 import com.sportygroup.jackpot.strategy.impl.VariableContributionStrategy;
 import com.sportygroup.jackpot.strategy.impl.VariableRewardStrategy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Factory class for creating strategy instances based on jackpot configuration.
- * Provides a centralized way to get the appropriate strategy for a given jackpot.
+ * Provides a centralized way to get the appropriate strategy for a given jackpot,
+ * and the strategy parameters compiled for it.
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class StrategyFactory {
@@ -22,6 +29,12 @@ public class StrategyFactory {
     private final VariableContributionStrategy variableContributionStrategy;
     private final FixedRewardStrategy fixedRewardStrategy;
     private final VariableRewardStrategy variableRewardStrategy;
+    private final JackpotProperties jackpotProperties;
+    
+    /**
+     * Compiled parameters by jackpot ID, replaced as a whole on refresh
+     */
+    private volatile Map<String, StrategyParameters> parametersByJackpot = new ConcurrentHashMap<>();
     
     /**
      * Gets the appropriate contribution strategy for a jackpot
@@ -42,4 +55,38 @@ public class StrategyFactory {
             case VARIABLE -> variableRewardStrategy;
         };
     }
+    
+    /**
+     * Gets the strategy parameters of a jackpot: its own from jackpot.jackpot-strategies, or the global ones.
+     * They are compiled on first use and kept until refreshed.
+     */
+    public StrategyParameters getStrategyParameters(Jackpot jackpot) {
+        Map<String, StrategyParameters> parameters = parametersByJackpot;
+        StrategyParameters compiled = parameters.get(jackpot.getJackpotId());
+        return compiled != null ? compiled : parameters.computeIfAbsent(jackpot.getJackpotId(), this::compile);
+    }
+    
+    /**
+     * Gives a jackpot its own strategy parameters, replacing the ones it used until now
+     */
+    public void setStrategyParameters(String jackpotId, JackpotProperties.Strategies strategies) {
+        StrategyParameters compiled = StrategyParameters.compile(strategies);
+        jackpotProperties.getJackpotStrategies().put(jackpotId, strategies);
+        // put() rather than remove(): a compile of the old settings racing with this call can never win
+        parametersByJackpot.put(jackpotId, compiled);
+        log.info("Jackpot {} uses its own strategy parameters", jackpotId);
+    }
+    
+    /**
+     * Drops every compiled parameter set, so each jackpot recompiles from the current configuration on its next bet
+     */
+    public void refreshStrategyParameters() {
+        parametersByJackpot = new ConcurrentHashMap<>();
+        log.info("Strategy parameters will be recompiled from the current configuration");
+    }
+    
+    private StrategyParameters compile(String jackpotId) {
+        JackpotProperties.Strategies own = jackpotProperties.getJackpotStrategies().get(jackpotId);
+        return StrategyParameters.compile(own != null ? own : jackpotProperties.getStrategies());
+    }
 }
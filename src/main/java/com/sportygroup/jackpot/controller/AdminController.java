@@ -1,8 +1,11 @@
 package com.sportygroup.jackpot.controller;
 
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.config.StrategyFactory;
 import com.sportygroup.jackpot.domain.Jackpot;
 import com.sportygroup.jackpot.dto.JackpotInfoResponse;
 import com.sportygroup.jackpot.service.JackpotService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -20,6 +23,7 @@ import org.springframework.web.bind.annotation.*;
 public class AdminController {
     
     private final JackpotService jackpotService;
+    private final StrategyFactory strategyFactory;
     
     /**
      * Creates a new jackpot
@@ -49,6 +53,28 @@ public class AdminController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
+    /**
+     * Gives a jackpot its own strategy parameters instead of the global ones; 400 when a value is missing or out of range
+     */
+    @PutMapping("/{jackpotId}/strategies")
+    public ResponseEntity<Void> setStrategyParameters(@PathVariable String jackpotId,
+                                                      @Valid @RequestBody JackpotProperties.Strategies strategies) {
+        if (jackpotService.getJackpot(jackpotId).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        strategyFactory.setStrategyParameters(jackpotId, strategies);
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * Recompiles the strategy parameters of every jackpot from the current configuration
+     */
+    @PostMapping("/strategies/refresh")
+    public ResponseEntity<Void> refreshStrategyParameters() {
+        strategyFactory.refreshStrategyParameters();
+        return ResponseEntity.noContent().build();
+    }
+    
     /**
      * Request DTO for creating a jackpot
      */
@@ -1,23 +1,45 @@
 package com.sportygroup.jackpot.controller;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportygroup.jackpot.config.JackpotProperties;
 import com.sportygroup.jackpot.domain.Bet;
 import com.sportygroup.jackpot.dto.BetRequest;
 import com.sportygroup.jackpot.dto.BetResponse;
+import com.sportygroup.jackpot.dto.BulkBetResponse;
+import com.sportygroup.jackpot.dto.PageResponse;
 import com.sportygroup.jackpot.messaging.BetEvent;
 import com.sportygroup.jackpot.messaging.BetEventMapper;
 import com.sportygroup.jackpot.messaging.KafkaBetProducer;
 import com.sportygroup.jackpot.messaging.MockKafkaBetProducer;
+import com.sportygroup.jackpot.messaging.PublishOutcome;
 import com.sportygroup.jackpot.service.BetService;
 import com.sportygroup.jackpot.service.JackpotService;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 /**
  * REST controller for bet operations.
@@ -31,6 +53,9 @@ public class BetController {
     private final BetService betService;
     private final JackpotService jackpotService;
     private final BetEventMapper betEventMapper;
+    private final JackpotProperties jackpotProperties;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
     
     @Autowired(required = false)
     private KafkaBetProducer kafkaBetProducer;
@@ -38,17 +63,22 @@ public class BetController {
     @Autowired(required = false)
     private MockKafkaBetProducer mockKafkaBetProducer;
     
-    public BetController(BetService betService, JackpotService jackpotService, BetEventMapper betEventMapper) {
+    public BetController(BetService betService, JackpotService jackpotService, BetEventMapper betEventMapper,
+                         JackpotProperties jackpotProperties, ObjectMapper objectMapper, Validator validator) {
         this.betService = betService;
         this.jackpotService = jackpotService;
         this.betEventMapper = betEventMapper;
+        this.jackpotProperties = jackpotProperties;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
     }
     
     /**
-     * Places a new bet and publishes it to Kafka
+     * Places a new bet and publishes it to Kafka.
+     * The request thread is released while the broker ack is awaited; the response is written once it arrives.
      */
     @PostMapping
-    public ResponseEntity<BetResponse> placeBet(@Valid @RequestBody BetRequest betRequest) {
+    public CompletableFuture<ResponseEntity<BetResponse>> placeBet(@Valid @RequestBody BetRequest betRequest) {
         log.info("Received bet request: {}", betRequest);
         
         // Validate jackpot exists
@@ -57,7 +87,7 @@ public class BetController {
                     .status("ERROR")
                     .message("Jackpot not found: " + betRequest.getJackpotId())
                     .build();
-            return ResponseEntity.badRequest().body(errorResponse);
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(errorResponse));
         }
         
         // Create bet
@@ -70,26 +100,186 @@ public class BetController {
         // Create bet event
         BetEvent betEvent = betEventMapper.toBetEvent(bet);
         
-        // Publish to Kafka (or mock)
+        // Publish to Kafka (or the in-process bus); the response is only sent once the outcome is known
+        return publishBetEvent(betEvent).thenApply(outcome -> switch (outcome) {
+            case ACCEPTED -> ResponseEntity.status(HttpStatus.CREATED).body(placed(bet));
+            // The event may still be delivered, so the bet is kept and the client can look it up
+            case UNKNOWN -> ResponseEntity.status(HttpStatus.ACCEPTED).body(pending(bet));
+            case REJECTED -> {
+                betService.deleteBet(bet.getBetId());
+                BetResponse errorResponse = BetResponse.builder()
+                        .betId(bet.getBetId())
+                        .status("ERROR")
+                        .message("Bet could not be accepted, please retry")
+                        .build();
+                yield ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+            }
+        });
+    }
+    
+    /**
+     * Publishes a bet event to Kafka (or the in-process bus) without waiting for the outcome
+     */
+    private CompletableFuture<PublishOutcome> publishBetEvent(BetEvent betEvent) {
         if (kafkaBetProducer != null) {
-            try {
-                kafkaBetProducer.publishBetEvent(betEvent);
-                log.info("Bet event published to Kafka successfully");
-            } catch (Exception e) {
-                log.warn("Kafka producer failed, using mock: {}", e.getMessage());
-                if (mockKafkaBetProducer != null) {
-                    mockKafkaBetProducer.publishBetEvent(betEvent);
+            return kafkaBetProducer.publishBetEvent(betEvent);
+        }
+        if (mockKafkaBetProducer != null) {
+            return mockKafkaBetProducer.publishBetEvent(betEvent);
+        }
+        log.warn("No Kafka producer available, bet event not published");
+        return CompletableFuture.completedFuture(PublishOutcome.ACCEPTED);
+    }
+    
+    /**
+     * Places a JSON array of bets in one call and publishes them as one batch.
+     * The array is read element by element, so an oversized request is refused before it is fully read.
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkBetResponse> placeBets(InputStream body) throws IOException {
+        int maxBets = jackpotProperties.getApi().getMaxBulkBets();
+        List<BetRequest> betRequests = new ArrayList<>();
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return bulkError(HttpStatus.BAD_REQUEST, "Expected a JSON array of bets");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (betRequests.size() == maxBets) {
+                    return bulkError(HttpStatus.PAYLOAD_TOO_LARGE, "At most " + maxBets + " bets per request");
                 }
+                betRequests.add(objectMapper.readValue(parser, BetRequest.class));
             }
-        } else if (mockKafkaBetProducer != null) {
-            log.info("Using mock Kafka producer");
-            mockKafkaBetProducer.publishBetEvent(betEvent);
-        } else {
-            log.warn("No Kafka producer available, bet event not published");
+        } catch (JsonProcessingException e) {
+            return bulkError(HttpStatus.BAD_REQUEST, "Malformed bet at position " + (betRequests.size() + 1));
         }
+        return placeBulk(betRequests);
+    }
+    
+    /**
+     * Places a newline-delimited JSON stream of bets in one call and publishes them as one batch
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkBetResponse> placeBetsNdjson(InputStream body) throws IOException {
+        int maxBets = jackpotProperties.getApi().getMaxBulkBets();
+        List<BetRequest> betRequests = new ArrayList<>();
+        try (MappingIterator<BetRequest> lines = objectMapper.readerFor(BetRequest.class).readValues(body)) {
+            while (lines.hasNextValue()) {
+                if (betRequests.size() == maxBets) {
+                    return bulkError(HttpStatus.PAYLOAD_TOO_LARGE, "At most " + maxBets + " bets per request");
+                }
+                betRequests.add(lines.nextValue());
+            }
+        } catch (JsonProcessingException e) {
+            return bulkError(HttpStatus.BAD_REQUEST, "Malformed bet on line " + (betRequests.size() + 1));
+        }
+        return placeBulk(betRequests);
+    }
+    
+    /**
+     * Validates, stores and publishes a batch of bets; each jackpot is checked once
+     * and the bets are stored and published in bulk
+     */
+    private ResponseEntity<BulkBetResponse> placeBulk(List<BetRequest> betRequests) {
+        // The size limit is enforced while the body is read
+        if (betRequests.isEmpty()) {
+            return bulkError(HttpStatus.BAD_REQUEST, "At least one bet is required");
+        }
+        log.info("Received bulk bet request with {} bets", betRequests.size());
         
-        // Create response
-        BetResponse response = BetResponse.builder()
+        // Validate every bet, checking each distinct jackpot only once
+        BetResponse[] results = new BetResponse[betRequests.size()];
+        Map<String, Boolean> jackpotExists = new HashMap<>();
+        List<Bet> bets = new ArrayList<>(betRequests.size());
+        List<Integer> positions = new ArrayList<>(betRequests.size());
+        for (int i = 0; i < betRequests.size(); i++) {
+            BetRequest betRequest = betRequests.get(i);
+            String error = validate(betRequest, jackpotExists);
+            if (error != null) {
+                results[i] = rejected(betRequest, null, error);
+                continue;
+            }
+            bets.add(Bet.create(betRequest.getUserId(), betRequest.getJackpotId(), betRequest.getBetAmount()));
+            positions.add(i);
+        }
+        
+        // Store and publish the valid bets in bulk; only bets that were definitively not published are removed again
+        betService.saveBets(bets);
+        PublishOutcome[] outcomes = publishBetEvents(bets.stream().map(betEventMapper::toBetEvent).toList());
+        int accepted = 0;
+        int pending = 0;
+        for (int j = 0; j < bets.size(); j++) {
+            Bet bet = bets.get(j);
+            int position = positions.get(j);
+            switch (outcomes[j]) {
+                case ACCEPTED -> {
+                    results[position] = placed(bet);
+                    accepted++;
+                }
+                case UNKNOWN -> {
+                    results[position] = pending(bet);
+                    pending++;
+                }
+                case REJECTED -> {
+                    betService.deleteBet(bet.getBetId());
+                    results[position] = rejected(betRequests.get(position), bet.getBetId(),
+                            "Bet could not be accepted, please retry");
+                }
+            }
+        }
+        
+        int rejected = results.length - accepted - pending;
+        BulkBetResponse response = BulkBetResponse.builder()
+                .accepted(accepted)
+                .pending(pending)
+                .rejected(rejected)
+                .message(accepted + " of " + results.length + " bets placed")
+                .results(List.of(results))
+                .build();
+        return ResponseEntity.status(accepted == results.length ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS)
+                .body(response);
+    }
+    
+    /**
+     * Returns why a bet of a bulk request is invalid, or null when it is valid
+     */
+    private String validate(BetRequest betRequest, Map<String, Boolean> jackpotExists) {
+        if (betRequest == null) {
+            return "Bet is required";
+        }
+        Set<ConstraintViolation<BetRequest>> violations = validator.validate(betRequest);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        if (!jackpotExists.computeIfAbsent(betRequest.getJackpotId(), jackpotService::jackpotExists)) {
+            return "Jackpot not found: " + betRequest.getJackpotId();
+        }
+        return null;
+    }
+    
+    /**
+     * Publishes bet events to Kafka (or the in-process bus) and reports the outcome of each
+     */
+    private PublishOutcome[] publishBetEvents(List<BetEvent> betEvents) {
+        if (betEvents.isEmpty()) {
+            return new PublishOutcome[0];
+        }
+        if (kafkaBetProducer != null) {
+            return kafkaBetProducer.publishBetEvents(betEvents);
+        }
+        if (mockKafkaBetProducer != null) {
+            return mockKafkaBetProducer.publishBetEvents(betEvents);
+        }
+        log.warn("No Kafka producer available, {} bet events not published", betEvents.size());
+        PublishOutcome[] outcomes = new PublishOutcome[betEvents.size()];
+        Arrays.fill(outcomes, PublishOutcome.ACCEPTED);
+        return outcomes;
+    }
+    
+    private BetResponse placed(Bet bet) {
+        return BetResponse.builder()
                 .betId(bet.getBetId())
                 .userId(bet.getUserId())
                 .jackpotId(bet.getJackpotId())
@@ -98,8 +288,47 @@ public class BetController {
                 .status("SUCCESS")
                 .message("Bet placed successfully")
                 .build();
-        
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+    
+    private BetResponse pending(Bet bet) {
+        return BetResponse.builder()
+                .betId(bet.getBetId())
+                .userId(bet.getUserId())
+                .jackpotId(bet.getJackpotId())
+                .betAmount(bet.getBetAmount())
+                .createdAt(bet.getCreatedAt())
+                .status("PENDING")
+                .message("Bet received, confirmation pending")
+                .build();
+    }
+    
+    private BetResponse found(Bet bet) {
+        return BetResponse.builder()
+                .betId(bet.getBetId())
+                .userId(bet.getUserId())
+                .jackpotId(bet.getJackpotId())
+                .betAmount(bet.getBetAmount())
+                .createdAt(bet.getCreatedAt())
+                .status("FOUND")
+                .build();
+    }
+    
+    private BetResponse rejected(BetRequest betRequest, String betId, String message) {
+        return BetResponse.builder()
+                .betId(betId)
+                .userId(betRequest != null ? betRequest.getUserId() : null)
+                .jackpotId(betRequest != null ? betRequest.getJackpotId() : null)
+                .betAmount(betRequest != null ? betRequest.getBetAmount() : null)
+                .status("ERROR")
+                .message(message)
+                .build();
+    }
+    
+    private ResponseEntity<BulkBetResponse> bulkError(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(BulkBetResponse.builder()
+                .message(message)
+                .results(List.of())
+                .build());
     }
     
     /**
@@ -110,17 +339,7 @@ public class BetController {
         Optional<Bet> bet = betService.getBet(betId);
         
         if (bet.isPresent()) {
-            Bet betEntity = bet.get();
-            BetResponse response = BetResponse.builder()
-                    .betId(betEntity.getBetId())
-                    .userId(betEntity.getUserId())
-                    .jackpotId(betEntity.getJackpotId())
-                    .betAmount(betEntity.getBetAmount())
-                    .createdAt(betEntity.getCreatedAt())
-                    .status("FOUND")
-                    .build();
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(found(bet.get()));
         } else {
             return ResponseEntity.notFound().build();
         }
@@ -134,19 +353,29 @@ public class BetController {
         List<Bet> bets = betService.getBetsByUserId(userId);
         
         List<BetResponse> responses = bets.stream()
-                .map(bet -> BetResponse.builder()
-                        .betId(bet.getBetId())
-                        .userId(bet.getUserId())
-                        .jackpotId(bet.getJackpotId())
-                        .betAmount(bet.getBetAmount())
-                        .createdAt(bet.getCreatedAt())
-                        .status("FOUND")
-                        .build())
+                .map(this::found)
                 .toList();
         
         return ResponseEntity.ok(responses);
     }
     
+    /**
+     * Retrieves one page of bets in save order; pass the returned nextCursor to get the following page
+     */
+    @GetMapping("/page")
+    public ResponseEntity<PageResponse<BetResponse>> getBetsPage(@RequestParam(required = false) String cursor,
+                                                                 @RequestParam(required = false) Integer limit) {
+        return ListingResponses.page(cursor, limit, jackpotProperties.getApi(), betService::getBetsPage, this::found);
+    }
+    
+    /**
+     * Streams all bets as newline-delimited JSON in save order, without loading them into memory
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamBets() {
+        return ListingResponses.ndjson(objectMapper, betService::streamAllBets, this::found);
+    }
+    
     /**
      * Retrieves all bets
      */
@@ -155,14 +384,7 @@ public class BetController {
         List<Bet> bets = betService.getAllBets();
         
         List<BetResponse> responses = bets.stream()
-                .map(bet -> BetResponse.builder()
-                        .betId(bet.getBetId())
-                        .userId(bet.getUserId())
-                        .jackpotId(bet.getJackpotId())
-                        .betAmount(bet.getBetAmount())
-                        .createdAt(bet.getCreatedAt())
-                        .status("FOUND")
-                        .build())
+                .map(this::found)
                 .toList();
         
         return ResponseEntity.ok(responses);
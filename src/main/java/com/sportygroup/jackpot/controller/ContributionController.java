@@ -0,0 +1,72 @@
+package com.sportygroup.jackpot.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.domain.JackpotContribution;
+import com.sportygroup.jackpot.dto.ContributionResponse;
+import com.sportygroup.jackpot.dto.PageResponse;
+import com.sportygroup.jackpot.service.JackpotContributionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+/**
+ * REST controller for jackpot contribution listings.
+ * Provides paginated and streamed access to recorded contributions.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/contributions")
+@RequiredArgsConstructor
+public class ContributionController {
+    
+    private final JackpotContributionService contributionService;
+    private final JackpotProperties jackpotProperties;
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * Retrieves all contributions for a specific bet
+     */
+    @GetMapping("/bet/{betId}")
+    public ResponseEntity<List<ContributionResponse>> getContributionsByBet(@PathVariable String betId) {
+        return ResponseEntity.ok(contributionService.getContributionsByBetId(betId).stream()
+                .map(this::toResponse)
+                .toList());
+    }
+    
+    /**
+     * Retrieves one page of contributions in save order; pass the returned nextCursor to get the following page
+     */
+    @GetMapping("/page")
+    public ResponseEntity<PageResponse<ContributionResponse>> getContributionsPage(
+            @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit) {
+        return ListingResponses.page(cursor, limit, jackpotProperties.getApi(),
+                contributionService::getContributionsPage, this::toResponse);
+    }
+    
+    /**
+     * Streams all contributions as newline-delimited JSON in save order, without loading them into memory
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamContributions() {
+        return ListingResponses.ndjson(objectMapper, contributionService::streamAllContributions, this::toResponse);
+    }
+    
+    private ContributionResponse toResponse(JackpotContribution contribution) {
+        return ContributionResponse.builder()
+                .contributionId(contribution.getContributionId())
+                .betId(contribution.getBetId())
+                .userId(contribution.getUserId())
+                .jackpotId(contribution.getJackpotId())
+                .stakeAmount(contribution.getStakeAmount())
+                .contributionAmount(contribution.getContributionAmount())
+                .currentJackpotAmount(contribution.getCurrentJackpotAmount())
+                .createdAt(contribution.getCreatedAt())
+                .build();
+    }
+}
@@ -1,6 +1,10 @@
 package com.sportygroup.jackpot.controller;
 
+import com.sportygroup.jackpot.pipeline.JackpotLaneDispatcher;
+import com.sportygroup.jackpot.repository.Totals;
 import com.sportygroup.jackpot.service.BetService;
+import com.sportygroup.jackpot.service.JackpotContributionService;
+import com.sportygroup.jackpot.service.JackpotRewardService;
 import com.sportygroup.jackpot.service.JackpotService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,7 +14,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Health check controller for monitoring service status.
@@ -24,6 +31,9 @@ public class HealthController {
     
     private final BetService betService;
     private final JackpotService jackpotService;
+    private final JackpotContributionService contributionService;
+    private final JackpotRewardService rewardService;
+    private final JackpotLaneDispatcher laneDispatcher;
     
     /**
      * Health check endpoint
@@ -39,15 +49,54 @@ public class HealthController {
     }
     
     /**
-     * Service statistics endpoint
+     * Service statistics endpoint.
+     * Served from running totals kept by the repositories, so its cost does not grow with the number of bets.
      */
     @GetMapping("/stats")
     public ResponseEntity<Map<String, Object>> stats() {
+        Totals bets = betService.getBetTotals();
+        Totals contributions = contributionService.getContributionTotals();
+        Totals rewards = rewardService.getRewardTotals();
+        
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalBets", betService.getAllBets().size());
-        stats.put("totalJackpots", jackpotService.getAllJackpots().size());
+        stats.put("totalBets", bets.count());
+        stats.put("totalStaked", bets.amount());
+        stats.put("totalContributions", contributions.count());
+        stats.put("totalContributed", contributions.amount());
+        stats.put("totalRewards", rewards.count());
+        stats.put("totalPaidOut", rewards.amount());
+        stats.put("totalJackpots", jackpotService.countJackpots());
+        stats.put("jackpots", jackpotStats());
+        stats.put("pipelineQueueDepths", laneDispatcher.queueDepths());
         stats.put("timestamp", java.time.LocalDateTime.now());
         
         return ResponseEntity.ok(stats);
     }
+    
+    private Map<String, Map<String, Object>> jackpotStats() {
+        Map<String, Totals> bets = betService.getBetTotalsByJackpot();
+        Map<String, Totals> contributions = contributionService.getContributionTotalsByJackpot();
+        Map<String, Totals> rewards = rewardService.getRewardTotalsByJackpot();
+        
+        // Sorted so the breakdown reads the same on every call
+        Set<String> jackpotIds = new TreeSet<>(bets.keySet());
+        jackpotIds.addAll(contributions.keySet());
+        jackpotIds.addAll(rewards.keySet());
+        
+        Map<String, Map<String, Object>> jackpots = new LinkedHashMap<>();
+        for (String jackpotId : jackpotIds) {
+            Totals jackpotBets = bets.getOrDefault(jackpotId, Totals.EMPTY);
+            Totals jackpotContributions = contributions.getOrDefault(jackpotId, Totals.EMPTY);
+            Totals jackpotRewards = rewards.getOrDefault(jackpotId, Totals.EMPTY);
+            Map<String, Object> jackpot = new LinkedHashMap<>();
+            jackpot.put("bets", jackpotBets.count());
+            jackpot.put("staked", jackpotBets.amount());
+            jackpot.put("contributions", jackpotContributions.count());
+            jackpot.put("contributed", jackpotContributions.amount());
+            jackpot.put("rewards", jackpotRewards.count());
+            jackpot.put("paidOut", jackpotRewards.amount());
+            jackpots.put(jackpotId, jackpot);
+        }
+        return jackpots;
+    }
 }
@@ -1,19 +1,22 @@
 package com.sportygroup.jackpot.controller;
 
-import com.sportygroup.jackpot.domain.Jackpot;
-import com.sportygroup.jackpot.dto.JackpotInfoResponse;
-import com.sportygroup.jackpot.service.JackpotService;
+import com.sportygroup.jackpot.service.JackpotAmountFeed;
+import com.sportygroup.jackpot.service.JackpotViewCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
  * REST controller for jackpot operations.
  * Provides endpoints for retrieving jackpot information.
+ * Jackpots are served from pre-serialized views with an ETag, so unchanged polls get 304 Not Modified.
  */
 @Slf4j
 @RestController
@@ -21,29 +24,18 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class JackpotController {
     
-    private final JackpotService jackpotService;
+    private final JackpotViewCache jackpotViewCache;
+    private final JackpotAmountFeed jackpotAmountFeed;
     
     /**
      * Retrieves a jackpot by its ID
      */
     @GetMapping("/{jackpotId}")
-    public ResponseEntity<JackpotInfoResponse> getJackpot(@PathVariable String jackpotId) {
-        Optional<Jackpot> jackpot = jackpotService.getJackpot(jackpotId);
+    public ResponseEntity<byte[]> getJackpot(@PathVariable String jackpotId, WebRequest request) {
+        Optional<JackpotViewCache.JackpotView> view = jackpotViewCache.getJackpotView(jackpotId);
         
-        if (jackpot.isPresent()) {
-            Jackpot jackpotEntity = jackpot.get();
-            JackpotInfoResponse response = JackpotInfoResponse.builder()
-                    .jackpotId(jackpotEntity.getJackpotId())
-                    .name(jackpotEntity.getName())
-                    .currentAmount(jackpotEntity.getCurrentAmount())
-                    .initialAmount(jackpotEntity.getInitialAmount())
-                    .contributionType(jackpotEntity.getContributionType().name())
-                    .rewardType(jackpotEntity.getRewardType().name())
-                    .createdAt(jackpotEntity.getCreatedAt())
-                    .updatedAt(jackpotEntity.getUpdatedAt())
-                    .build();
-            
-            return ResponseEntity.ok(response);
+        if (view.isPresent()) {
+            return cachedView(view.get(), request);
         } else {
             return ResponseEntity.notFound().build();
         }
@@ -53,22 +45,25 @@ public class JackpotController {
      * Retrieves all jackpots
      */
     @GetMapping
-    public ResponseEntity<List<JackpotInfoResponse>> getAllJackpots() {
-        List<Jackpot> jackpots = jackpotService.getAllJackpots();
-        
-        List<JackpotInfoResponse> responses = jackpots.stream()
-                .map(jackpot -> JackpotInfoResponse.builder()
-                        .jackpotId(jackpot.getJackpotId())
-                        .name(jackpot.getName())
-                        .currentAmount(jackpot.getCurrentAmount())
-                        .initialAmount(jackpot.getInitialAmount())
-                        .contributionType(jackpot.getContributionType().name())
-                        .rewardType(jackpot.getRewardType().name())
-                        .createdAt(jackpot.getCreatedAt())
-                        .updatedAt(jackpot.getUpdatedAt())
-                        .build())
-                .toList();
-        
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<byte[]> getAllJackpots(WebRequest request) {
+        return cachedView(jackpotViewCache.getAllJackpotsView(), request);
+    }
+    
+    /**
+     * Streams live jackpot amounts as Server-Sent Events: a snapshot of every jackpot, then the amounts that changed
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamJackpotAmounts() {
+        return jackpotAmountFeed.subscribe();
+    }
+    
+    private ResponseEntity<byte[]> cachedView(JackpotViewCache.JackpotView view, WebRequest request) {
+        if (request.checkNotModified(view.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(view.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(view.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(view.json());
     }
 }
@@ -0,0 +1,77 @@
+package com.sportygroup.jackpot.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.dto.PageResponse;
+import com.sportygroup.jackpot.repository.Page;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Iterator;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Builds the cursor-paginated and NDJSON-streamed responses shared by the listing endpoints.
+ */
+final class ListingResponses {
+    
+    private ListingResponses() {
+    }
+    
+    /**
+     * Returns one page of a listing, or 400 when the cursor is malformed
+     * 
+     * @param limit requested page size, clamped to the configured maximum; null uses the default
+     */
+    static <T, R> ResponseEntity<PageResponse<R>> page(String cursor, Integer limit, JackpotProperties.Api api,
+                                                       BiFunction<String, Integer, Page<T>> finder,
+                                                       Function<T, R> mapper) {
+        int size = limit == null ? api.getDefaultPageSize() : Math.max(1, Math.min(limit, api.getMaxPageSize()));
+        Page<T> page;
+        try {
+            page = finder.apply(cursor, size);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        PageResponse<R> response = PageResponse.<R>builder()
+                .items(page.items().stream().map(mapper).toList())
+                .nextCursor(page.nextCursor())
+                .build();
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Returns a newline-delimited JSON response that writes each row as it is iterated,
+     * so memory stays constant whatever the number of rows
+     */
+    static <T, R> ResponseEntity<StreamingResponseBody> ndjson(ObjectMapper objectMapper, Supplier<Stream<T>> rows,
+                                                               Function<T, R> mapper) {
+        StreamingResponseBody body = out -> {
+            boolean empty = true;
+            // Rows are flushed as the buffer fills up rather than one by one, and the response stream stays open
+            try (Stream<T> source = rows.get();
+                 SequenceWriter writer = objectMapper.writer()
+                         .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                         .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                         .withRootValueSeparator("\n")
+                         .writeValues(out)) {
+                Iterator<T> iterator = source.iterator();
+                while (iterator.hasNext()) {
+                    writer.write(mapper.apply(iterator.next()));
+                    empty = false;
+                }
+            }
+            if (!empty) {
+                out.write('\n');
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+}
@@ -1,6 +1,9 @@
 package com.sportygroup.jackpot.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportygroup.jackpot.config.JackpotProperties;
 import com.sportygroup.jackpot.domain.JackpotReward;
+import com.sportygroup.jackpot.dto.PageResponse;
 import com.sportygroup.jackpot.dto.RewardEvaluationRequest;
 import com.sportygroup.jackpot.dto.RewardEvaluationResponse;
 import com.sportygroup.jackpot.service.BetService;
@@ -8,8 +11,10 @@ import com.sportygroup.jackpot.service.JackpotRewardService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -26,6 +31,8 @@ public class RewardController {
     
     private final BetService betService;
     private final JackpotRewardService rewardService;
+    private final JackpotProperties jackpotProperties;
+    private final ObjectMapper objectMapper;
     
     /**
      * Evaluates if a bet wins a jackpot reward
@@ -121,6 +128,47 @@ public class RewardController {
         return ResponseEntity.ok(responses);
     }
     
+    /**
+     * Retrieves the last winners of a specific jackpot, newest first
+     */
+    @GetMapping("/jackpot/{jackpotId}/winners")
+    public ResponseEntity<List<RewardEvaluationResponse>> getLatestWinners(@PathVariable String jackpotId,
+                                                                           @RequestParam(defaultValue = "10") int limit) {
+        List<JackpotReward> rewards = rewardService.getLatestWinnersByJackpotId(jackpotId, limit);
+        
+        List<RewardEvaluationResponse> responses = rewards.stream()
+                .map(reward -> RewardEvaluationResponse.builder()
+                        .betId(reward.getBetId())
+                        .userId(reward.getUserId())
+                        .jackpotId(reward.getJackpotId())
+                        .isWinner(true)
+                        .rewardAmount(reward.getJackpotRewardAmount())
+                        .message("Jackpot reward won!")
+                        .evaluatedAt(reward.getCreatedAt())
+                        .build())
+                .toList();
+        
+        return ResponseEntity.ok(responses);
+    }
+    
+    /**
+     * Retrieves one page of rewards in save order; pass the returned nextCursor to get the following page
+     */
+    @GetMapping("/page")
+    public ResponseEntity<PageResponse<RewardEvaluationResponse>> getRewardsPage(
+            @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit) {
+        return ListingResponses.page(cursor, limit, jackpotProperties.getApi(), rewardService::getRewardsPage,
+                this::toResponse);
+    }
+    
+    /**
+     * Streams all rewards as newline-delimited JSON in save order, without loading them into memory
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamRewards() {
+        return ListingResponses.ndjson(objectMapper, rewardService::streamAllRewards, this::toResponse);
+    }
+    
     /**
      * Retrieves all rewards
      */
@@ -142,4 +190,16 @@ public class RewardController {
         
         return ResponseEntity.ok(responses);
     }
+    
+    private RewardEvaluationResponse toResponse(JackpotReward reward) {
+        return RewardEvaluationResponse.builder()
+                .betId(reward.getBetId())
+                .userId(reward.getUserId())
+                .jackpotId(reward.getJackpotId())
+                .isWinner(true)
+                .rewardAmount(reward.getJackpotRewardAmount())
+                .message("Jackpot reward won!")
+                .evaluatedAt(reward.getCreatedAt())
+                .build();
+    }
 }
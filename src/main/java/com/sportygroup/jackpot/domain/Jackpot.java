@@ -1,23 +1,36 @@
 package com.sportygroup.jackpot.domain;
 
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.UnaryOperator;
 
 /**
  * Represents a jackpot pool with its configuration and current state.
  * Each jackpot has a unique ID and can have different contribution and reward strategies.
+ * 
+ * The pool itself is held as an immutable {@link JackpotPool} that is swapped with compare-and-set,
+ * so contributions and win-and-reset are atomic and lock-free under concurrent consumers.
+ * Hot jackpots can additionally enable {@link PoolStripes}: contributions then go to per-thread cells
+ * and are folded into the pool when it is read or claimed.
+ * A claim or overwrite closes the current stripes, drains them into the state it swaps in and only then
+ * publishes fresh stripes, so readers never see the new pool next to the old stripes.
  */
 @Data
-@Builder
 @NoArgsConstructor
-@AllArgsConstructor
 public class Jackpot {
     
+    private static final AtomicReferenceFieldUpdater<Jackpot, JackpotPool> POOL =
+            AtomicReferenceFieldUpdater.newUpdater(Jackpot.class, JackpotPool.class, "pool");
+    
     /**
      * Unique identifier for the jackpot
      */
@@ -29,15 +42,30 @@ public class Jackpot {
     private String name;
     
     /**
-     * Current amount in the jackpot pool
+     * Current state of the jackpot pool (amount, version and last update)
+     */
+    @Setter(AccessLevel.NONE)
+    private volatile JackpotPool pool = JackpotPool.of(null, null);
+    
+    /**
+     * Optional striped accumulator for contributions not yet folded into the pool
      */
-    private BigDecimal currentAmount;
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private volatile PoolStripes stripes;
     
     /**
      * Initial amount the jackpot starts with
      */
     private BigDecimal initialAmount;
     
+    /**
+     * Initial amount in minor units, kept in sync with {@link #initialAmount}
+     */
+    @Setter(AccessLevel.NONE)
+    private long initialAmountCents;
+    
     /**
      * Type of contribution strategy (FIXED, VARIABLE)
      */
@@ -53,10 +81,18 @@ public class Jackpot {
      */
     private LocalDateTime createdAt;
     
-    /**
-     * Timestamp when the jackpot was last updated
-     */
-    private LocalDateTime updatedAt;
+    @Builder
+    public Jackpot(String jackpotId, String name, BigDecimal currentAmount, BigDecimal initialAmount,
+                   ContributionType contributionType, RewardType rewardType,
+                   LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.jackpotId = jackpotId;
+        this.name = name;
+        this.pool = JackpotPool.of(currentAmount, updatedAt);
+        setInitialAmount(initialAmount);
+        this.contributionType = contributionType;
+        this.rewardType = rewardType;
+        this.createdAt = createdAt;
+    }
     
     /**
      * Creates a new jackpot with the specified configuration
@@ -76,20 +112,195 @@ public class Jackpot {
                 .build();
     }
     
+    /**
+     * Sets the initial amount the jackpot starts with
+     */
+    public void setInitialAmount(BigDecimal initialAmount) {
+        this.initialAmount = initialAmount;
+        this.initialAmountCents = Money.toCents(initialAmount);
+    }
+    
+    /**
+     * Switches the jackpot to a striped pool accumulator with the given number of cells
+     */
+    public void enableStriping(int stripeCount) {
+        if (stripes == null && stripeCount > 1) {
+            stripes = new PoolStripes(stripeCount);
+        }
+    }
+    
+    /**
+     * Checks whether contributions go through a striped accumulator
+     */
+    public boolean isStriped() {
+        return stripes != null;
+    }
+    
+    /**
+     * Returns the pool state including contributions still pending in stripes
+     */
+    public JackpotPool snapshot() {
+        PoolStripes pending = stripes;
+        if (pending == null) {
+            return pool;
+        }
+        while (true) {
+            JackpotPool current = pool;
+            long pendingCents = pending.sum();
+            long pendingAdds = pending.adds();
+            LocalDateTime lastAddAt = pending.lastAddAt();
+            // Stripes are closed before the pool is swapped, so open stripes mean the pool read above still owns them
+            if (!pending.isClosed()) {
+                return current.plus(pendingCents, pendingAdds, lastAddAt);
+            }
+            awaitNextStripes(pending);
+            pending = stripes;
+        }
+    }
+    
+    /**
+     * Current amount in the jackpot pool
+     */
+    public BigDecimal getCurrentAmount() {
+        return stripes != null ? snapshot().getAmount() : pool.getAmount();
+    }
+    
+    /**
+     * Current amount in the jackpot pool, in minor units
+     */
+    public long getCurrentAmountCents() {
+        PoolStripes pending = stripes;
+        return pending != null ? amountCentsWith(pending) : pool.getAmountCents();
+    }
+    
+    /**
+     * Overwrites the current amount in the jackpot pool.
+     * Pending striped contributions are folded in first, so they are ordered before the overwrite
+     * exactly as they would be in an unstriped pool.
+     */
+    public void setCurrentAmount(BigDecimal currentAmount) {
+        update(current -> current.withAmount(currentAmount));
+    }
+    
+    /**
+     * Timestamp when the jackpot was last updated
+     */
+    public LocalDateTime getUpdatedAt() {
+        return pool.getUpdatedAt();
+    }
+    
+    /**
+     * Overwrites the timestamp of the last update
+     */
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        JackpotPool current;
+        do {
+            current = pool;
+        } while (!POOL.compareAndSet(this, current, current.withUpdatedAt(updatedAt)));
+    }
+    
     /**
      * Resets the jackpot to its initial amount
      */
     public void reset() {
-        this.currentAmount = this.initialAmount;
-        this.updatedAt = LocalDateTime.now();
+        claimAndReset();
+    }
+    
+    /**
+     * Atomically takes the whole pool and resets it to the initial amount.
+     * Concurrent callers each receive a distinct pool state, so the same pool is never paid out twice.
+     * 
+     * @return the pool state that was claimed
+     */
+    public JackpotPool claimAndReset() {
+        return update(current -> current.resetTo(initialAmount));
     }
     
     /**
-     * Adds contribution to the jackpot pool
+     * Atomically adds contribution to the jackpot pool
+     * 
+     * @return the pool amount in minor units including this contribution
      */
-    public void addContribution(BigDecimal contribution) {
-        this.currentAmount = this.currentAmount.add(contribution);
-        this.updatedAt = LocalDateTime.now();
+    public long addContribution(BigDecimal contribution) {
+        return addContributionCents(Money.toCents(contribution));
+    }
+    
+    /**
+     * Atomically adds a contribution given in minor units to the jackpot pool
+     * 
+     * @return the pool amount in minor units including this contribution (and, when striped, any other pending ones)
+     */
+    public long addContributionCents(long contributionCents) {
+        PoolStripes pending = stripes;
+        if (pending != null) {
+            while (!pending.tryAdd(contributionCents)) {
+                // The stripes were drained by a claim; the contribution belongs to the next epoch
+                awaitNextStripes(pending);
+                pending = stripes;
+            }
+            return amountCentsWith(pending);
+        }
+        JackpotPool current;
+        JackpotPool updated;
+        do {
+            current = pool;
+            updated = current.add(contributionCents);
+        } while (!POOL.compareAndSet(this, current, updated));
+        return updated.getAmountCents();
+    }
+    
+    /**
+     * Returns the pool amount plus the amounts pending in the stripes, without the add count and timestamp of a snapshot
+     */
+    private long amountCentsWith(PoolStripes pending) {
+        while (true) {
+            long poolCents = pool.getAmountCents();
+            long pendingCents = pending.sum();
+            if (!pending.isClosed()) {
+                return poolCents + pendingCents;
+            }
+            awaitNextStripes(pending);
+            pending = stripes;
+        }
+    }
+    
+    /**
+     * Swaps in the state computed from the current one, with pending striped contributions folded in first
+     * 
+     * @return the state that was replaced, including the folded contributions
+     */
+    private JackpotPool update(UnaryOperator<JackpotPool> change) {
+        PoolStripes pending = stripes;
+        if (pending == null) {
+            JackpotPool current;
+            do {
+                current = pool;
+            } while (!POOL.compareAndSet(this, current, change.apply(current)));
+            return current;
+        }
+        // Only the caller that closes the stripes may drain them; everyone else waits for the next epoch
+        while (!pending.close()) {
+            awaitNextStripes(pending);
+            pending = stripes;
+        }
+        long drainedCents = pending.drain();
+        long drainedAdds = pending.adds();
+        LocalDateTime lastAddAt = pending.lastAddAt();
+        JackpotPool current;
+        JackpotPool folded;
+        do {
+            current = pool;
+            folded = current.plus(drainedCents, drainedAdds, lastAddAt);
+        } while (!POOL.compareAndSet(this, current, change.apply(folded)));
+        stripes = new PoolStripes(pending.size());
+        return folded;
+    }
+    
+    private void awaitNextStripes(PoolStripes closed) {
+        // The closing caller only drains a few cells and swaps the pool, so yielding lets it finish
+        while (stripes == closed) {
+            Thread.yield();
+        }
     }
     
     /**
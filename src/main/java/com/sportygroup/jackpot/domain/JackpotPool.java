@@ -0,0 +1,98 @@
+package com.sportygroup.jackpot.domain;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Immutable snapshot of a jackpot pool.
+ * A jackpot never mutates its pool in place; it swaps whole snapshots with compare-and-set,
+ * and every swap increments the version so concurrent readers and writers can tell states apart.
+ * 
+ * The amount is tracked in minor units (see {@link Money}); a BigDecimal is only produced
+ * when the amount is read at the API edge.
+ */
+@Value
+public class JackpotPool {
+    
+    /**
+     * Amount currently in the pool, in minor units
+     */
+    long amountCents;
+    
+    /**
+     * Amount exactly as it was last set from a BigDecimal, or null once arithmetic has been applied
+     */
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    BigDecimal amount;
+    
+    /**
+     * Number of changes applied to the pool since the jackpot was created
+     */
+    long version;
+    
+    /**
+     * Timestamp of the last change
+     */
+    LocalDateTime updatedAt;
+    
+    /**
+     * Creates the initial pool state
+     */
+    public static JackpotPool of(BigDecimal amount, LocalDateTime updatedAt) {
+        return new JackpotPool(Money.toCents(amount), amount, 0L, updatedAt);
+    }
+    
+    /**
+     * Amount currently in the pool
+     */
+    public BigDecimal getAmount() {
+        return amount != null ? amount : Money.toBigDecimal(amountCents);
+    }
+    
+    /**
+     * Returns the state after adding a contribution given in minor units
+     */
+    public JackpotPool add(long contributionCents) {
+        return new JackpotPool(amountCents + contributionCents, null, version + 1, LocalDateTime.now());
+    }
+    
+    /**
+     * Returns the state with contributions accumulated outside the pool folded in,
+     * counting each of them as a change
+     */
+    public JackpotPool plus(long pendingCents, long pendingAdds, LocalDateTime lastAddAt) {
+        if (pendingCents == 0L && pendingAdds == 0L) {
+            return this;
+        }
+        LocalDateTime latest = lastAddAt != null && (updatedAt == null || lastAddAt.isAfter(updatedAt))
+                ? lastAddAt : updatedAt;
+        return new JackpotPool(amountCents + pendingCents, null, version + pendingAdds, latest);
+    }
+    
+    /**
+     * Returns the state after resetting the pool to the given amount
+     */
+    public JackpotPool resetTo(BigDecimal initialAmount) {
+        return new JackpotPool(Money.toCents(initialAmount), initialAmount, version + 1, LocalDateTime.now());
+    }
+    
+    /**
+     * Returns the state with the amount overwritten, keeping the update timestamp
+     */
+    public JackpotPool withAmount(BigDecimal newAmount) {
+        return new JackpotPool(Money.toCents(newAmount), newAmount, version + 1, updatedAt);
+    }
+    
+    /**
+     * Returns the state with the update timestamp overwritten
+     */
+    public JackpotPool withUpdatedAt(LocalDateTime newUpdatedAt) {
+        return new JackpotPool(amountCents, amount, version, newUpdatedAt);
+    }
+}
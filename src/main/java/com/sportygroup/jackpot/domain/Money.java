@@ -0,0 +1,102 @@
+package com.sportygroup.jackpot.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point money arithmetic on scaled {@code long} values.
+ * Amounts are held in minor units (cents, scale 2) and rates in nano-units (scale 9), so the
+ * per-bet hot path needs no {@link BigDecimal} allocation. Rounding is HALF_UP everywhere,
+ * matching {@code setScale(2, RoundingMode.HALF_UP)} on the equivalent BigDecimal expression.
+ */
+public final class Money {
+    
+    /**
+     * Number of decimal places of an amount in minor units
+     */
+    public static final int SCALE = 2;
+    
+    /**
+     * Number of decimal places of a rate in nano-units
+     */
+    public static final int RATE_SCALE = 9;
+    
+    /**
+     * Value of 1.0 expressed as a nano-unit rate
+     */
+    public static final long RATE_ONE = 1_000_000_000L;
+    
+    /**
+     * Sentinel returned when a value has no exact fixed-point representation
+     */
+    public static final long NOT_REPRESENTABLE = Long.MIN_VALUE;
+    
+    private Money() {
+    }
+    
+    /**
+     * Converts an amount to minor units, rounding HALF_UP to cents
+     */
+    public static long toCents(BigDecimal amount) {
+        if (amount == null) {
+            return 0L;
+        }
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).movePointRight(SCALE).longValueExact();
+    }
+    
+    /**
+     * Converts an amount to minor units, or returns {@link #NOT_REPRESENTABLE} if it has sub-cent digits
+     */
+    public static long toCentsExact(BigDecimal amount) {
+        return toScaledExact(amount, SCALE);
+    }
+    
+    /**
+     * Converts a rate (e.g. 0.05 for 5%) to nano-units, or returns {@link #NOT_REPRESENTABLE}
+     * if it has more than nine decimal places
+     */
+    public static long toRateNanos(BigDecimal rate) {
+        return toScaledExact(rate, RATE_SCALE);
+    }
+    
+    private static long toScaledExact(BigDecimal value, int scale) {
+        if (value == null) {
+            return NOT_REPRESENTABLE;
+        }
+        try {
+            return value.movePointRight(scale).longValueExact();
+        } catch (ArithmeticException e) {
+            return NOT_REPRESENTABLE;
+        }
+    }
+    
+    /**
+     * Converts minor units back to a BigDecimal amount with scale 2
+     */
+    public static BigDecimal toBigDecimal(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+    
+    /**
+     * Applies a nano-unit rate to an amount in minor units, rounding HALF_UP to cents
+     * 
+     * @throws ArithmeticException if the intermediate product overflows
+     */
+    public static long applyRate(long cents, long rateNanos) {
+        return divideHalfUp(Math.multiplyExact(cents, rateNanos), RATE_ONE);
+    }
+    
+    /**
+     * Divides with HALF_UP rounding (ties away from zero), like {@link RoundingMode#HALF_UP}
+     * 
+     * @param denominator a strictly positive divisor
+     */
+    public static long divideHalfUp(long numerator, long denominator) {
+        long quotient = numerator / denominator;
+        long remainder = numerator % denominator;
+        if (Math.abs(remainder) >= denominator - Math.abs(remainder)) {
+            quotient += Long.signum(numerator);
+        }
+        return quotient;
+    }
+}
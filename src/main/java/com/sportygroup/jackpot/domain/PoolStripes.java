@@ -0,0 +1,143 @@
+package com.sportygroup.jackpot.domain;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Striped accumulator for contributions to a hot jackpot pool, in the style of {@link java.util.concurrent.atomic.LongAdder}.
+ * Each thread adds to its own padded cell, so concurrent contributions never contend on one memory location.
+ * 
+ * An accumulator belongs to one pool epoch. When the pool is claimed or overwritten, the owner closes it,
+ * drains every cell and folds the total into the new pool state; adds that arrive after a cell was drained
+ * are refused, so the caller retries them on the next epoch instead of losing them.
+ */
+public final class PoolStripes {
+    
+    /**
+     * Longs per cell: 128 bytes keeps neighbouring cells off each other's (prefetched) cache lines
+     */
+    private static final int PADDING = 16;
+    
+    /**
+     * Offsets within a cell: pending amount, number of adds and wall-clock time of the last add
+     */
+    private static final int AMOUNT = 0;
+    private static final int ADDS = 1;
+    private static final int LAST_ADD_MILLIS = 2;
+    
+    /**
+     * Amount of a drained cell; no real total can reach it
+     */
+    private static final long DRAINED = Long.MIN_VALUE;
+    
+    private final AtomicLongArray cells;
+    private final int mask;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    
+    /**
+     * Creates an accumulator with at least the requested number of cells, rounded up to a power of two
+     */
+    public PoolStripes(int stripes) {
+        int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.cells = new AtomicLongArray(size * PADDING);
+        this.mask = size - 1;
+    }
+    
+    /**
+     * Returns the number of cells
+     */
+    public int size() {
+        return mask + 1;
+    }
+    
+    /**
+     * Adds an amount in minor units to the calling thread's cell
+     * 
+     * @return false if the cell was already drained, in which case the add must go to the next epoch
+     */
+    public boolean tryAdd(long cents) {
+        int cell = cellIndex() * PADDING;
+        long current;
+        do {
+            current = cells.get(cell + AMOUNT);
+            if (current == DRAINED) {
+                return false;
+            }
+        } while (!cells.compareAndSet(cell + AMOUNT, current, current + cents));
+        cells.getAndIncrement(cell + ADDS);
+        cells.lazySet(cell + LAST_ADD_MILLIS, System.currentTimeMillis());
+        return true;
+    }
+    
+    /**
+     * Returns the sum of all cells, including every add that completed before this call.
+     * The result is only meaningful if {@link #isClosed()} is still false afterwards.
+     */
+    public long sum() {
+        long sum = 0L;
+        for (int i = 0; i <= mask; i++) {
+            long amount = cells.get(i * PADDING + AMOUNT);
+            if (amount != DRAINED) {
+                sum += amount;
+            }
+        }
+        return sum;
+    }
+    
+    /**
+     * Returns the number of adds accepted so far
+     */
+    public long adds() {
+        long adds = 0L;
+        for (int i = 0; i <= mask; i++) {
+            adds += cells.get(i * PADDING + ADDS);
+        }
+        return adds;
+    }
+    
+    /**
+     * Returns the time of the most recent add, or null if nothing was added
+     */
+    public LocalDateTime lastAddAt() {
+        long last = 0L;
+        for (int i = 0; i <= mask; i++) {
+            last = Math.max(last, cells.get(i * PADDING + LAST_ADD_MILLIS));
+        }
+        return last == 0L ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(last), ZoneId.systemDefault());
+    }
+    
+    /**
+     * Claims the right to drain this accumulator
+     * 
+     * @return true for exactly one caller
+     */
+    public boolean close() {
+        return closed.compareAndSet(false, true);
+    }
+    
+    /**
+     * Checks whether the accumulator has been closed for draining
+     */
+    public boolean isClosed() {
+        return closed.get();
+    }
+    
+    /**
+     * Empties every cell for good and returns the total that was taken; only the caller that closed it may drain
+     */
+    public long drain() {
+        long drained = 0L;
+        for (int i = 0; i <= mask; i++) {
+            drained += cells.getAndSet(i * PADDING + AMOUNT, DRAINED);
+        }
+        return drained;
+    }
+    
+    private int cellIndex() {
+        long h = Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,25 @@
+package com.sportygroup.jackpot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for bulk bet submission responses.
+ * Contains one result per submitted bet, in submission order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkBetResponse {
+    
+    private int accepted;
+    private int pending;
+    private int rejected;
+    private String message;
+    private List<BetResponse> results;
+}
@@ -0,0 +1,29 @@
+package com.sportygroup.jackpot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for jackpot contribution listings.
+ * Contains a recorded contribution and the pool amount right after it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContributionResponse {
+    
+    private String contributionId;
+    private String betId;
+    private String userId;
+    private String jackpotId;
+    private BigDecimal stakeAmount;
+    private BigDecimal contributionAmount;
+    private BigDecimal currentJackpotAmount;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,25 @@
+package com.sportygroup.jackpot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one jackpot amount pushed by the live jackpot feed.
+ * Carries only the fields that change with contributions and claims.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JackpotAmountUpdate {
+    
+    private String jackpotId;
+    private BigDecimal currentAmount;
+    private long version;
+    private LocalDateTime updatedAt;
+}
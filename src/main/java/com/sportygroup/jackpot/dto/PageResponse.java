@@ -0,0 +1,22 @@
+package com.sportygroup.jackpot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one page of a cursor-paginated listing.
+ * Pass nextCursor as the cursor of the following request; it is null on the last page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageResponse<T> {
+    
+    private List<T> items;
+    private String nextCursor;
+}
@@ -0,0 +1,16 @@
+package com.sportygroup.jackpot.loadgen;
+
+import com.sportygroup.jackpot.dto.BetRequest;
+
+/**
+ * Where the load generator sends its bets
+ */
+interface BetTarget {
+    
+    /**
+     * Places one bet and waits for the answer
+     * 
+     * @return true when the bet was accepted
+     */
+    boolean place(BetRequest betRequest) throws Exception;
+}
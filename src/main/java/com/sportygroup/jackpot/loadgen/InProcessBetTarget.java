@@ -0,0 +1,20 @@
+package com.sportygroup.jackpot.loadgen;
+
+import com.sportygroup.jackpot.controller.BetController;
+import com.sportygroup.jackpot.dto.BetRequest;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Places bets by calling the bet controller directly: the same placement path as the REST API, without HTTP.
+ * With Kafka disabled, the bets then go through the in-process bus and the jackpot lanes.
+ */
+@RequiredArgsConstructor
+final class InProcessBetTarget implements BetTarget {
+    
+    private final BetController betController;
+    
+    @Override
+    public boolean place(BetRequest betRequest) {
+        return betController.placeBet(betRequest).join().getStatusCode().is2xxSuccessful();
+    }
+}
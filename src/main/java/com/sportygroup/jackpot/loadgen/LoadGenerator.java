@@ -0,0 +1,224 @@
+package com.sportygroup.jackpot.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.controller.BetController;
+import com.sportygroup.jackpot.domain.Jackpot;
+import com.sportygroup.jackpot.dto.BetRequest;
+import com.sportygroup.jackpot.service.JackpotService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Load generator started with the loadgen profile.
+ * Bets are started at a fixed rate on a schedule that never waits for earlier bets to finish, and every latency
+ * is measured from the time its bet was scheduled to start rather than from when it was actually sent.
+ * A stall therefore shows up in the latency of every bet scheduled during it, instead of hiding behind
+ * fewer bets being sent (coordinated omission).
+ */
+@Slf4j
+@Component
+@Profile("loadgen")
+@RequiredArgsConstructor
+public class LoadGenerator {
+    
+    private final JackpotProperties jackpotProperties;
+    private final JackpotService jackpotService;
+    private final BetController betController;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ConfigurableApplicationContext applicationContext;
+    
+    /**
+     * Starts the load once the application, sample jackpots included, is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread.ofPlatform().name("load-generator").start(this::runAndReport);
+    }
+    
+    private void runAndReport() {
+        JackpotProperties.LoadGen loadGen = jackpotProperties.getLoadgen();
+        int exitCode = 0;
+        try {
+            LoadResult result = run(loadGen, traffic(loadGen), target(loadGen));
+            report(loadGen, result);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exitCode = 1;
+        } catch (Exception e) {
+            log.error("Load generation failed", e);
+            exitCode = 1;
+        }
+        if (loadGen.isExitWhenDone()) {
+            int code = exitCode;
+            System.exit(SpringApplication.exit(applicationContext, () -> code));
+        }
+    }
+    
+    /**
+     * Sends bets from the traffic source to the target at the configured rate, for the warm-up plus the duration
+     */
+    LoadResult run(JackpotProperties.LoadGen loadGen, Supplier<BetRequest> traffic, BetTarget target)
+            throws InterruptedException {
+        double intervalNanos = 1e9 / loadGen.getRatePerSecond();
+        long warmupNanos = TimeUnit.SECONDS.toNanos(loadGen.getWarmupSeconds());
+        long runNanos = warmupNanos + TimeUnit.SECONDS.toNanos(loadGen.getDurationSeconds());
+        long reportNanos = TimeUnit.SECONDS.toNanos(loadGen.getReportIntervalSeconds());
+        Semaphore inFlight = new Semaphore(loadGen.getMaxInFlight());
+        LoadResult result = new LoadResult();
+        
+        log.info("Sending {} bets/s to {} for {}s after a {}s warm-up",
+                loadGen.getRatePerSecond(), loadGen.getTarget(), loadGen.getDurationSeconds(), loadGen.getWarmupSeconds());
+        long start = System.nanoTime();
+        long nextReport = start + warmupNanos + reportNanos;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long elapsed = (long) (i * intervalNanos);
+                if (elapsed >= runNanos) {
+                    break;
+                }
+                long scheduled = start + elapsed;
+                boolean measured = elapsed >= warmupNanos;
+                parkUntil(scheduled);
+                BetRequest betRequest = traffic.get();
+                // Waiting for a slot delays the send but not the scheduled start, so the wait counts as latency
+                inFlight.acquire();
+                executor.execute(() -> {
+                    long sent = System.nanoTime();
+                    boolean accepted;
+                    try {
+                        accepted = target.place(betRequest);
+                    } catch (Exception e) {
+                        accepted = false;
+                    }
+                    long done = System.nanoTime();
+                    inFlight.release();
+                    if (measured) {
+                        result.record(scheduled, sent, done, accepted);
+                    }
+                });
+                if (System.nanoTime() - nextReport >= 0) {
+                    Histogram interval = result.drain();
+                    log.info("{} bets/s, latency ms {}", interval.getTotalCount() / loadGen.getReportIntervalSeconds(),
+                            percentiles(interval));
+                    nextReport += reportNanos;
+                }
+            }
+        }
+        result.drain();
+        return result;
+    }
+    
+    private void report(JackpotProperties.LoadGen loadGen, LoadResult result) {
+        long total = result.accepted.sum() + result.failed.sum();
+        log.info("Load test done against {}: {} bets measured, {} accepted, {} failed, {} bets/s achieved",
+                loadGen.getTarget(), total, result.accepted.sum(), result.failed.sum(),
+                total / Math.max(1, loadGen.getDurationSeconds()));
+        log.info("Latency from scheduled start, ms {}", percentiles(result.totalLatency));
+        log.info("Service time from actual send, ms {}", percentiles(result.totalServiceTime));
+        Timer endToEnd = meterRegistry.find("jackpot.consumer.end.to.end").timer();
+        if (endToEnd != null && endToEnd.count() > 0) {
+            StringBuilder line = new StringBuilder();
+            for (ValueAtPercentile value : endToEnd.takeSnapshot().percentileValues()) {
+                line.append(String.format(" p%s=%.2f", value.percentile() * 100, value.value(TimeUnit.MILLISECONDS)));
+            }
+            log.info("Pipeline end-to-end including warm-up, ms{}", line);
+        }
+    }
+    
+    private Supplier<BetRequest> traffic(JackpotProperties.LoadGen loadGen) throws IOException {
+        if (StringUtils.hasText(loadGen.getReplayFile())) {
+            ReplayBetTraffic replay = new ReplayBetTraffic(Path.of(loadGen.getReplayFile()), objectMapper);
+            log.info("Replaying {} bet requests from {}", replay.size(), loadGen.getReplayFile());
+            return replay;
+        }
+        // Ranked by ID, so the same configuration always gives the same jackpot the most traffic
+        List<String> jackpotIds = jackpotService.getAllJackpots().stream()
+                .map(Jackpot::getJackpotId)
+                .sorted()
+                .toList();
+        if (jackpotIds.isEmpty()) {
+            throw new IllegalStateException("No jackpots to place bets on");
+        }
+        return new SyntheticBetTraffic(jackpotIds, loadGen);
+    }
+    
+    private BetTarget target(JackpotProperties.LoadGen loadGen) {
+        return switch (loadGen.getTarget()) {
+            case IN_PROCESS -> new InProcessBetTarget(betController);
+            case REST -> new RestBetTarget(loadGen.getBaseUrl(), objectMapper);
+        };
+    }
+    
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+    
+    private static String percentiles(Histogram histogram) {
+        return String.format("p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f",
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+    
+    /**
+     * Latencies, in microseconds, and outcomes of the measured bets
+     */
+    static final class LoadResult {
+        
+        private final Recorder latency = new Recorder(3);
+        private final Recorder serviceTime = new Recorder(3);
+        private final Histogram totalLatency = new Histogram(3);
+        private final Histogram totalServiceTime = new Histogram(3);
+        private final LongAdder accepted = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private Histogram intervalLatency;
+        private Histogram intervalServiceTime;
+        
+        void record(long scheduledNanos, long sentNanos, long doneNanos, boolean wasAccepted) {
+            latency.recordValue(TimeUnit.NANOSECONDS.toMicros(doneNanos - scheduledNanos));
+            serviceTime.recordValue(TimeUnit.NANOSECONDS.toMicros(doneNanos - sentNanos));
+            (wasAccepted ? accepted : failed).increment();
+        }
+        
+        /**
+         * Adds the latencies recorded since the previous call to the totals and returns them
+         */
+        Histogram drain() {
+            intervalLatency = latency.getIntervalHistogram(intervalLatency);
+            intervalServiceTime = serviceTime.getIntervalHistogram(intervalServiceTime);
+            totalLatency.add(intervalLatency);
+            totalServiceTime.add(intervalServiceTime);
+            return intervalLatency;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.sportygroup.jackpot.loadgen;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportygroup.jackpot.dto.BetRequest;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Replays recorded bet requests, one JSON object per line, starting over once the file is exhausted
+ */
+final class ReplayBetTraffic implements Supplier<BetRequest> {
+    
+    private final List<BetRequest> betRequests;
+    private int next;
+    
+    ReplayBetTraffic(Path file, ObjectMapper objectMapper) throws IOException {
+        try (MappingIterator<BetRequest> lines = objectMapper.readerFor(BetRequest.class).readValues(file.toFile())) {
+            this.betRequests = lines.readAll();
+        }
+        if (betRequests.isEmpty()) {
+            throw new IllegalArgumentException("Replay file has no bet requests: " + file);
+        }
+    }
+    
+    /**
+     * Returns the number of recorded bet requests
+     */
+    int size() {
+        return betRequests.size();
+    }
+    
+    @Override
+    public BetRequest get() {
+        BetRequest betRequest = betRequests.get(next);
+        next = next + 1 < betRequests.size() ? next + 1 : 0;
+        return betRequest;
+    }
+}
@@ -0,0 +1,40 @@
+package com.sportygroup.jackpot.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportygroup.jackpot.dto.BetRequest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Places bets with POST /api/v1/bets over HTTP
+ */
+final class RestBetTarget implements BetTarget {
+    
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI betsUri;
+    
+    RestBetTarget(String baseUrl, ObjectMapper objectMapper) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.objectMapper = objectMapper;
+        this.betsUri = URI.create(baseUrl.replaceAll("/+$", "") + "/api/v1/bets");
+    }
+    
+    @Override
+    public boolean place(BetRequest betRequest) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(betsUri)
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(betRequest)))
+                .build();
+        int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        return status >= 200 && status < 300;
+    }
+}
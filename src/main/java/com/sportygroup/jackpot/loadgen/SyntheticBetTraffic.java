@@ -0,0 +1,52 @@
+package com.sportygroup.jackpot.loadgen;
+
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.dto.BetRequest;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+/**
+ * Synthetic bet traffic with a realistic shape: jackpots follow a Zipf mix, users a heavier-tailed Zipf mix,
+ * and stakes a log-normal distribution clamped to the configured range.
+ * The same seed always produces the same sequence. Not thread-safe; the load generator draws from one thread.
+ */
+final class SyntheticBetTraffic implements Supplier<BetRequest> {
+    
+    private final List<String> jackpotIds;
+    private final ZipfSampler jackpots;
+    private final ZipfSampler users;
+    private final SplittableRandom random;
+    private final double logMedianStake;
+    private final double stakeSpread;
+    private final double minStake;
+    private final double maxStake;
+    
+    SyntheticBetTraffic(List<String> jackpotIds, JackpotProperties.LoadGen loadGen) {
+        this.jackpotIds = List.copyOf(jackpotIds);
+        this.jackpots = new ZipfSampler(jackpotIds.size(), loadGen.getJackpotSkew());
+        this.users = new ZipfSampler(loadGen.getUserCount(), loadGen.getUserSkew());
+        this.random = new SplittableRandom(loadGen.getSeed());
+        this.logMedianStake = Math.log(loadGen.getMedianStake().doubleValue());
+        this.stakeSpread = loadGen.getStakeSpread();
+        this.minStake = loadGen.getMinStake().doubleValue();
+        this.maxStake = loadGen.getMaxStake().doubleValue();
+    }
+    
+    @Override
+    public BetRequest get() {
+        return BetRequest.builder()
+                .userId("user-" + users.sample(random))
+                .jackpotId(jackpotIds.get(jackpots.sample(random)))
+                .betAmount(stake())
+                .build();
+    }
+    
+    private BigDecimal stake() {
+        double stake = Math.exp(logMedianStake + stakeSpread * random.nextGaussian());
+        return BigDecimal.valueOf(Math.min(maxStake, Math.max(minStake, stake))).setScale(2, RoundingMode.HALF_UP);
+    }
+}
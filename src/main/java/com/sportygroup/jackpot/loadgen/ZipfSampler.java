@@ -0,0 +1,38 @@
+package com.sportygroup.jackpot.loadgen;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Samples ranks 0..n-1 with probability proportional to 1 / (rank + 1)^exponent.
+ * The cumulative table is computed once, so each sample is one uniform draw and a binary search.
+ */
+final class ZipfSampler {
+    
+    private final double[] cumulative;
+    
+    ZipfSampler(int ranks, double exponent) {
+        if (ranks < 1) {
+            throw new IllegalArgumentException("Zipf sampler needs at least one rank");
+        }
+        cumulative = new double[ranks];
+        double sum = 0;
+        for (int rank = 0; rank < ranks; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < ranks; rank++) {
+            cumulative[rank] /= sum;
+        }
+    }
+    
+    /**
+     * Draws a rank, 0 being the most frequent
+     */
+    int sample(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        // Rounding can leave the last cumulative value a hair below 1.0
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
@@ -0,0 +1,314 @@
+package com.sportygroup.jackpot.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportygroup.jackpot.config.JackpotProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Wire codec for BetEvent messages.
+ * Events are written either as JSON or in a compact binary layout, and read in both formats,
+ * so producers and consumers can be migrated independently.
+ * 
+ * Binary layout (version 1):
+ * <pre>
+ * magic 0xBE | version | flags | betId | userId | jackpotId | [amount scale, unscaled] | [epoch second, nano] | [eventType]
+ * </pre>
+ * IDs in canonical UUID form take 16 bytes, other strings are a varint length (0 = null) followed by UTF-8.
+ * Integers are zig-zag varints. JSON never starts with 0xBE, which is how the formats are told apart.
+ */
+@Component
+@RequiredArgsConstructor
+public class BetEventCodec {
+    
+    public static final byte MAGIC = (byte) 0xBE;
+    public static final byte VERSION = 1;
+    
+    private static final String BET_PLACED = "BET_PLACED";
+    
+    private static final int BET_ID_UUID = 1;
+    private static final int USER_ID_UUID = 1 << 1;
+    private static final int HAS_AMOUNT = 1 << 2;
+    private static final int BIG_AMOUNT = 1 << 3;
+    private static final int HAS_TIMESTAMP = 1 << 4;
+    private static final int IS_BET_PLACED = 1 << 5;
+    
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * Encodes a bet event in the given wire format
+     */
+    public byte[] encode(BetEvent betEvent, JackpotProperties.Producer.WireFormat format) throws IOException {
+        return switch (format) {
+            case JSON -> objectMapper.writeValueAsBytes(betEvent);
+            case BINARY -> encodeBinary(betEvent);
+        };
+    }
+    
+    /**
+     * Decodes a bet event from either wire format, detected by the magic byte
+     */
+    public BetEvent decode(byte[] bytes) throws IOException {
+        return isBinary(bytes) ? decodeBinary(bytes) : objectMapper.readValue(bytes, BetEvent.class);
+    }
+    
+    /**
+     * Checks whether a message uses the binary layout
+     */
+    public static boolean isBinary(byte[] bytes) {
+        return bytes != null && bytes.length > 0 && bytes[0] == MAGIC;
+    }
+    
+    /**
+     * Encodes a bet event in the binary layout
+     */
+    public static byte[] encodeBinary(BetEvent betEvent) {
+        Writer out = new Writer(64);
+        out.write(MAGIC);
+        out.write(VERSION);
+        
+        String betId = betEvent.getBetId();
+        String userId = betEvent.getUserId();
+        BigDecimal amount = betEvent.getBetAmount();
+        LocalDateTime timestamp = betEvent.getTimestamp();
+        String eventType = betEvent.getEventType();
+        
+        int flags = 0;
+        if (isCanonicalUuid(betId)) {
+            flags |= BET_ID_UUID;
+        }
+        if (isCanonicalUuid(userId)) {
+            flags |= USER_ID_UUID;
+        }
+        if (amount != null) {
+            flags |= HAS_AMOUNT;
+            if (amount.unscaledValue().bitLength() > 62) {
+                flags |= BIG_AMOUNT;
+            }
+        }
+        if (timestamp != null) {
+            flags |= HAS_TIMESTAMP;
+        }
+        if (BET_PLACED.equals(eventType)) {
+            flags |= IS_BET_PLACED;
+        }
+        out.write((byte) flags);
+        
+        writeId(out, betId, (flags & BET_ID_UUID) != 0);
+        writeId(out, userId, (flags & USER_ID_UUID) != 0);
+        out.writeString(betEvent.getJackpotId());
+        if (amount != null) {
+            out.writeVarLong(amount.scale());
+            if ((flags & BIG_AMOUNT) != 0) {
+                out.writeBytes(amount.unscaledValue().toByteArray());
+            } else {
+                out.writeVarLong(amount.unscaledValue().longValue());
+            }
+        }
+        if (timestamp != null) {
+            out.writeVarLong(timestamp.toEpochSecond(ZoneOffset.UTC));
+            out.writeVarLong(timestamp.getNano());
+        }
+        if ((flags & IS_BET_PLACED) == 0) {
+            out.writeString(eventType);
+        }
+        return out.toByteArray();
+    }
+    
+    /**
+     * Decodes a bet event from the binary layout, reading fields straight from the byte array
+     */
+    public static BetEvent decodeBinary(byte[] bytes) {
+        Reader in = new Reader(bytes);
+        if (in.read() != MAGIC) {
+            throw new IllegalArgumentException("Not a binary bet event");
+        }
+        byte version = in.read();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported bet event version: " + version);
+        }
+        int flags = in.read();
+        
+        BetEvent.BetEventBuilder builder = BetEvent.builder()
+                .betId(readId(in, (flags & BET_ID_UUID) != 0))
+                .userId(readId(in, (flags & USER_ID_UUID) != 0))
+                .jackpotId(in.readString());
+        if ((flags & HAS_AMOUNT) != 0) {
+            int scale = (int) in.readVarLong();
+            builder.betAmount((flags & BIG_AMOUNT) != 0
+                    ? new BigDecimal(new BigInteger(in.readBytes()), scale)
+                    : BigDecimal.valueOf(in.readVarLong(), scale));
+        }
+        if ((flags & HAS_TIMESTAMP) != 0) {
+            long epochSecond = in.readVarLong();
+            builder.timestamp(LocalDateTime.ofEpochSecond(epochSecond, (int) in.readVarLong(), ZoneOffset.UTC));
+        }
+        builder.eventType((flags & IS_BET_PLACED) != 0 ? BET_PLACED : in.readString());
+        return builder.build();
+    }
+    
+    private static void writeId(Writer out, String id, boolean uuid) {
+        if (uuid) {
+            UUID value = UUID.fromString(id);
+            out.writeLong(value.getMostSignificantBits());
+            out.writeLong(value.getLeastSignificantBits());
+        } else {
+            out.writeString(id);
+        }
+    }
+    
+    private static String readId(Reader in, boolean uuid) {
+        return uuid ? new UUID(in.readLong(), in.readLong()).toString() : in.readString();
+    }
+    
+    /**
+     * Only lowercase canonical UUIDs are compacted, so decoding gives back the identical string
+     */
+    private static boolean isCanonicalUuid(String value) {
+        if (value == null || value.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = value.charAt(i);
+            boolean valid = (i == 8 || i == 13 || i == 18 || i == 23)
+                    ? c == '-'
+                    : (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f');
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static final class Writer {
+        
+        private byte[] buffer;
+        private int position;
+        
+        Writer(int capacity) {
+            buffer = new byte[capacity];
+        }
+        
+        void write(byte value) {
+            ensure(1);
+            buffer[position++] = value;
+        }
+        
+        void writeLong(long value) {
+            ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[position++] = (byte) (value >>> shift);
+            }
+        }
+        
+        void writeVarLong(long value) {
+            ensure(10);
+            long zigZag = (value << 1) ^ (value >> 63);
+            while ((zigZag & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((zigZag & 0x7F) | 0x80);
+                zigZag >>>= 7;
+            }
+            buffer[position++] = (byte) zigZag;
+        }
+        
+        void writeBytes(byte[] bytes) {
+            writeVarLong(bytes.length);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+        
+        void writeString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(utf8.length + 1L);
+            ensure(utf8.length);
+            System.arraycopy(utf8, 0, buffer, position, utf8.length);
+            position += utf8.length;
+        }
+        
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+        
+        private void ensure(int bytes) {
+            if (position + bytes > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes));
+            }
+        }
+    }
+    
+    private static final class Reader {
+        
+        private final byte[] buffer;
+        private int position;
+        
+        Reader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+        
+        byte read() {
+            if (position >= buffer.length) {
+                throw new IllegalArgumentException("Truncated bet event");
+            }
+            return buffer[position++];
+        }
+        
+        long readLong() {
+            long value = 0L;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (read() & 0xFF);
+            }
+            return value;
+        }
+        
+        long readVarLong() {
+            long zigZag = 0L;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = read();
+                zigZag |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return (zigZag >>> 1) ^ -(zigZag & 1);
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in bet event");
+        }
+        
+        byte[] readBytes() {
+            int length = length(readVarLong());
+            byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+            position += length;
+            return bytes;
+        }
+        
+        String readString() {
+            long encoded = readVarLong();
+            if (encoded == 0) {
+                return null;
+            }
+            int length = length(encoded - 1);
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+        
+        private int length(long length) {
+            if (length < 0 || length > buffer.length - position) {
+                throw new IllegalArgumentException("Truncated bet event");
+            }
+            return (int) length;
+        }
+    }
+}
@@ -3,6 +3,9 @@ package com.sportygroup.jackpot.messaging;
 import com.sportygroup.jackpot.domain.Bet;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.UUID;
+
 /**
  * Mapper for converting between Bet domain objects and BetEvent messages.
  * Manual implementation for object mapping.
@@ -23,4 +26,17 @@ public class BetEventMapper {
                 .eventType("BET_PLACED")
                 .build();
     }
+    
+    /**
+     * Converts a BetEvent back to a Bet domain object, keeping the bet ID assigned when the bet was placed
+     */
+    public Bet toBet(BetEvent betEvent) {
+        return Bet.builder()
+                .betId(betEvent.getBetId() != null ? betEvent.getBetId() : UUID.randomUUID().toString())
+                .userId(betEvent.getUserId())
+                .jackpotId(betEvent.getJackpotId())
+                .betAmount(betEvent.getBetAmount())
+                .createdAt(betEvent.getTimestamp() != null ? betEvent.getTimestamp() : LocalDateTime.now())
+                .build();
+    }
 }
@@ -0,0 +1,163 @@
+package com.sportygroup.jackpot.messaging;
+
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.pipeline.BetRetryScheduler;
+import com.sportygroup.jackpot.pipeline.JackpotLaneDispatcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-process bet bus used instead of Kafka when kafka.enabled=false.
+ * Publishers write into a bounded lock-free ring buffer; one consumer thread drains it in batches,
+ * groups the bets by jackpot and hands them to the jackpot lanes, the same path the Kafka batch consumer takes.
+ * How publishers and the consumer wait is set by jackpot.bus.wait-strategy.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kafka.enabled", havingValue = "false", matchIfMissing = true)
+public class InProcessBetBus {
+    
+    private final JackpotLaneDispatcher laneDispatcher;
+    private final BetRetryScheduler retryScheduler;
+    private final JackpotProperties.Bus bus;
+    private final MpscRingBuffer<BetEvent> ring;
+    private final Counter published;
+    private final Counter rejected;
+    private final Thread consumer;
+    
+    private volatile boolean running = true;
+    private volatile boolean consumerParked;
+    
+    public InProcessBetBus(JackpotLaneDispatcher laneDispatcher, BetRetryScheduler retryScheduler,
+                           JackpotProperties jackpotProperties, MeterRegistry meterRegistry) {
+        this.laneDispatcher = laneDispatcher;
+        this.retryScheduler = retryScheduler;
+        this.bus = jackpotProperties.getBus();
+        this.ring = new MpscRingBuffer<>(bus.getCapacity());
+        this.published = Counter.builder("jackpot.bus.published")
+                .description("Bet events published to the in-process bus")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("jackpot.bus.rejected")
+                .description("Bet events rejected because the in-process bus stayed full")
+                .register(meterRegistry);
+        Gauge.builder("jackpot.bus.depth", ring, MpscRingBuffer::size)
+                .description("Bet events waiting in the in-process bus")
+                .register(meterRegistry);
+        // A platform thread: spinning on a virtual thread would pin its carrier
+        this.consumer = Thread.ofPlatform().name("in-process-bet-bus").daemon().start(this::run);
+        log.info("In-process bet bus started with {} slots and {} wait strategy", ring.capacity(), bus.getWaitStrategy());
+    }
+    
+    /**
+     * Publishes a bet event, waiting up to the publish timeout while the bus is full
+     * 
+     * @throws IllegalStateException when the bus is stopped or stayed full
+     */
+    public void publish(BetEvent betEvent) {
+        if (!running) {
+            throw new IllegalStateException("In-process bet bus is stopped");
+        }
+        if (!ring.offer(betEvent)) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(bus.getPublishTimeoutMs());
+            while (!ring.offer(betEvent)) {
+                if (System.nanoTime() - deadline >= 0 || !running) {
+                    rejected.increment();
+                    throw new IllegalStateException("In-process bet bus is full");
+                }
+                idle();
+            }
+        }
+        published.increment();
+        if (consumerParked) {
+            LockSupport.unpark(consumer);
+        }
+    }
+    
+    /**
+     * Returns the number of bet events waiting in the bus
+     */
+    public int depth() {
+        return ring.size();
+    }
+    
+    /**
+     * Stops accepting bet events and waits for the queued ones to be handed to the lanes
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(consumer);
+        consumer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+    
+    private void run() {
+        List<BetEvent> batch = new ArrayList<>(bus.getDrainBatchSize());
+        try {
+            while (running || !ring.isEmpty()) {
+                if (ring.drainTo(batch, bus.getDrainBatchSize()) == 0) {
+                    awaitBetEvents();
+                    continue;
+                }
+                dispatch(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("In-process bet bus interrupted with {} bet events left", ring.size() + batch.size());
+        }
+    }
+    
+    private void dispatch(List<BetEvent> batch) throws InterruptedException {
+        // Group in arrival order, so per-jackpot order within the batch is kept
+        Map<String, List<BetEvent>> eventsByJackpot = new LinkedHashMap<>();
+        for (BetEvent betEvent : batch) {
+            if (betEvent.getJackpotId() == null) {
+                retryScheduler.deadLetter(betEvent, 1, "Bet event without jackpot ID");
+                continue;
+            }
+            eventsByJackpot.computeIfAbsent(betEvent.getJackpotId(), id -> new ArrayList<>()).add(betEvent);
+        }
+        for (Map.Entry<String, List<BetEvent>> group : eventsByJackpot.entrySet()) {
+            try {
+                laneDispatcher.dispatchAll(group.getKey(), group.getValue());
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                log.error("Failed to dispatch {} bet events for jackpot {}", group.getValue().size(), group.getKey(), e);
+            }
+        }
+    }
+    
+    private void awaitBetEvents() {
+        if (bus.getWaitStrategy() != JackpotProperties.Bus.WaitStrategy.PARK) {
+            idle();
+            return;
+        }
+        consumerParked = true;
+        // Re-check after announcing the park, so a publish in between is never missed for a whole park
+        if (ring.isEmpty() && running) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(bus.getParkMicros()));
+        }
+        consumerParked = false;
+    }
+    
+    private void idle() {
+        switch (bus.getWaitStrategy()) {
+            case BUSY_SPIN -> Thread.onSpinWait();
+            case YIELD -> Thread.yield();
+            case PARK -> LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(bus.getParkMicros()));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.sportygroup.jackpot.messaging;
+
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.pipeline.BetRetryScheduler;
+import com.sportygroup.jackpot.pipeline.JackpotLaneDispatcher;
+import com.sportygroup.jackpot.pipeline.PipelineMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Kafka batch consumer for processing bet events.
+ * Receives a whole poll of records, groups them by jackpot and hands each group to its jackpot's lane,
+ * where the group is processed in one pass with bulk repository writes.
+ * The listener returns once every group has been processed, so the poll is committed only after that.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jackpot.consumer.batch-enabled", havingValue = "true")
+public class KafkaBatchBetConsumer {
+    
+    private final BetEventCodec betEventCodec;
+    private final JackpotLaneDispatcher laneDispatcher;
+    private final BetRetryScheduler retryScheduler;
+    private final PipelineMetrics pipelineMetrics;
+    private final JackpotProperties jackpotProperties;
+    
+    /**
+     * Consumes a batch of bet events from Kafka and dispatches them grouped by jackpot
+     */
+    @KafkaListener(topics = "${jackpot.topics.bets}", groupId = "${spring.kafka.consumer.group-id}",
+            concurrency = "#{@jackpotProperties.listenerConcurrency()}",
+            containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleBetEvents(List<ConsumerRecord<String, byte[]>> records) {
+        // Group in arrival order, so per-jackpot order within the poll is kept
+        Map<String, List<BetEvent>> eventsByJackpot = new LinkedHashMap<>();
+        for (ConsumerRecord<String, byte[]> record : records) {
+            try {
+                long start = System.nanoTime();
+                BetEvent betEvent = betEventCodec.decode(record.value());
+                pipelineMetrics.record(PipelineMetrics.Stage.DESERIALIZE, start);
+                if (betEvent.getJackpotId() == null) {
+                    retryScheduler.deadLetter(betEvent, 1, "Bet event without jackpot ID");
+                    continue;
+                }
+                eventsByJackpot.computeIfAbsent(betEvent.getJackpotId(), id -> new ArrayList<>()).add(betEvent);
+            } catch (Exception e) {
+                log.error("Failed to decode bet event at {}-{}@{}",
+                        record.topic(), record.partition(), record.offset(), e);
+                retryScheduler.deadLetter(record.key(), record.value(), 1, "Undecodable bet event: " + e.getMessage());
+            }
+        }
+        
+        try {
+            // Lanes of different jackpots work on their groups in parallel; the poll is committed once all are done
+            List<CompletableFuture<Void>> groups = new ArrayList<>(eventsByJackpot.size());
+            for (Map.Entry<String, List<BetEvent>> group : eventsByJackpot.entrySet()) {
+                groups.add(laneDispatcher.dispatchAll(group.getKey(), group.getValue()));
+            }
+            CompletableFuture.allOf(groups.toArray(CompletableFuture[]::new))
+                    .get(jackpotProperties.getConsumer().getMaxPollIntervalMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            // Fail the batch so it is not committed and gets redelivered after the restart
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while dispatching a batch of " + records.size() + " bet events", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Batch of " + records.size() + " bet events not processed", e);
+        }
+        log.debug("Processed {} bet events for {} jackpots", records.size(), eventsByJackpot.size());
+    }
+}
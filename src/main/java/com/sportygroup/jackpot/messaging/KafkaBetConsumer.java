@@ -1,56 +1,83 @@
 package com.sportygroup.jackpot.messaging;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.sportygroup.jackpot.service.BetService;
-import com.sportygroup.jackpot.service.JackpotContributionService;
-import com.sportygroup.jackpot.service.JackpotRewardService;
+import com.sportygroup.jackpot.pipeline.BetRetryScheduler;
+import com.sportygroup.jackpot.pipeline.JackpotLaneDispatcher;
+import com.sportygroup.jackpot.pipeline.PipelineMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Kafka consumer for processing bet events.
- * Listens to the jackpot-bets topic and processes bet contributions and rewards.
+ * Listens to the jackpot-bets topic and hands each bet to its jackpot's processing lane without waiting for it,
+ * so bets of different jackpots in one partition are processed in parallel. Each record is acknowledged once its
+ * lane has processed it (or handed it to the retry scheduler); the container commits only the contiguous
+ * acknowledged prefix, so an offset is never committed for a bet that is still queued.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "jackpot.consumer.batch-enabled", havingValue = "false", matchIfMissing = true)
 public class KafkaBetConsumer {
     
-    private final ObjectMapper objectMapper;
-    private final BetService betService;
-    private final JackpotContributionService contributionService;
-    private final JackpotRewardService rewardService;
+    private final BetEventCodec betEventCodec;
+    private final JackpotLaneDispatcher laneDispatcher;
+    private final BetRetryScheduler retryScheduler;
+    private final PipelineMetrics pipelineMetrics;
     
     /**
-     * Consumes bet events from Kafka and processes them
+     * Consumes bet events from Kafka and hands them to their jackpot's lane.
+     * Messages that can never be processed go straight to the dead-letter topic; processing failures
+     * are retried by the lanes, so this listener never blocks on a failing bet.
      */
-    @KafkaListener(topics = "${jackpot.topics.bets}", groupId = "${spring.kafka.consumer.group-id}")
-    public void handleBetEvent(String message) {
+    @KafkaListener(topics = "${jackpot.topics.bets}", groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "recordKafkaListenerContainerFactory",
+            concurrency = "#{@jackpotProperties.listenerConcurrency()}")
+    public void handleBetEvent(ConsumerRecord<String, byte[]> record, Acknowledgment acknowledgment) {
+        BetEvent betEvent;
         try {
-            log.info("Received bet event: {}", message);
-            
-            BetEvent betEvent = objectMapper.readValue(message, BetEvent.class);
-            
-            // Create bet entity
-            var bet = betService.createBet(
-                    betEvent.getUserId(),
-                    betEvent.getJackpotId(),
-                    betEvent.getBetAmount()
-            );
-            
-            // Process contribution
-            contributionService.processContribution(bet);
-            
-            // Evaluate reward
-            rewardService.evaluateReward(bet);
-            
-            log.info("Successfully processed bet event: {}", betEvent.getBetId());
-            
+            // JSON and binary messages are told apart by their first byte
+            long start = System.nanoTime();
+            betEvent = betEventCodec.decode(record.value());
+            pipelineMetrics.record(PipelineMetrics.Stage.DESERIALIZE, start);
+            log.debug("Received bet event: {}", betEvent);
         } catch (Exception e) {
-            log.error("Failed to process bet event: {}", message, e);
-            // In a real system, you might want to implement dead letter queue or retry logic
+            log.error("Failed to decode bet event at {}-{}@{}", record.topic(), record.partition(), record.offset(), e);
+            acknowledgeWhenDone(retryScheduler.deadLetter(record.key(), record.value(), 1,
+                    "Undecodable bet event: " + e.getMessage()), record, acknowledgment);
+            return;
+        }
+        if (betEvent.getJackpotId() == null) {
+            acknowledgeWhenDone(retryScheduler.deadLetter(betEvent, 1, "Bet event without jackpot ID"),
+                    record, acknowledgment);
+            return;
+        }
+        
+        try {
+            // Blocks only while the jackpot's lane is full
+            acknowledgeWhenDone(laneDispatcher.dispatch(betEvent), record, acknowledgment);
+        } catch (InterruptedException e) {
+            // Fail the record so it is not committed and gets redelivered after the restart
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while dispatching bet event: " + betEvent.getBetId(), e);
         }
     }
+    
+    private void acknowledgeWhenDone(CompletableFuture<?> completion, ConsumerRecord<String, byte[]> record,
+                                     Acknowledgment acknowledgment) {
+        completion.whenComplete((result, failure) -> {
+            if (failure == null) {
+                acknowledgment.acknowledge();
+            } else {
+                // Left unacknowledged, the record is redelivered after the next restart or rebalance
+                log.error("Bet event at {}-{}@{} not processed", record.topic(), record.partition(), record.offset(), failure);
+            }
+        });
+    }
 }
@@ -1,42 +1,174 @@
 package com.sportygroup.jackpot.messaging;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sportygroup.jackpot.config.JackpotProperties;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 /**
  * Kafka producer for publishing bet events.
  * Handles the publishing of bet events to the jackpot-bets topic.
+ * Sends are pipelined: callers get a future completed by the broker ack,
+ * and a bounded in-flight window keeps a slow broker from piling up unacknowledged events.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @ConditionalOnProperty(name = "kafka.enabled", havingValue = "true")
 public class KafkaBetProducer {
     
-    private final KafkaTemplate<String, String> kafkaTemplate;
-    private final ObjectMapper objectMapper;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final BetEventCodec betEventCodec;
     private final JackpotProperties jackpotProperties;
+    private final Semaphore inFlight;
+    
+    public KafkaBetProducer(KafkaTemplate<String, byte[]> kafkaTemplate, BetEventCodec betEventCodec,
+                            JackpotProperties jackpotProperties) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.betEventCodec = betEventCodec;
+        this.jackpotProperties = jackpotProperties;
+        this.inFlight = new Semaphore(jackpotProperties.getProducer().getMaxInFlight());
+    }
+    
+    /**
+     * Publishes a bet event to Kafka without blocking on the broker ack.
+     * Waiting for an in-flight slot and waiting for the ack share one send-timeout deadline.
+     * 
+     * @return a future completed with the outcome once the ack arrives or the deadline passes
+     */
+    public CompletableFuture<PublishOutcome> publishBetEvent(BetEvent betEvent) {
+        long deadline = deadline();
+        return publishBetEventAsync(betEvent, deadline)
+                // A copy, so the timeout only ends our wait and never the send that holds the in-flight slot
+                .copy()
+                .orTimeout(remainingNanos(deadline), TimeUnit.NANOSECONDS)
+                .handle((result, error) -> outcome(betEvent, error));
+    }
+    
+    /**
+     * Publishes bet events to Kafka as one pipelined batch and waits for all broker acks.
+     * Waiting for in-flight slots and waiting for the acks share one send-timeout deadline for the whole batch.
+     * 
+     * @return the outcome of each bet event, in the order given
+     */
+    public PublishOutcome[] publishBetEvents(List<BetEvent> betEvents) {
+        long deadline = deadline();
+        // Send everything first, so the events share producer batches instead of waiting on each other's ack
+        List<CompletableFuture<SendResult<String, byte[]>>> acks = new ArrayList<>(betEvents.size());
+        for (BetEvent betEvent : betEvents) {
+            acks.add(publishBetEventAsync(betEvent, deadline));
+        }
+        
+        PublishOutcome[] outcomes = new PublishOutcome[betEvents.size()];
+        for (int i = 0; i < acks.size(); i++) {
+            Throwable error = null;
+            try {
+                acks.get(i).get(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                error = e.getCause();
+            } catch (TimeoutException e) {
+                error = e;
+            } catch (InterruptedException e) {
+                // The remaining sends are already under way, so their delivery is not known
+                Thread.currentThread().interrupt();
+                error = new TimeoutException("Interrupted while waiting for the ack");
+            }
+            outcomes[i] = outcome(betEvents.get(i), error);
+        }
+        return outcomes;
+    }
     
     /**
-     * Publishes a bet event to Kafka
+     * Publishes a bet event to Kafka without waiting for the ack
+     * 
+     * @return a future completed by the broker ack, or failed when the event could not be sent
      */
-    public void publishBetEvent(BetEvent betEvent) {
+    public CompletableFuture<SendResult<String, byte[]>> publishBetEventAsync(BetEvent betEvent) {
+        return publishBetEventAsync(betEvent, deadline());
+    }
+    
+    /**
+     * Publishes a bet event to Kafka, waiting for an in-flight slot no longer than the given deadline
+     */
+    private CompletableFuture<SendResult<String, byte[]>> publishBetEventAsync(BetEvent betEvent, long deadline) {
+        JackpotProperties.Producer producer = jackpotProperties.getProducer();
+        String topic = jackpotProperties.getTopics().getBets();
+        
+        byte[] message;
         try {
-            String topic = jackpotProperties.getTopics().getBets();
-            String message = objectMapper.writeValueAsString(betEvent);
-            
-            log.info("Publishing bet event to topic {}: {}", topic, message);
-            kafkaTemplate.send(topic, betEvent.getBetId(), message);
-            
-        } catch (JsonProcessingException e) {
+            message = betEventCodec.encode(betEvent, producer.getWireFormat());
+        } catch (IOException e) {
             log.error("Failed to serialize bet event: {}", betEvent, e);
-            throw new RuntimeException("Failed to publish bet event", e);
+            return CompletableFuture.failedFuture(e);
         }
+        
+        try {
+            if (!inFlight.tryAcquire(remainingNanos(deadline), TimeUnit.NANOSECONDS)) {
+                return CompletableFuture.failedFuture(
+                        new IllegalStateException("Too many bet events awaiting broker ack"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+        
+        try {
+            log.debug("Publishing bet event to topic {}: {}", topic, betEvent);
+            return kafkaTemplate.send(topic, recordKey(betEvent), message)
+                    .whenComplete((result, error) -> {
+                        inFlight.release();
+                        if (error != null) {
+                            log.error("Broker rejected bet event {}", betEvent.getBetId(), error);
+                        }
+                    });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+    
+    /**
+     * Classifies a send: only a failure of the send itself is definitive; a missed deadline leaves it open
+     */
+    private PublishOutcome outcome(BetEvent betEvent, Throwable error) {
+        if (error == null) {
+            return PublishOutcome.ACCEPTED;
+        }
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof TimeoutException) {
+            log.warn("No ack for bet event {} before the deadline; it may still be delivered", betEvent.getBetId());
+            return PublishOutcome.UNKNOWN;
+        }
+        log.error("Failed to publish bet event {}: {}", betEvent.getBetId(), cause.getMessage());
+        return PublishOutcome.REJECTED;
+    }
+    
+    private long deadline() {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(jackpotProperties.getProducer().getSendTimeoutMs());
+    }
+    
+    private static long remainingNanos(long deadline) {
+        return Math.max(0L, deadline - System.nanoTime());
+    }
+    
+    /**
+     * Chooses the record key, and with it the partition, of a bet event
+     */
+    private String recordKey(BetEvent betEvent) {
+        return switch (jackpotProperties.getProducer().getKeyMode()) {
+            case JACKPOT_ID -> betEvent.getJackpotId();
+            case BET_ID -> betEvent.getBetId();
+        };
     }
 }
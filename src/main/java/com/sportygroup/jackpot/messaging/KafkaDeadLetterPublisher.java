@@ -0,0 +1,43 @@
+package com.sportygroup.jackpot.messaging;
+
+import com.sportygroup.jackpot.config.JackpotProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Kafka producer for the bet dead-letter topic.
+ * Keeps the original message bytes and records why and after how many attempts it was given up on.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kafka.enabled", havingValue = "true")
+public class KafkaDeadLetterPublisher {
+    
+    public static final String ATTEMPTS_HEADER = "x-attempts";
+    public static final String REASON_HEADER = "x-failure-reason";
+    
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final JackpotProperties jackpotProperties;
+    
+    /**
+     * Publishes a failed message to the dead-letter topic
+     */
+    public CompletableFuture<SendResult<String, byte[]>> publish(String key, byte[] message, int attempts, String reason) {
+        ProducerRecord<String, byte[]> record =
+                new ProducerRecord<>(jackpotProperties.getTopics().getBetsDlt(), key, message);
+        record.headers().add(ATTEMPTS_HEADER, Integer.toString(attempts).getBytes(StandardCharsets.UTF_8));
+        record.headers().add(REASON_HEADER, String.valueOf(reason).getBytes(StandardCharsets.UTF_8));
+        
+        log.warn("Publishing bet event to dead-letter topic after {} attempts: {}", attempts, reason);
+        return kafkaTemplate.send(record);
+    }
+}
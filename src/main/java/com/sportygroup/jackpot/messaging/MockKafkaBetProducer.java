@@ -1,15 +1,17 @@
 package com.sportygroup.jackpot.messaging;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
- * Mock Kafka producer for development and testing.
- * Logs the bet event instead of sending to Kafka when kafka.enabled=false.
+ * Kafka-free producer for development, single-node deployments and load tests.
+ * Publishes the bet event to the in-process bus instead of Kafka when kafka.enabled=false,
+ * so bets go through the same lanes and processing as with Kafka.
  */
 @Slf4j
 @Service
@@ -17,21 +19,34 @@ import org.springframework.stereotype.Service;
 @ConditionalOnProperty(name = "kafka.enabled", havingValue = "false", matchIfMissing = true)
 public class MockKafkaBetProducer {
     
-    private final ObjectMapper objectMapper;
+    private final InProcessBetBus inProcessBetBus;
     
     /**
-     * Mock implementation that logs the bet event instead of publishing to Kafka
+     * Publishes the bet event to the in-process bus, waiting briefly while the bus is full
+     * 
+     * @return an already completed future: the bus either took the bet event or rejected it
      */
-    public void publishBetEvent(BetEvent betEvent) {
+    public CompletableFuture<PublishOutcome> publishBetEvent(BetEvent betEvent) {
         try {
-            String message = objectMapper.writeValueAsString(betEvent);
-            log.info("MOCK KAFKA: Would publish bet event to jackpot-bets topic: {}", message);
-            log.info("MOCK KAFKA: Bet ID: {}, User ID: {}, Jackpot ID: {}, Amount: {}", 
-                    betEvent.getBetId(), betEvent.getUserId(), 
-                    betEvent.getJackpotId(), betEvent.getBetAmount());
-            
-        } catch (JsonProcessingException e) {
-            log.error("Failed to serialize bet event for mock: {}", betEvent, e);
+            inProcessBetBus.publish(betEvent);
+        } catch (IllegalStateException e) {
+            log.error("In-process bus rejected bet event {}: {}", betEvent.getBetId(), e.getMessage());
+            return CompletableFuture.completedFuture(PublishOutcome.REJECTED);
+        }
+        log.debug("Published bet event {} to the in-process bus", betEvent.getBetId());
+        return CompletableFuture.completedFuture(PublishOutcome.ACCEPTED);
+    }
+    
+    /**
+     * Publishes bet events to the in-process bus
+     * 
+     * @return the outcome of each bet event, in the order given
+     */
+    public PublishOutcome[] publishBetEvents(List<BetEvent> betEvents) {
+        PublishOutcome[] outcomes = new PublishOutcome[betEvents.size()];
+        for (int i = 0; i < betEvents.size(); i++) {
+            outcomes[i] = publishBetEvent(betEvents.get(i)).join();
         }
+        return outcomes;
     }
 }
@@ -0,0 +1,123 @@
+package com.sportygroup.jackpot.messaging;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free multi-producer, single-consumer ring buffer, in the style of the Disruptor and Vyukov's bounded queue.
+ * Producers claim a slot with one CAS on the tail and publish it through the slot's sequence number,
+ * so the consumer never takes a lock and never sees a half-written slot.
+ * Only one thread may call {@link #poll()} and {@link #drainTo(Collection, int)}.
+ * 
+ * @param <E> the element type
+ */
+final class MpscRingBuffer<E> {
+    
+    /**
+     * Longs between the tail and head counters: 128 bytes keeps them off each other's (prefetched) cache lines
+     */
+    private static final int PADDING = 16;
+    private static final int TAIL = PADDING;
+    private static final int HEAD = 2 * PADDING;
+    
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLongArray counters = new AtomicLongArray(3 * PADDING);
+    private final int mask;
+    
+    /**
+     * Creates a ring buffer with at least the requested number of slots, rounded up to a power of two
+     */
+    MpscRingBuffer(int capacity) {
+        int size = capacity <= 1 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+    
+    /**
+     * Adds an element unless the ring is full
+     * 
+     * @return false when no slot was free
+     */
+    boolean offer(E element) {
+        long position;
+        int index;
+        while (true) {
+            position = counters.get(TAIL);
+            index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (counters.compareAndSet(TAIL, position, position + 1)) {
+                    break;
+                }
+            } else if (difference < 0) {
+                // The slot still holds the element from one lap ago
+                return false;
+            }
+            // Otherwise another producer claimed this position first: retry with the new tail
+        }
+        elements.lazySet(index, element);
+        // Volatile write publishes the element to the consumer
+        sequences.set(index, position + 1);
+        return true;
+    }
+    
+    /**
+     * Removes the oldest element, or returns null when the ring is empty or the oldest slot is still being written
+     */
+    E poll() {
+        long head = counters.get(HEAD);
+        int index = (int) head & mask;
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        E element = elements.get(index);
+        elements.lazySet(index, null);
+        // Frees the slot for the producer one lap ahead
+        sequences.lazySet(index, head + mask + 1);
+        counters.lazySet(HEAD, head + 1);
+        return element;
+    }
+    
+    /**
+     * Moves up to maxElements of the oldest elements into the target, in order
+     * 
+     * @return the number of elements moved
+     */
+    int drainTo(Collection<? super E> target, int maxElements) {
+        int drained = 0;
+        E element;
+        while (drained < maxElements && (element = poll()) != null) {
+            target.add(element);
+            drained++;
+        }
+        return drained;
+    }
+    
+    /**
+     * Returns the approximate number of elements in the ring
+     */
+    int size() {
+        long size = counters.get(TAIL) - counters.get(HEAD);
+        return (int) Math.max(0L, Math.min(size, mask + 1L));
+    }
+    
+    /**
+     * Returns true when the ring holds no element
+     */
+    boolean isEmpty() {
+        return size() == 0;
+    }
+    
+    /**
+     * Returns the number of slots
+     */
+    int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,12 @@
+package com.sportygroup.jackpot.messaging;
+
+/**
+ * Outcome of publishing a bet event.
+ * Only a rejected event is known not to have been delivered; an event whose ack did not arrive in time
+ * may still reach the consumers, so its bet must be kept.
+ */
+public enum PublishOutcome {
+    ACCEPTED,   // Acknowledged by the broker or taken by the in-process bus
+    REJECTED,   // Definitively not delivered
+    UNKNOWN     // Sent, but no ack before the deadline
+}
@@ -0,0 +1,93 @@
+package com.sportygroup.jackpot.pipeline;
+
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.service.JackpotContributionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rejects bet events that were already processed, e.g. after a Kafka redelivery or a replay.
+ * Bets are remembered by a rotating Bloom filter, so memory stays bounded and redeliveries are recognized only
+ * within its last two generations (up to {@code 2 * expected-insertions} processed bets); older bets are accepted again.
+ * A filter miss accepts the bet without any lookup. A filter hit is confirmed by the set of the most recent bet IDs,
+ * and only when that misses too against the stored contributions, so false positives never reject a new bet.
+ * 
+ * Check and mark are not atomic. On the lanes a bet ID always belongs to one jackpot's lane, so a bet is never
+ * checked twice concurrently; with {@code pipeline.enabled=false} the check runs on the delivering thread instead.
+ */
+@Slf4j
+@Component
+public class BetDeduplicator {
+    
+    private final JackpotContributionService contributionService;
+    private final RotatingBloomFilter bloomFilter;
+    private final Set<String> recentIds;
+    private final String[] recentRing;
+    private final Counter duplicates;
+    private int ringPosition;
+    
+    public BetDeduplicator(JackpotContributionService contributionService, JackpotProperties jackpotProperties,
+                           MeterRegistry meterRegistry) {
+        JackpotProperties.Dedupe dedupe = jackpotProperties.getDedupe();
+        this.contributionService = contributionService;
+        this.bloomFilter = new RotatingBloomFilter(dedupe.getExpectedInsertions(), dedupe.getFalsePositiveRate());
+        this.recentIds = ConcurrentHashMap.newKeySet(dedupe.getRecentIds());
+        this.recentRing = new String[Math.max(1, dedupe.getRecentIds())];
+        this.duplicates = Counter.builder("jackpot.pipeline.duplicates")
+                .description("Bet events rejected as already processed")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Checks whether a bet was already processed
+     */
+    public boolean isDuplicate(String betId) {
+        if (betId == null) {
+            return false;
+        }
+        if (!bloomFilter.mightContain(betId)) {
+            return false;
+        }
+        boolean duplicate = recentIds.contains(betId) || contributionService.hasContribution(betId);
+        if (duplicate) {
+            duplicates.increment();
+            log.warn("Rejecting duplicate bet event: {}", betId);
+        }
+        return duplicate;
+    }
+    
+    /**
+     * Records a bet as processed; call only once its contribution has been applied
+     */
+    public void markProcessed(String betId) {
+        if (betId == null) {
+            return;
+        }
+        bloomFilter.put(betId);
+        if (recentIds.add(betId)) {
+            String evicted;
+            synchronized (recentRing) {
+                evicted = recentRing[ringPosition];
+                recentRing[ringPosition] = betId;
+                ringPosition = (ringPosition + 1) % recentRing.length;
+            }
+            if (evicted != null) {
+                recentIds.remove(evicted);
+            }
+        }
+    }
+    
+    /**
+     * Forgets a bet whose records could not be stored, so its retry is confirmed against the stored contributions
+     */
+    public void forget(String betId) {
+        if (betId != null) {
+            recentIds.remove(betId);
+        }
+    }
+}
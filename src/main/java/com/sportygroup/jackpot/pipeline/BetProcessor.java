@@ -0,0 +1,140 @@
+package com.sportygroup.jackpot.pipeline;
+
+import com.sportygroup.jackpot.domain.Bet;
+import com.sportygroup.jackpot.domain.Jackpot;
+import com.sportygroup.jackpot.domain.JackpotContribution;
+import com.sportygroup.jackpot.domain.JackpotReward;
+import com.sportygroup.jackpot.messaging.BetEvent;
+import com.sportygroup.jackpot.messaging.BetEventMapper;
+import com.sportygroup.jackpot.service.BetService;
+import com.sportygroup.jackpot.service.JackpotContributionService;
+import com.sportygroup.jackpot.service.JackpotRewardService;
+import com.sportygroup.jackpot.service.JackpotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Processes bet events end to end: stores the bet, applies its contribution and evaluates the reward.
+ * Called from the jackpot's lane, so all bets of one jackpot are processed by a single thread in arrival order.
+ * Bets keep the ID they were placed with, and bets that were already processed are skipped.
+ * A bet that fails part-way leaves nothing behind: its contribution is taken back out of the pool and no record is stored.
+ * If the batch's records cannot be stored, every bet of the batch is rolled back the same way and failed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BetProcessor {
+    
+    private final BetService betService;
+    private final JackpotService jackpotService;
+    private final JackpotContributionService contributionService;
+    private final JackpotRewardService rewardService;
+    private final BetEventMapper betEventMapper;
+    private final BetDeduplicator betDeduplicator;
+    private final PipelineMetrics pipelineMetrics;
+    
+    /**
+     * Processes a batch of bet events of one jackpot in a single pass:
+     * the jackpot is resolved once, contributions and rewards are applied in order,
+     * and the resulting bets, contributions and rewards are stored in bulk
+     * 
+     * @return the bet events that failed, empty when all succeeded
+     */
+    public List<BetEvent> processBatch(String jackpotId, List<BetEvent> betEvents) {
+        Optional<Jackpot> found = jackpotService.getJackpot(jackpotId);
+        if (found.isEmpty()) {
+            log.error("Jackpot not found: {}, failing {} bet events", jackpotId, betEvents.size());
+            return betEvents;
+        }
+        Jackpot jackpot = found.get();
+        
+        List<Bet> bets = new ArrayList<>(betEvents.size());
+        List<JackpotContribution> contributions = new ArrayList<>(betEvents.size());
+        List<JackpotReward> rewards = new ArrayList<>();
+        List<BetEvent> processed = new ArrayList<>(betEvents.size());
+        List<BetEvent> failed = new ArrayList<>(0);
+        // Bets fall back to the processing time when their event has no timestamp, so keep the events' own
+        List<LocalDateTime> eventTimestamps = new ArrayList<>(betEvents.size());
+        for (BetEvent betEvent : betEvents) {
+            if (betDeduplicator.isDuplicate(betEvent.getBetId())) {
+                continue;
+            }
+            JackpotContribution contribution = null;
+            try {
+                long start = System.nanoTime();
+                Bet bet = betEventMapper.toBet(betEvent);
+                pipelineMetrics.record(PipelineMetrics.Stage.CREATE_BET, start);
+                
+                start = System.nanoTime();
+                contribution = contributionService.applyContribution(bet, jackpot);
+                pipelineMetrics.record(PipelineMetrics.Stage.CONTRIBUTE, start);
+                
+                start = System.nanoTime();
+                Optional<JackpotReward> reward = rewardService.applyReward(bet, jackpot);
+                pipelineMetrics.record(PipelineMetrics.Stage.EVALUATE, start);
+                
+                // Only a bet that went through every step leaves records behind
+                contributions.add(contribution);
+                reward.ifPresent(rewards::add);
+                bets.add(bet);
+                eventTimestamps.add(betEvent.getTimestamp());
+                processed.add(betEvent);
+                // Marked right away so a second copy in this batch is skipped; forgotten again if the persist fails
+                betDeduplicator.markProcessed(bet.getBetId());
+            } catch (Exception e) {
+                if (contribution != null) {
+                    // The event is retried as a whole, so its contribution must not stay in the pool
+                    contributionService.revertContribution(contribution, jackpot);
+                }
+                failed.add(betEvent);
+                log.error("Failed to process bet event {} in jackpot {}", betEvent.getBetId(), jackpotId, e);
+            }
+        }
+        
+        long start = System.nanoTime();
+        try {
+            betService.saveBets(bets);
+            if (!rewards.isEmpty()) {
+                rewardService.saveRewards(rewards);
+            }
+            // Stored contributions are what marks a bet processed across restarts, so they go last
+            contributionService.saveContributions(contributions);
+        } catch (Exception e) {
+            log.error("Failed to store {} processed bets of jackpot {}, rolling them back", processed.size(), jackpotId, e);
+            rollBack(jackpot, processed, contributions, rewards);
+            failed.addAll(processed);
+            return failed;
+        }
+        pipelineMetrics.record(PipelineMetrics.Stage.PERSIST, start);
+        
+        LocalDateTime processedAt = LocalDateTime.now();
+        for (LocalDateTime eventTimestamp : eventTimestamps) {
+            pipelineMetrics.recordEndToEnd(eventTimestamp, processedAt);
+        }
+        log.debug("Processed batch of {} bet events for jackpot {}", betEvents.size(), jackpotId);
+        return failed;
+    }
+    
+    /**
+     * Takes the unsaved contributions and rewards of a batch back out of the pool and forgets its bets, so they are retried.
+     * Every step only adds to or subtracts from the pool, so the order of the reverts does not matter.
+     */
+    private void rollBack(Jackpot jackpot, List<BetEvent> processed,
+                          List<JackpotContribution> contributions, List<JackpotReward> rewards) {
+        for (JackpotContribution contribution : contributions) {
+            contributionService.revertContribution(contribution, jackpot);
+        }
+        for (JackpotReward reward : rewards) {
+            rewardService.revertReward(reward, jackpot);
+        }
+        for (BetEvent betEvent : processed) {
+            betDeduplicator.forget(betEvent.getBetId());
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.sportygroup.jackpot.pipeline;
+
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.messaging.BetEvent;
+import com.sportygroup.jackpot.messaging.BetEventCodec;
+import com.sportygroup.jackpot.messaging.KafkaDeadLetterPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Retries failed bet events with exponential backoff and dead-letters them after the last attempt.
+ * Retries wait on a timer wheel instead of a sleeping listener or lane thread,
+ * so a failing jackpot never stalls its partition or the other bets in its lane.
+ * Retries still waiting at shutdown are dead-lettered, because their records are already committed.
+ */
+@Slf4j
+@Component
+public class BetRetryScheduler {
+    
+    private final JackpotProperties jackpotProperties;
+    private final BetEventCodec betEventCodec;
+    private final TimerWheel timerWheel;
+    private final Counter retried;
+    private final Counter deadLettered;
+    
+    @Autowired(required = false)
+    private KafkaDeadLetterPublisher deadLetterPublisher;
+    
+    public BetRetryScheduler(JackpotProperties jackpotProperties, BetEventCodec betEventCodec,
+                             MeterRegistry meterRegistry) {
+        JackpotProperties.Retry retry = jackpotProperties.getRetry();
+        this.jackpotProperties = jackpotProperties;
+        this.betEventCodec = betEventCodec;
+        this.timerWheel = new TimerWheel("bet-retry-wheel", retry.getTickMs(), retry.getWheelSize());
+        this.retried = Counter.builder("jackpot.pipeline.retried")
+                .description("Bet event retries scheduled")
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("jackpot.pipeline.dead.lettered")
+                .description("Bet events sent to the dead-letter topic")
+                .register(meterRegistry);
+        Gauge.builder("jackpot.pipeline.retry.pending", timerWheel, TimerWheel::size)
+                .description("Bet event retries waiting on the timer wheel")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Handles a failed attempt: schedules the retry after a backoff, or dead-letters the bet event after the last attempt
+     * 
+     * @param attempt the attempt that failed, starting at 1
+     * @param retry resubmits the bet event for the next attempt
+     */
+    public void onFailure(BetEvent betEvent, int attempt, Runnable retry) {
+        if (attempt >= jackpotProperties.getRetry().getMaxAttempts()) {
+            deadLetter(betEvent, attempt, "Failed after " + attempt + " attempts");
+            return;
+        }
+        long backoff = backoffMillis(attempt);
+        log.warn("Bet event {} failed on attempt {}, retrying in {} ms", betEvent.getBetId(), attempt, backoff);
+        try {
+            timerWheel.schedule(new PendingRetry(betEvent, attempt, retry), backoff);
+        } catch (IllegalStateException e) {
+            deadLetter(betEvent, attempt, "Retry scheduler stopped after " + attempt + " attempts");
+            return;
+        }
+        retried.increment();
+    }
+    
+    /**
+     * Sends a bet event straight to the dead-letter topic
+     */
+    public CompletableFuture<?> deadLetter(BetEvent betEvent, int attempts, String reason) {
+        byte[] message;
+        try {
+            message = betEventCodec.encode(betEvent, jackpotProperties.getProducer().getWireFormat());
+        } catch (Exception e) {
+            log.error("Failed to encode bet event {} for the dead-letter topic", betEvent, e);
+            return CompletableFuture.failedFuture(e);
+        }
+        return deadLetter(betEvent.getJackpotId(), message, attempts, reason);
+    }
+    
+    /**
+     * Sends a raw message, e.g. one that could not be decoded, straight to the dead-letter topic
+     * 
+     * @return a future completed once the dead-letter topic has the message
+     */
+    public CompletableFuture<?> deadLetter(String key, byte[] message, int attempts, String reason) {
+        deadLettered.increment();
+        if (deadLetterPublisher == null) {
+            log.error("No dead-letter topic available, dropping bet event after {} attempts: {}", attempts, reason);
+            return CompletableFuture.completedFuture(null);
+        }
+        return deadLetterPublisher.publish(key, message, attempts, reason)
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        log.error("Failed to publish bet event to the dead-letter topic", error);
+                    }
+                });
+    }
+    
+    /**
+     * Returns the delay before the attempt after the given one: initial * multiplier^(attempt - 1), capped
+     */
+    long backoffMillis(int attempt) {
+        JackpotProperties.Retry retry = jackpotProperties.getRetry();
+        double backoff = retry.getInitialBackoffMs() * Math.pow(retry.getMultiplier(), attempt - 1);
+        return (long) Math.min(backoff, retry.getMaxBackoffMs());
+    }
+    
+    /**
+     * Stops the timer wheel and dead-letters the retries that have not fired yet
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        List<Runnable> unfired = timerWheel.stop();
+        if (unfired.isEmpty()) {
+            return;
+        }
+        log.warn("Dead-lettering {} pending bet event retries on shutdown", unfired.size());
+        List<CompletableFuture<?>> sends = new ArrayList<>(unfired.size());
+        for (Runnable task : unfired) {
+            if (task instanceof PendingRetry pendingRetry) {
+                sends.add(deadLetter(pendingRetry.betEvent(), pendingRetry.attempt(),
+                        "Retry still pending at shutdown after " + pendingRetry.attempt() + " attempts"));
+            }
+        }
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                    .get(jackpotProperties.getPipeline().getShutdownTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("Not every pending retry reached the dead-letter topic before shutdown", e);
+        }
+    }
+    
+    /**
+     * A retry waiting on the timer wheel, kept recognizable so it can be dead-lettered at shutdown
+     */
+    private record PendingRetry(BetEvent betEvent, int attempt, Runnable retry) implements Runnable {
+        
+        @Override
+        public void run() {
+            retry.run();
+        }
+    }
+}
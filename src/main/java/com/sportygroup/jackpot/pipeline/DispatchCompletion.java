@@ -0,0 +1,34 @@
+package com.sportygroup.jackpot.pipeline;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks bet events dispatched together. Completes once each of them has been processed by its lane
+ * or handed to the retry scheduler, so a consumer can commit their offsets only then.
+ */
+final class DispatchCompletion {
+    
+    private final AtomicInteger remaining;
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+    
+    DispatchCompletion(int betCount) {
+        this.remaining = new AtomicInteger(betCount);
+        if (betCount == 0) {
+            future.complete(null);
+        }
+    }
+    
+    /**
+     * Marks one bet event as done
+     */
+    void completeOne() {
+        if (remaining.decrementAndGet() == 0) {
+            future.complete(null);
+        }
+    }
+    
+    CompletableFuture<Void> future() {
+        return future;
+    }
+}
@@ -0,0 +1,163 @@
+package com.sportygroup.jackpot.pipeline;
+
+import com.sportygroup.jackpot.messaging.BetEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Single-writer lane for one jackpot: a bounded ring buffer drained in batches by one virtual thread.
+ * Each drained batch is processed in one pass and its repository writes are done in bulk.
+ * Every bet of the jackpot is processed by that thread in arrival order, while lanes of different
+ * jackpots run in parallel. Bets that fail are handed to a failure handler and never block the lane.
+ */
+@Slf4j
+class JackpotLane {
+    
+    private final String jackpotId;
+    private final BetProcessor betProcessor;
+    private final Consumer<PendingBet> failureHandler;
+    private final BlockingQueue<PendingBet> queue;
+    private final int drainBatchSize;
+    private final Counter processed;
+    private final Counter failed;
+    private final Thread worker;
+    /**
+     * Submits share the read side; stop takes the write side, so no submit can slip in after the final drain
+     */
+    private final ReadWriteLock submitLock = new ReentrantReadWriteLock();
+    
+    private volatile boolean running = true;
+    
+    JackpotLane(String jackpotId, BetProcessor betProcessor, Consumer<PendingBet> failureHandler,
+                int queueCapacity, int drainBatchSize, MeterRegistry meterRegistry) {
+        this.jackpotId = jackpotId;
+        this.betProcessor = betProcessor;
+        this.failureHandler = failureHandler;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.drainBatchSize = drainBatchSize;
+        this.processed = Counter.builder("jackpot.pipeline.processed")
+                .description("Bet events processed by the jackpot lane")
+                .tag("jackpot", jackpotId)
+                .register(meterRegistry);
+        this.failed = Counter.builder("jackpot.pipeline.failed")
+                .description("Bet events that failed in the jackpot lane")
+                .tag("jackpot", jackpotId)
+                .register(meterRegistry);
+        Gauge.builder("jackpot.pipeline.queue.depth", queue, BlockingQueue::size)
+                .description("Bet events waiting in the jackpot lane")
+                .tag("jackpot", jackpotId)
+                .register(meterRegistry);
+        this.worker = Thread.ofVirtual().name("jackpot-lane-" + jackpotId).start(this::run);
+    }
+    
+    /**
+     * Enqueues a bet, blocking while the lane is full so that producers feel backpressure
+     */
+    void submit(PendingBet pendingBet) throws InterruptedException {
+        Lock lock = submitLock.readLock();
+        lock.lockInterruptibly();
+        try {
+            if (!running) {
+                throw new IllegalStateException("Lane is stopped for jackpot: " + jackpotId);
+            }
+            queue.put(pendingBet);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Returns the number of bet events waiting in the lane
+     */
+    int depth() {
+        return queue.size();
+    }
+    
+    /**
+     * Stops accepting bet events and waits for the queued ones to be processed
+     */
+    void stop(long timeoutMillis) throws InterruptedException {
+        // Waits for submits in progress (the worker keeps draining meanwhile); later ones see the lane stopped
+        Lock lock = submitLock.writeLock();
+        lock.lock();
+        try {
+            running = false;
+        } finally {
+            lock.unlock();
+        }
+        worker.interrupt();
+        worker.join(timeoutMillis);
+        if (worker.isAlive()) {
+            log.warn("Lane {} did not finish within {} ms, {} bet events left", jackpotId, timeoutMillis, queue.size());
+        }
+    }
+    
+    private void run() {
+        List<PendingBet> batch = new ArrayList<>(drainBatchSize);
+        while (running) {
+            try {
+                PendingBet first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, drainBatchSize - 1);
+                processBatch(batch);
+            } catch (InterruptedException e) {
+                // Stop requested: fall through and drain what is left
+                break;
+            }
+        }
+        queue.drainTo(batch);
+        processBatch(batch);
+    }
+    
+    private void processBatch(List<PendingBet> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<BetEvent> betEvents = new ArrayList<>(batch.size());
+        for (PendingBet pendingBet : batch) {
+            betEvents.add(pendingBet.betEvent());
+        }
+        
+        List<BetEvent> failures;
+        try {
+            failures = betProcessor.processBatch(jackpotId, betEvents);
+        } catch (Exception e) {
+            failures = betEvents;
+            log.error("Failed to process batch of {} bet events in lane {}", batch.size(), jackpotId, e);
+        }
+        processed.increment(batch.size() - failures.size());
+        failed.increment(failures.size());
+        
+        if (!failures.isEmpty()) {
+            Set<BetEvent> failedEvents = Collections.newSetFromMap(new IdentityHashMap<>());
+            failedEvents.addAll(failures);
+            for (PendingBet pendingBet : batch) {
+                if (failedEvents.contains(pendingBet.betEvent())) {
+                    failureHandler.accept(pendingBet);
+                }
+            }
+        }
+        for (PendingBet pendingBet : batch) {
+            pendingBet.complete();
+        }
+        batch.clear();
+    }
+}
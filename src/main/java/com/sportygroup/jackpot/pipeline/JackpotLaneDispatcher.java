@@ -0,0 +1,169 @@
+package com.sportygroup.jackpot.pipeline;
+
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.messaging.BetEvent;
+import com.sportygroup.jackpot.service.JackpotService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Routes bet events to per-jackpot single-writer lanes.
+ * Lanes are created lazily on the first bet of an existing jackpot; bets for unknown jackpots are dead-lettered,
+ * so message contents can never create lanes. When the pipeline is disabled, bets are processed inline on the
+ * caller's thread. Failed bets are handed to the retry scheduler, which later resubmits them here.
+ * Every dispatch returns a future completed once its bets are processed or handed to the retry scheduler.
+ * After shutdown every dispatch, including retries, is rejected instead of starting a new lane.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JackpotLaneDispatcher {
+    
+    private final BetProcessor betProcessor;
+    private final BetRetryScheduler retryScheduler;
+    private final JackpotService jackpotService;
+    private final JackpotProperties jackpotProperties;
+    private final MeterRegistry meterRegistry;
+    
+    private final Map<String, JackpotLane> lanes = new ConcurrentHashMap<>();
+    
+    /**
+     * Lane lookups share the read side; shutdown takes the write side, so no lane can be created after it
+     */
+    private final ReadWriteLock laneLock = new ReentrantReadWriteLock();
+    
+    private volatile boolean closed;
+    
+    /**
+     * Hands a bet event to its jackpot's lane, blocking while that lane is full
+     * 
+     * @return a future completed once the bet event is processed or handed to the retry scheduler
+     */
+    public CompletableFuture<Void> dispatch(BetEvent betEvent) throws InterruptedException {
+        DispatchCompletion completion = new DispatchCompletion(1);
+        submit(betEvent.getJackpotId(), List.of(PendingBet.first(betEvent, completion)));
+        return completion.future();
+    }
+    
+    /**
+     * Hands bet events of one jackpot to its lane in order, blocking while that lane is full
+     * 
+     * @return a future completed once every bet event is processed or handed to the retry scheduler
+     */
+    public CompletableFuture<Void> dispatchAll(String jackpotId, List<BetEvent> betEvents) throws InterruptedException {
+        DispatchCompletion completion = new DispatchCompletion(betEvents.size());
+        List<PendingBet> pendingBets = new ArrayList<>(betEvents.size());
+        for (BetEvent betEvent : betEvents) {
+            pendingBets.add(PendingBet.first(betEvent, completion));
+        }
+        submit(jackpotId, pendingBets);
+        return completion.future();
+    }
+    
+    private void submit(String jackpotId, List<PendingBet> pendingBets) throws InterruptedException {
+        if (closed) {
+            throw new IllegalStateException("Lane dispatcher is shut down");
+        }
+        if (jackpotId == null || jackpotService.getJackpot(jackpotId).isEmpty()) {
+            for (PendingBet pendingBet : pendingBets) {
+                retryScheduler.deadLetter(pendingBet.betEvent(), pendingBet.attempt(), "Unknown jackpot: " + jackpotId);
+                pendingBet.complete();
+            }
+            return;
+        }
+        if (!jackpotProperties.getPipeline().isEnabled()) {
+            processInline(jackpotId, pendingBets);
+            return;
+        }
+        JackpotLane lane = lane(jackpotId);
+        for (PendingBet pendingBet : pendingBets) {
+            lane.submit(pendingBet);
+        }
+    }
+    
+    private void processInline(String jackpotId, List<PendingBet> pendingBets) {
+        for (PendingBet pendingBet : pendingBets) {
+            List<BetEvent> failed;
+            try {
+                failed = betProcessor.processBatch(jackpotId, List.of(pendingBet.betEvent()));
+            } catch (Exception e) {
+                log.error("Failed to process bet event {}", pendingBet.betEvent().getBetId(), e);
+                failed = List.of(pendingBet.betEvent());
+            }
+            if (!failed.isEmpty()) {
+                onFailure(pendingBet);
+            }
+            pendingBet.complete();
+        }
+    }
+    
+    private void onFailure(PendingBet pendingBet) {
+        retryScheduler.onFailure(pendingBet.betEvent(), pendingBet.attempt(), () -> resubmit(pendingBet.next()));
+    }
+    
+    private void resubmit(PendingBet pendingBet) {
+        try {
+            submit(pendingBet.betEvent().getJackpotId(), List.of(pendingBet));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            retryScheduler.deadLetter(pendingBet.betEvent(), pendingBet.attempt(), "Interrupted while retrying");
+        } catch (Exception e) {
+            retryScheduler.deadLetter(pendingBet.betEvent(), pendingBet.attempt(), "Retry rejected: " + e.getMessage());
+        }
+    }
+    
+    private JackpotLane lane(String jackpotId) {
+        laneLock.readLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Lane dispatcher is shut down");
+            }
+            return lanes.computeIfAbsent(jackpotId, id -> {
+                log.info("Starting processing lane for jackpot: {}", id);
+                JackpotProperties.Pipeline pipeline = jackpotProperties.getPipeline();
+                return new JackpotLane(id, betProcessor, this::onFailure, pipeline.getQueueCapacity(),
+                        pipeline.getDrainBatchSize(), meterRegistry);
+            });
+        } finally {
+            laneLock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Returns the number of queued bet events per jackpot
+     */
+    public Map<String, Integer> queueDepths() {
+        Map<String, Integer> depths = new ConcurrentHashMap<>();
+        lanes.forEach((jackpotId, lane) -> depths.put(jackpotId, lane.depth()));
+        return depths;
+    }
+    
+    /**
+     * Rejects further dispatches and stops all lanes after processing the bets already queued
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        laneLock.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            laneLock.writeLock().unlock();
+        }
+        for (Map.Entry<String, JackpotLane> entry : lanes.entrySet()) {
+            log.info("Stopping processing lane for jackpot: {}", entry.getKey());
+            entry.getValue().stop(jackpotProperties.getPipeline().getShutdownTimeoutMillis());
+        }
+        lanes.clear();
+    }
+}
@@ -0,0 +1,27 @@
+package com.sportygroup.jackpot.pipeline;
+
+import com.sportygroup.jackpot.messaging.BetEvent;
+
+/**
+ * A bet event waiting in a lane, together with the processing attempt it is on (starting at 1)
+ * and the dispatch it belongs to, null for retries
+ */
+record PendingBet(BetEvent betEvent, int attempt, DispatchCompletion completion) {
+    
+    static PendingBet first(BetEvent betEvent, DispatchCompletion completion) {
+        return new PendingBet(betEvent, 1, completion);
+    }
+    
+    PendingBet next() {
+        return new PendingBet(betEvent, attempt + 1, null);
+    }
+    
+    /**
+     * Reports the bet event as done to its dispatch, once processed or handed to the retry scheduler
+     */
+    void complete() {
+        if (completion != null) {
+            completion.completeOne();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.sportygroup.jackpot.pipeline;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Concurrent Bloom filter over strings with a bounded memory footprint.
+ * Inserts go to the current generation; once it holds the expected number of entries it becomes
+ * the previous generation and a fresh one takes over, so old entries age out after two generations.
+ */
+class RotatingBloomFilter {
+    
+    private final int expectedInsertions;
+    private final int bits;
+    private final int hashes;
+    
+    private volatile Generation current;
+    private volatile Generation previous;
+    
+    RotatingBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        this.expectedInsertions = Math.max(1, expectedInsertions);
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-this.expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.bits = (int) Math.min(Integer.MAX_VALUE - 63L, Math.max(64L, optimalBits));
+        this.hashes = Math.max(1, (int) Math.round((double) bits / this.expectedInsertions * ln2));
+        this.current = new Generation(bits);
+        this.previous = new Generation(bits);
+    }
+    
+    /**
+     * Checks whether the value may have been added; false means it certainly was not
+     */
+    boolean mightContain(String value) {
+        long hash = hash(value);
+        return current.mightContain(hash) || previous.mightContain(hash);
+    }
+    
+    /**
+     * Adds a value to the current generation
+     */
+    void put(String value) {
+        Generation generation = current;
+        generation.put(hash(value));
+        if (generation.insertions.incrementAndGet() >= expectedInsertions) {
+            rotate(generation);
+        }
+    }
+    
+    private synchronized void rotate(Generation full) {
+        if (current == full) {
+            previous = full;
+            current = new Generation(bits);
+        }
+    }
+    
+    private static long hash(String value) {
+        // FNV-1a over the UTF-16 chars, finished with the MurmurHash3 mixer
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+    
+    private final class Generation {
+        
+        private final AtomicLongArray words;
+        private final AtomicInteger insertions = new AtomicInteger();
+        
+        Generation(int bits) {
+            this.words = new AtomicLongArray((bits + 63) >>> 6);
+        }
+        
+        boolean mightContain(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashes; i++) {
+                int bit = ((h1 + i * h2) & Integer.MAX_VALUE) % bits;
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        void put(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashes; i++) {
+                int bit = ((h1 + i * h2) & Integer.MAX_VALUE) % bits;
+                long mask = 1L << bit;
+                words.getAndAccumulate(bit >>> 6, mask, (word, m) -> word | m);
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.sportygroup.jackpot.pipeline;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timer wheel for delayed tasks, in the style of Netty's HashedWheelTimer.
+ * Scheduling is a lock-free enqueue; one ticker thread moves new timeouts into wheel buckets and
+ * fires the expired ones on virtual threads, so thousands of pending retries cost no sleeping threads.
+ * Delays are rounded up to the tick duration.
+ */
+@Slf4j
+class TimerWheel {
+    
+    private final long tickNanos;
+    private final int mask;
+    private final Queue<Timeout>[] buckets;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final long startNanos;
+    private final Thread ticker;
+    
+    private volatile boolean running = true;
+    private long tick;
+    
+    @SuppressWarnings("unchecked")
+    TimerWheel(String name, long tickMillis, int wheelSize) {
+        int size = wheelSize <= 1 ? 1 : Integer.highestOneBit(wheelSize - 1) << 1;
+        this.tickNanos = Math.max(1L, tickMillis) * 1_000_000L;
+        this.mask = size - 1;
+        this.buckets = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.startNanos = System.nanoTime();
+        this.ticker = Thread.ofPlatform().name(name).daemon().start(this::run);
+    }
+    
+    /**
+     * Runs a task once the delay has passed
+     */
+    void schedule(Runnable task, long delayMillis) {
+        if (!running) {
+            throw new IllegalStateException("Timer wheel is stopped");
+        }
+        pending.add(new Timeout(task, System.nanoTime() + Math.max(0L, delayMillis) * 1_000_000L));
+    }
+    
+    /**
+     * Returns the number of tasks waiting to fire
+     */
+    int size() {
+        int size = pending.size();
+        for (Queue<Timeout> bucket : buckets) {
+            size += bucket.size();
+        }
+        return size;
+    }
+    
+    /**
+     * Stops the wheel and waits for tasks that already fired
+     * 
+     * @return the tasks that have not fired yet, so the caller can hand them off instead of losing them
+     */
+    List<Runnable> stop() throws InterruptedException {
+        running = false;
+        ticker.interrupt();
+        ticker.join();
+        executor.close();
+        // The ticker has exited, so its buckets can be read from here
+        List<Runnable> unfired = new ArrayList<>();
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            unfired.add(timeout.task);
+        }
+        for (Queue<Timeout> bucket : buckets) {
+            while ((timeout = bucket.poll()) != null) {
+                unfired.add(timeout.task);
+            }
+        }
+        return unfired;
+    }
+    
+    private void run() {
+        while (running) {
+            long deadline = startNanos + (tick + 1) * tickNanos;
+            long sleep;
+            while ((sleep = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(sleep);
+                if (!running) {
+                    return;
+                }
+            }
+            transferPending();
+            expire(buckets[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+    
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            long dueTick = Math.max(tick, (timeout.deadlineNanos - startNanos) / tickNanos);
+            timeout.rounds = (dueTick - tick) / buckets.length;
+            buckets[(int) (dueTick & mask)].add(timeout);
+        }
+    }
+    
+    private void expire(Queue<Timeout> bucket) {
+        Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.rounds > 0) {
+                timeout.rounds--;
+                continue;
+            }
+            iterator.remove();
+            try {
+                executor.execute(timeout.task);
+            } catch (RuntimeException e) {
+                log.error("Failed to run timer task", e);
+            }
+        }
+    }
+    
+    private static final class Timeout {
+        
+        private final Runnable task;
+        private final long deadlineNanos;
+        private long rounds;
+        
+        Timeout(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+}
@@ -1,31 +1,69 @@
 package com.sportygroup.jackpot.repository;
 
 import com.sportygroup.jackpot.domain.Bet;
+import com.sportygroup.jackpot.domain.Money;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * In-memory repository for Bet entities.
  * Provides thread-safe operations for storing and retrieving bets.
+ * User and jackpot lookups are served from secondary indexes maintained on save and delete,
+ * and paginated or streamed listings from an index ordered by creation time.
  */
 @Repository
 public class BetRepository {
     
     private final Map<String, Bet> bets = new ConcurrentHashMap<>();
+    private final SecondaryIndex<Bet> betsByUser = new SecondaryIndex<>();
+    private final SecondaryIndex<Bet> betsByJackpot = new SecondaryIndex<>();
+    private final SaveOrderedIndex<Bet> saveOrder = new SaveOrderedIndex<>();
+    private final RunningTotals totals = new RunningTotals();
     
     /**
      * Saves a bet to the repository
      */
     public Bet save(Bet bet) {
-        bets.put(bet.getBetId(), bet);
+        // compute() serializes concurrent saves of the same bet so the indexes never diverge
+        bets.compute(bet.getBetId(), (betId, previous) -> {
+            if (previous != null) {
+                if (!Objects.equals(previous.getUserId(), bet.getUserId())) {
+                    betsByUser.remove(previous.getUserId(), betId);
+                }
+                if (!Objects.equals(previous.getJackpotId(), bet.getJackpotId())) {
+                    betsByJackpot.remove(previous.getJackpotId(), betId);
+                }
+                saveOrder.remove(betId);
+                totals.remove(previous.getJackpotId(), Money.toCents(previous.getBetAmount()));
+            }
+            betsByUser.add(bet.getUserId(), betId, bet);
+            betsByJackpot.add(bet.getJackpotId(), betId, bet);
+            saveOrder.add(betId, bet);
+            totals.add(bet.getJackpotId(), Money.toCents(bet.getBetAmount()));
+            return bet;
+        });
         return bet;
     }
     
+    /**
+     * Saves a batch of bets in one call
+     */
+    public List<Bet> saveAll(Collection<Bet> bets) {
+        List<Bet> saved = new ArrayList<>(bets.size());
+        for (Bet bet : bets) {
+            saved.add(save(bet));
+        }
+        return saved;
+    }
+    
     /**
      * Finds a bet by its ID
      */
@@ -37,18 +75,14 @@ public class BetRepository {
      * Finds all bets for a specific user
      */
     public List<Bet> findByUserId(String userId) {
-        return bets.values().stream()
-                .filter(bet -> bet.getUserId().equals(userId))
-                .collect(Collectors.toList());
+        return betsByUser.find(userId);
     }
     
     /**
      * Finds all bets for a specific jackpot
      */
     public List<Bet> findByJackpotId(String jackpotId) {
-        return bets.values().stream()
-                .filter(bet -> bet.getJackpotId().equals(jackpotId))
-                .collect(Collectors.toList());
+        return betsByJackpot.find(jackpotId);
     }
     
     /**
@@ -58,11 +92,33 @@ public class BetRepository {
         return List.copyOf(bets.values());
     }
     
+    /**
+     * Returns up to limit bets saved after the cursor, in save order; a null cursor starts from the first
+     * 
+     * @throws IllegalArgumentException when the cursor is malformed
+     */
+    public Page<Bet> findPage(String cursor, int limit) {
+        return saveOrder.page(cursor, limit);
+    }
+    
+    /**
+     * Streams all bets in save order, without copying the store
+     */
+    public Stream<Bet> streamAll() {
+        return saveOrder.stream();
+    }
+    
     /**
      * Deletes a bet by its ID
      */
     public void deleteById(String betId) {
-        bets.remove(betId);
+        bets.computeIfPresent(betId, (id, bet) -> {
+            betsByUser.remove(bet.getUserId(), id);
+            betsByJackpot.remove(bet.getJackpotId(), id);
+            saveOrder.remove(id);
+            totals.remove(bet.getJackpotId(), Money.toCents(bet.getBetAmount()));
+            return null;
+        });
     }
     
     /**
@@ -71,4 +127,18 @@ public class BetRepository {
     public long count() {
         return bets.size();
     }
+    
+    /**
+     * Returns the number and total stake of all bets, without scanning them
+     */
+    public Totals totals() {
+        return totals.totals();
+    }
+    
+    /**
+     * Returns the number and total stake of the bets of each jackpot, keyed by jackpot ID
+     */
+    public Map<String, Totals> totalsByJackpot() {
+        return totals.totalsByJackpot();
+    }
 }
@@ -1,55 +1,179 @@
 package com.sportygroup.jackpot.repository;
 
 import com.sportygroup.jackpot.domain.JackpotContribution;
+import com.sportygroup.jackpot.domain.Money;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
 
 /**
  * In-memory repository for JackpotContribution entities.
  * Provides thread-safe operations for storing and retrieving jackpot contributions.
+ * Contributions are indexed by bet and user, and kept ordered by creation time per jackpot,
+ * so lookups, "latest N" and time-range queries never scan the whole store.
+ * The per-bet index holds contribution IDs only and resolves them through the primary map,
+ * since a bet has a single contribution; jackpot timelines are dropped once empty.
  */
 @Repository
 public class JackpotContributionRepository {
     
     private final Map<String, JackpotContribution> contributions = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> contributionIdsByBet = new ConcurrentHashMap<>();
+    private final SecondaryIndex<JackpotContribution> contributionsByUser = new SecondaryIndex<>();
+    private final Map<String, NavigableMap<TimeOrderedKey, JackpotContribution>> contributionsByJackpot =
+            new ConcurrentHashMap<>();
+    private final SaveOrderedIndex<JackpotContribution> saveOrder = new SaveOrderedIndex<>();
+    private final RunningTotals totals = new RunningTotals();
     
     /**
      * Saves a jackpot contribution to the repository
      */
     public JackpotContribution save(JackpotContribution contribution) {
-        contributions.put(contribution.getContributionId(), contribution);
+        contributions.compute(contribution.getContributionId(), (contributionId, previous) -> {
+            if (previous != null) {
+                unindex(previous);
+            }
+            index(contribution);
+            return contribution;
+        });
         return contribution;
     }
     
+    /**
+     * Saves a batch of jackpot contributions, e.g. all contributions of one processed batch
+     */
+    public List<JackpotContribution> saveAll(Collection<JackpotContribution> contributions) {
+        List<JackpotContribution> saved = new ArrayList<>(contributions.size());
+        for (JackpotContribution jackpotContribution : contributions) {
+            saved.add(save(jackpotContribution));
+        }
+        return saved;
+    }
+    
+    private void index(JackpotContribution contribution) {
+        String contributionId = contribution.getContributionId();
+        if (contribution.getBetId() != null) {
+            contributionIdsByBet.compute(contribution.getBetId(), (betId, ids) -> {
+                Set<String> target = ids != null ? ids : ConcurrentHashMap.newKeySet(1);
+                target.add(contributionId);
+                return target;
+            });
+        }
+        contributionsByUser.add(contribution.getUserId(), contributionId, contribution);
+        saveOrder.add(contributionId, contribution);
+        totals.add(contribution.getJackpotId(), Money.toCents(contribution.getContributionAmount()));
+        if (contribution.getJackpotId() != null) {
+            // compute() keeps timeline creation and removal atomic per jackpot
+            contributionsByJackpot.compute(contribution.getJackpotId(), (jackpotId, timeline) -> {
+                NavigableMap<TimeOrderedKey, JackpotContribution> target =
+                        timeline != null ? timeline : new ConcurrentSkipListMap<>();
+                target.put(timeKey(contribution), contribution);
+                return target;
+            });
+        }
+    }
+    
+    private void unindex(JackpotContribution contribution) {
+        String contributionId = contribution.getContributionId();
+        if (contribution.getBetId() != null) {
+            contributionIdsByBet.computeIfPresent(contribution.getBetId(), (betId, ids) -> {
+                ids.remove(contributionId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+        contributionsByUser.remove(contribution.getUserId(), contributionId);
+        saveOrder.remove(contributionId);
+        totals.remove(contribution.getJackpotId(), Money.toCents(contribution.getContributionAmount()));
+        if (contribution.getJackpotId() != null) {
+            contributionsByJackpot.computeIfPresent(contribution.getJackpotId(), (jackpotId, timeline) -> {
+                timeline.remove(timeKey(contribution));
+                return timeline.isEmpty() ? null : timeline;
+            });
+        }
+    }
+    
+    private static TimeOrderedKey timeKey(JackpotContribution contribution) {
+        return TimeOrderedKey.of(contribution.getCreatedAt(), contribution.getContributionId());
+    }
+    
+    private NavigableMap<TimeOrderedKey, JackpotContribution> timeline(String jackpotId) {
+        NavigableMap<TimeOrderedKey, JackpotContribution> timeline =
+                jackpotId != null ? contributionsByJackpot.get(jackpotId) : null;
+        return timeline != null ? timeline : new ConcurrentSkipListMap<>();
+    }
+    
     /**
      * Finds all contributions for a specific bet
      */
     public List<JackpotContribution> findByBetId(String betId) {
-        return contributions.values().stream()
-                .filter(contribution -> contribution.getBetId().equals(betId))
-                .collect(Collectors.toList());
+        Set<String> ids = betId != null ? contributionIdsByBet.get(betId) : null;
+        if (ids == null) {
+            return new ArrayList<>();
+        }
+        List<JackpotContribution> found = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            JackpotContribution contribution = contributions.get(id);
+            if (contribution != null) {
+                found.add(contribution);
+            }
+        }
+        return found;
+    }
+    
+    /**
+     * Checks whether a contribution was already recorded for a bet
+     */
+    public boolean existsByBetId(String betId) {
+        return betId != null && contributionIdsByBet.containsKey(betId);
     }
     
     /**
      * Finds all contributions for a specific user
      */
     public List<JackpotContribution> findByUserId(String userId) {
-        return contributions.values().stream()
-                .filter(contribution -> contribution.getUserId().equals(userId))
-                .collect(Collectors.toList());
+        return contributionsByUser.find(userId);
     }
     
     /**
-     * Finds all contributions for a specific jackpot
+     * Finds all contributions for a specific jackpot, oldest first
      */
     public List<JackpotContribution> findByJackpotId(String jackpotId) {
-        return contributions.values().stream()
-                .filter(contribution -> contribution.getJackpotId().equals(jackpotId))
-                .collect(Collectors.toList());
+        return new ArrayList<>(timeline(jackpotId).values());
+    }
+    
+    /**
+     * Finds the most recent contributions for a specific jackpot, newest first
+     */
+    public List<JackpotContribution> findLatestByJackpotId(String jackpotId, int limit) {
+        List<JackpotContribution> latest = new ArrayList<>(Math.min(Math.max(limit, 0), 1024));
+        for (JackpotContribution contribution : timeline(jackpotId).descendingMap().values()) {
+            if (latest.size() >= limit) {
+                break;
+            }
+            latest.add(contribution);
+        }
+        return latest;
+    }
+    
+    /**
+     * Finds contributions for a specific jackpot created in [from, to), oldest first
+     */
+    public List<JackpotContribution> findByJackpotIdBetween(String jackpotId, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(timeline(jackpotId)
+                .subMap(TimeOrderedKey.lowerBound(from), true, TimeOrderedKey.lowerBound(to), false)
+                .values());
     }
     
     /**
@@ -59,10 +183,40 @@ public class JackpotContributionRepository {
         return List.copyOf(contributions.values());
     }
     
+    /**
+     * Returns up to limit contributions saved after the cursor, in save order; a null cursor starts from the first
+     * 
+     * @throws IllegalArgumentException when the cursor is malformed
+     */
+    public Page<JackpotContribution> findPage(String cursor, int limit) {
+        return saveOrder.page(cursor, limit);
+    }
+    
+    /**
+     * Streams all contributions in save order, without copying the store
+     */
+    public Stream<JackpotContribution> streamAll() {
+        return saveOrder.stream();
+    }
+    
     /**
      * Returns the total number of contributions
      */
     public long count() {
         return contributions.size();
     }
+    
+    /**
+     * Returns the number and total contributed amount of all contributions, without scanning them
+     */
+    public Totals totals() {
+        return totals.totals();
+    }
+    
+    /**
+     * Returns the number and total contributed amount of the contributions of each jackpot, keyed by jackpot ID
+     */
+    public Map<String, Totals> totalsByJackpot() {
+        return totals.totalsByJackpot();
+    }
 }
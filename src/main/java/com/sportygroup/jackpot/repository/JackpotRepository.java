@@ -3,6 +3,8 @@ package com.sportygroup.jackpot.repository;
 import com.sportygroup.jackpot.domain.Jackpot;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -16,6 +18,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public class JackpotRepository {
     
     private final Map<String, Jackpot> jackpots = new ConcurrentHashMap<>();
+    private final Collection<Jackpot> jackpotsView = Collections.unmodifiableCollection(jackpots.values());
     
     /**
      * Saves a jackpot to the repository
@@ -39,6 +42,13 @@ public class JackpotRepository {
         return List.copyOf(jackpots.values());
     }
     
+    /**
+     * Returns a live, read-only view of all jackpots, without copying them
+     */
+    public Collection<Jackpot> findAllView() {
+        return jackpotsView;
+    }
+    
     /**
      * Deletes a jackpot by its ID
      */
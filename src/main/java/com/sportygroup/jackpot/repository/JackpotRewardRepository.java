@@ -1,55 +1,157 @@
 package com.sportygroup.jackpot.repository;
 
 import com.sportygroup.jackpot.domain.JackpotReward;
+import com.sportygroup.jackpot.domain.Money;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
 
 /**
  * In-memory repository for JackpotReward entities.
  * Provides thread-safe operations for storing and retrieving jackpot rewards.
+ * Rewards are indexed by bet, user and jackpot; each jackpot also keeps a bounded,
+ * newest-first winner history that serves "last N winners" without copying or scanning.
+ * The history is rebuilt from the jackpot's time-ordered rewards whenever they change, so it follows
+ * re-saves and removals and is ordered by createdAt rather than by save order.
  */
 @Repository
 public class JackpotRewardRepository {
     
+    /**
+     * Maximum number of winners kept in each jackpot's recent winner history
+     */
+    public static final int WINNER_HISTORY_SIZE = 100;
+    
     private final Map<String, JackpotReward> rewards = new ConcurrentHashMap<>();
+    private final SecondaryIndex<JackpotReward> rewardsByBet = new SecondaryIndex<>();
+    private final SecondaryIndex<JackpotReward> rewardsByUser = new SecondaryIndex<>();
+    private final Map<String, NavigableMap<TimeOrderedKey, JackpotReward>> rewardsByJackpot = new ConcurrentHashMap<>();
+    private final Map<String, List<JackpotReward>> recentWinners = new ConcurrentHashMap<>();
+    private final SaveOrderedIndex<JackpotReward> saveOrder = new SaveOrderedIndex<>();
+    private final RunningTotals totals = new RunningTotals();
     
     /**
      * Saves a jackpot reward to the repository
      */
     public JackpotReward save(JackpotReward reward) {
-        rewards.put(reward.getRewardId(), reward);
+        rewards.compute(reward.getRewardId(), (rewardId, previous) -> {
+            if (previous != null) {
+                unindex(previous);
+            }
+            index(reward);
+            return reward;
+        });
         return reward;
     }
     
+    /**
+     * Saves a batch of jackpot rewards
+     */
+    public List<JackpotReward> saveAll(Collection<JackpotReward> rewards) {
+        List<JackpotReward> saved = new ArrayList<>(rewards.size());
+        for (JackpotReward jackpotReward : rewards) {
+            saved.add(save(jackpotReward));
+        }
+        return saved;
+    }
+    
+    private void index(JackpotReward reward) {
+        String rewardId = reward.getRewardId();
+        rewardsByBet.add(reward.getBetId(), rewardId, reward);
+        rewardsByUser.add(reward.getUserId(), rewardId, reward);
+        saveOrder.add(rewardId, reward);
+        totals.add(reward.getJackpotId(), Money.toCents(reward.getJackpotRewardAmount()));
+        if (reward.getJackpotId() == null) {
+            return;
+        }
+        rewardsByJackpot.compute(reward.getJackpotId(), (jackpotId, timeline) -> {
+            NavigableMap<TimeOrderedKey, JackpotReward> target = timeline != null ? timeline : new ConcurrentSkipListMap<>();
+            target.put(timeKey(reward), reward);
+            return target;
+        });
+        refreshWinners(reward.getJackpotId());
+    }
+    
+    private void unindex(JackpotReward reward) {
+        String rewardId = reward.getRewardId();
+        rewardsByBet.remove(reward.getBetId(), rewardId);
+        rewardsByUser.remove(reward.getUserId(), rewardId);
+        saveOrder.remove(rewardId);
+        totals.remove(reward.getJackpotId(), Money.toCents(reward.getJackpotRewardAmount()));
+        if (reward.getJackpotId() != null) {
+            // Emptied timelines are dropped, so jackpots that lost all their rewards leave nothing behind
+            rewardsByJackpot.computeIfPresent(reward.getJackpotId(), (jackpotId, timeline) -> {
+                timeline.remove(timeKey(reward));
+                return timeline.isEmpty() ? null : timeline;
+            });
+            refreshWinners(reward.getJackpotId());
+        }
+    }
+    
+    /**
+     * Replaces a jackpot's winner history with its newest rewards; wins are rare, so reads stay copy-free
+     */
+    private void refreshWinners(String jackpotId) {
+        // Rebuilt under the entry lock, so the last of two racing rebuilds sees both changes
+        recentWinners.compute(jackpotId, (id, history) -> {
+            NavigableMap<TimeOrderedKey, JackpotReward> timeline = rewardsByJackpot.get(id);
+            if (timeline == null || timeline.isEmpty()) {
+                return null;
+            }
+            List<JackpotReward> updated = new ArrayList<>(WINNER_HISTORY_SIZE);
+            for (JackpotReward winner : timeline.descendingMap().values()) {
+                if (updated.size() >= WINNER_HISTORY_SIZE) {
+                    break;
+                }
+                updated.add(winner);
+            }
+            return List.copyOf(updated);
+        });
+    }
+    
+    private static TimeOrderedKey timeKey(JackpotReward reward) {
+        return TimeOrderedKey.of(reward.getCreatedAt(), reward.getRewardId());
+    }
+    
     /**
      * Finds all rewards for a specific bet
      */
     public List<JackpotReward> findByBetId(String betId) {
-        return rewards.values().stream()
-                .filter(reward -> reward.getBetId().equals(betId))
-                .collect(Collectors.toList());
+        return rewardsByBet.find(betId);
     }
     
     /**
      * Finds all rewards for a specific user
      */
     public List<JackpotReward> findByUserId(String userId) {
-        return rewards.values().stream()
-                .filter(reward -> reward.getUserId().equals(userId))
-                .collect(Collectors.toList());
+        return rewardsByUser.find(userId);
     }
     
     /**
-     * Finds all rewards for a specific jackpot
+     * Finds all rewards for a specific jackpot, oldest first
      */
     public List<JackpotReward> findByJackpotId(String jackpotId) {
-        return rewards.values().stream()
-                .filter(reward -> reward.getJackpotId().equals(jackpotId))
-                .collect(Collectors.toList());
+        NavigableMap<TimeOrderedKey, JackpotReward> timeline = jackpotId != null ? rewardsByJackpot.get(jackpotId) : null;
+        return timeline != null ? new ArrayList<>(timeline.values()) : new ArrayList<>();
+    }
+    
+    /**
+     * Finds the last winners of a specific jackpot, newest first.
+     * At most {@link #WINNER_HISTORY_SIZE} winners are retained per jackpot.
+     */
+    public List<JackpotReward> findLatestWinnersByJackpotId(String jackpotId, int limit) {
+        List<JackpotReward> history = jackpotId != null ? recentWinners.get(jackpotId) : null;
+        if (history == null || limit <= 0) {
+            return List.of();
+        }
+        return history.subList(0, Math.min(limit, history.size()));
     }
     
     /**
@@ -59,10 +161,40 @@ public class JackpotRewardRepository {
         return List.copyOf(rewards.values());
     }
     
+    /**
+     * Returns up to limit rewards saved after the cursor, in save order; a null cursor starts from the first
+     * 
+     * @throws IllegalArgumentException when the cursor is malformed
+     */
+    public Page<JackpotReward> findPage(String cursor, int limit) {
+        return saveOrder.page(cursor, limit);
+    }
+    
+    /**
+     * Streams all rewards in save order, without copying the store
+     */
+    public Stream<JackpotReward> streamAll() {
+        return saveOrder.stream();
+    }
+    
     /**
      * Returns the total number of rewards
      */
     public long count() {
         return rewards.size();
     }
+    
+    /**
+     * Returns the number and total paid-out amount of all rewards, without scanning them
+     */
+    public Totals totals() {
+        return totals.totals();
+    }
+    
+    /**
+     * Returns the number and total paid-out amount of the rewards of each jackpot, keyed by jackpot ID
+     */
+    public Map<String, Totals> totalsByJackpot() {
+        return totals.totalsByJackpot();
+    }
 }
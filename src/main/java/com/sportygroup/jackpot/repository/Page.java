@@ -0,0 +1,12 @@
+package com.sportygroup.jackpot.repository;
+
+import java.util.List;
+
+/**
+ * One page of a cursor-paginated listing, in save order.
+ * The next cursor is null on the last page.
+ *
+ * @param <T> the listed entity type
+ */
+public record Page<T>(List<T> items, String nextCursor) {
+}
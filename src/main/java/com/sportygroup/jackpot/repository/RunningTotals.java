@@ -0,0 +1,69 @@
+package com.sportygroup.jackpot.repository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Count and amount sum of the entities in a repository, overall and per jackpot, kept up to date on save and delete.
+ * Statistics are then read in constant time instead of by copying or scanning the store.
+ * LongAdder cells keep the hot write path free of contention; a read may miss a save still in progress.
+ */
+class RunningTotals {
+    
+    private final Cells overall = new Cells();
+    private final Map<String, Cells> byJackpot = new ConcurrentHashMap<>();
+    
+    /**
+     * Counts a stored entity with its amount in minor units
+     */
+    void add(String jackpotId, long amountCents) {
+        overall.add(1L, amountCents);
+        if (jackpotId != null) {
+            byJackpot.computeIfAbsent(jackpotId, id -> new Cells()).add(1L, amountCents);
+        }
+    }
+    
+    /**
+     * Uncounts a replaced or deleted entity
+     */
+    void remove(String jackpotId, long amountCents) {
+        overall.add(-1L, -amountCents);
+        Cells cells = jackpotId != null ? byJackpot.get(jackpotId) : null;
+        if (cells != null) {
+            cells.add(-1L, -amountCents);
+        }
+    }
+    
+    /**
+     * Returns the totals over all jackpots
+     */
+    Totals totals() {
+        return overall.totals();
+    }
+    
+    /**
+     * Returns the totals of every jackpot seen so far, keyed by jackpot ID
+     */
+    Map<String, Totals> totalsByJackpot() {
+        Map<String, Totals> totals = new HashMap<>(byJackpot.size() * 2);
+        byJackpot.forEach((jackpotId, cells) -> totals.put(jackpotId, cells.totals()));
+        return totals;
+    }
+    
+    private static final class Cells {
+        
+        private final LongAdder count = new LongAdder();
+        private final LongAdder amountCents = new LongAdder();
+        
+        void add(long countDelta, long amountDelta) {
+            count.add(countDelta);
+            amountCents.add(amountDelta);
+        }
+        
+        Totals totals() {
+            return new Totals(count.sum(), amountCents.sum());
+        }
+    }
+}
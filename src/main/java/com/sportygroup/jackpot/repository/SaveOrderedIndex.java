@@ -0,0 +1,94 @@
+package com.sportygroup.jackpot.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * Concurrent index keeping all entities of a repository in the order they were saved.
+ * Serves cursor pagination and streaming: a page seeks straight to its cursor, and iteration never copies the store,
+ * so memory stays constant whatever the number of entities. Iteration is weakly consistent.
+ * 
+ * Each save takes the next sequence number and appends under a lock, so entries become visible in sequence order:
+ * a cursor never moves past an entity saved after it was issued, whatever that entity's createdAt,
+ * and a re-saved entity moves to the end, where a client following the cursor sees it again.
+ * 
+ * @param <T> the indexed entity type
+ */
+class SaveOrderedIndex<T> {
+    
+    private final NavigableMap<Long, T> entries = new ConcurrentSkipListMap<>();
+    private final Map<String, Long> sequences = new ConcurrentHashMap<>();
+    private final Object appendLock = new Object();
+    
+    private long lastSequence; // Guarded by appendLock
+    
+    /**
+     * Appends an entity, replacing the entry it had under the same ID
+     */
+    void add(String id, T value) {
+        synchronized (appendLock) {
+            long sequence = ++lastSequence;
+            entries.put(sequence, value);
+            Long previous = sequences.put(id, sequence);
+            if (previous != null) {
+                entries.remove(previous);
+            }
+        }
+    }
+    
+    /**
+     * Removes the entity stored under the given ID
+     */
+    void remove(String id) {
+        Long sequence = sequences.remove(id);
+        if (sequence != null) {
+            entries.remove(sequence);
+        }
+    }
+    
+    /**
+     * Returns up to limit entities saved after the cursor, or from the first one when the cursor is null
+     * 
+     * @throws IllegalArgumentException when the cursor is malformed
+     */
+    Page<T> page(String cursor, int limit) {
+        NavigableMap<Long, T> remaining = cursor == null ? entries : entries.tailMap(fromCursor(cursor), false);
+        List<T> items = new ArrayList<>(Math.min(Math.max(limit, 0), 1024));
+        Long last = null;
+        Iterator<Map.Entry<Long, T>> iterator = remaining.entrySet().iterator();
+        while (items.size() < limit && iterator.hasNext()) {
+            Map.Entry<Long, T> entry = iterator.next();
+            items.add(entry.getValue());
+            last = entry.getKey();
+        }
+        return new Page<>(items, last != null && iterator.hasNext() ? toCursor(last) : null);
+    }
+    
+    /**
+     * Streams all entities in save order, without copying them
+     */
+    Stream<T> stream() {
+        return entries.values().stream();
+    }
+    
+    private static String toCursor(long sequence) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(sequence).getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static long fromCursor(String cursor) {
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
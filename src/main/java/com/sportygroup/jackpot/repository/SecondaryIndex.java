@@ -0,0 +1,61 @@
+package com.sportygroup.jackpot.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Concurrent secondary index mapping a lookup key (user, jackpot, bet...) to the entities stored under it.
+ * Each key owns its own bucket, so lookups cost O(result size) instead of a scan over the primary map.
+ *
+ * @param <T> the indexed entity type
+ */
+class SecondaryIndex<T> {
+
+    private final Map<String, Map<String, T>> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * Adds an entity to the bucket of the given key
+     */
+    void add(String key, String id, T value) {
+        if (key == null) {
+            return;
+        }
+        // compute() keeps bucket creation and removal atomic per key
+        buckets.compute(key, (k, bucket) -> {
+            Map<String, T> target = bucket != null ? bucket : new ConcurrentHashMap<>();
+            target.put(id, value);
+            return target;
+        });
+    }
+
+    /**
+     * Removes an entity from the bucket of the given key, dropping the bucket once empty
+     */
+    void remove(String key, String id) {
+        if (key == null) {
+            return;
+        }
+        buckets.computeIfPresent(key, (k, bucket) -> {
+            bucket.remove(id);
+            return bucket.isEmpty() ? null : bucket;
+        });
+    }
+
+    /**
+     * Returns a snapshot of all entities indexed under the given key
+     */
+    List<T> find(String key) {
+        Map<String, T> bucket = key != null ? buckets.get(key) : null;
+        return bucket != null ? new ArrayList<>(bucket.values()) : new ArrayList<>();
+    }
+
+    /**
+     * Returns the number of entities indexed under the given key
+     */
+    int count(String key) {
+        Map<String, T> bucket = key != null ? buckets.get(key) : null;
+        return bucket != null ? bucket.size() : 0;
+    }
+}
@@ -0,0 +1,40 @@
+package com.sportygroup.jackpot.repository;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * Sort key ordering entities by creation time, with the entity ID as a tie-breaker.
+ * Used by the per-jackpot timelines so that entities created in the same instant never collide.
+ */
+@Value
+public class TimeOrderedKey implements Comparable<TimeOrderedKey> {
+    
+    private static final Comparator<TimeOrderedKey> ORDER = Comparator
+            .comparing(TimeOrderedKey::getCreatedAt)
+            .thenComparing(TimeOrderedKey::getId);
+    
+    LocalDateTime createdAt;
+    String id;
+    
+    /**
+     * Creates a key for an entity, treating a missing timestamp as the earliest possible one
+     */
+    public static TimeOrderedKey of(LocalDateTime createdAt, String id) {
+        return new TimeOrderedKey(createdAt != null ? createdAt : LocalDateTime.MIN, id);
+    }
+    
+    /**
+     * Returns a key that sorts before every entity created at the given time
+     */
+    public static TimeOrderedKey lowerBound(LocalDateTime createdAt) {
+        return new TimeOrderedKey(createdAt, "");
+    }
+    
+    @Override
+    public int compareTo(TimeOrderedKey other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,23 @@
+package com.sportygroup.jackpot.repository;
+
+import com.sportygroup.jackpot.domain.Money;
+
+import java.math.BigDecimal;
+
+/**
+ * Number of stored entities and the sum of their amounts, read from running totals
+ * 
+ * @param count number of entities
+ * @param amountCents sum of their amounts, in minor units
+ */
+public record Totals(long count, long amountCents) {
+    
+    public static final Totals EMPTY = new Totals(0L, 0L);
+    
+    /**
+     * Sum of the amounts
+     */
+    public BigDecimal amount() {
+        return Money.toBigDecimal(amountCents);
+    }
+}
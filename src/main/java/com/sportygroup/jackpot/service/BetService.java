@@ -2,12 +2,16 @@ package com.sportygroup.jackpot.service;
 
 import com.sportygroup.jackpot.domain.Bet;
 import com.sportygroup.jackpot.repository.BetRepository;
+import com.sportygroup.jackpot.repository.Page;
+import com.sportygroup.jackpot.repository.Totals;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Service for managing bet operations.
@@ -31,6 +35,13 @@ public class BetService {
         return betRepository.save(bet);
     }
     
+    /**
+     * Stores a batch of already created bets
+     */
+    public List<Bet> saveBets(List<Bet> bets) {
+        return betRepository.saveAll(bets);
+    }
+    
     /**
      * Retrieves a bet by its ID
      */
@@ -66,4 +77,32 @@ public class BetService {
         log.info("Deleting bet: {}", betId);
         betRepository.deleteById(betId);
     }
+    
+    /**
+     * Retrieves one page of bets in save order, starting after the cursor
+     */
+    public Page<Bet> getBetsPage(String cursor, int limit) {
+        return betRepository.findPage(cursor, limit);
+    }
+    
+    /**
+     * Streams all bets in save order, without loading them into memory
+     */
+    public Stream<Bet> streamAllBets() {
+        return betRepository.streamAll();
+    }
+    
+    /**
+     * Retrieves the number and total stake of all bets
+     */
+    public Totals getBetTotals() {
+        return betRepository.totals();
+    }
+    
+    /**
+     * Retrieves the number and total stake of the bets of each jackpot, keyed by jackpot ID
+     */
+    public Map<String, Totals> getBetTotalsByJackpot() {
+        return betRepository.totalsByJackpot();
+    }
 }
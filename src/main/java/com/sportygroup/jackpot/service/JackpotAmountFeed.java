@@ -0,0 +1,243 @@
+package com.sportygroup.jackpot.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.domain.Jackpot;
+import com.sportygroup.jackpot.domain.JackpotPool;
+import com.sportygroup.jackpot.dto.JackpotAmountUpdate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Live feed of jackpot amounts, pushed to lobby clients as Server-Sent Events.
+ * One ticker thread compares every pool with the state it last broadcast, so a burst of contributions
+ * within a tick produces a single update. The changed amounts are serialized once per tick
+ * and the same frame is queued for every subscriber.
+ * 
+ * Each subscriber has a bounded queue drained by its own virtual thread, so a slow client never holds up
+ * the ticker or the other subscribers; a subscriber whose queue is full is dropped, and its client reconnects.
+ */
+@Slf4j
+@Service
+public class JackpotAmountFeed {
+    
+    static final String SNAPSHOT_EVENT = "snapshot";
+    static final String UPDATE_EVENT = "amounts";
+    
+    private final JackpotService jackpotService;
+    private final ObjectMapper objectMapper;
+    private final JackpotProperties.Feed feed;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService ticker;
+    private final Counter dropped;
+    
+    // Confined to the ticker thread
+    private final Map<String, JackpotPool> lastBroadcast = new LinkedHashMap<>();
+    private Set<ResponseBodyEmitter.DataWithMediaType> snapshotFrame;
+    private long lastFrameNanos = System.nanoTime();
+    
+    public JackpotAmountFeed(JackpotService jackpotService, ObjectMapper objectMapper,
+                             JackpotProperties jackpotProperties, MeterRegistry meterRegistry) {
+        this.jackpotService = jackpotService;
+        this.objectMapper = objectMapper;
+        this.feed = jackpotProperties.getFeed();
+        this.ticker = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("jackpot-amount-feed").daemon().factory());
+        Gauge.builder("jackpot.feed.subscribers", subscribers, List::size)
+                .description("Open subscriptions to the live jackpot amount feed")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("jackpot.feed.dropped")
+                .description("Subscribers dropped for falling behind the live jackpot amount feed")
+                .register(meterRegistry);
+        ticker.scheduleWithFixedDelay(this::tick, feed.getTickMs(), feed.getTickMs(), TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Opens a subscription that first receives every jackpot amount, then only the amounts that changed
+     */
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(feed.getEmitterTimeoutMs()));
+    }
+    
+    /**
+     * Subscribes the given emitter, see {@link #subscribe()}
+     */
+    SseEmitter subscribe(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter, feed.getSubscriberQueueSize());
+        emitter.onCompletion(subscriber::stop);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscriber.stop());
+        // Joining on the ticker thread means the snapshot and the following updates neither overlap nor leave a gap
+        ticker.execute(() -> {
+            try {
+                if (lastBroadcast.isEmpty()) {
+                    tick();
+                }
+                subscriber.offer(snapshotFrame());
+                subscribers.add(subscriber);
+                subscriber.start();
+            } catch (Exception e) {
+                log.debug("Failed to send the jackpot snapshot to a new subscriber", e);
+                emitter.completeWithError(e);
+            }
+        });
+        return emitter;
+    }
+    
+    /**
+     * Returns the number of open subscriptions
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+    
+    /**
+     * Closes every subscription and stops the ticker
+     */
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.stop();
+            subscriber.emitter.complete();
+        }
+    }
+    
+    /**
+     * Returns the jackpots whose pool changed since the previous call, and remembers their new state
+     */
+    List<JackpotAmountUpdate> collectChanges() {
+        List<JackpotAmountUpdate> changes = new ArrayList<>();
+        for (Jackpot jackpot : jackpotService.getAllJackpotsView()) {
+            JackpotPool pool = jackpot.snapshot();
+            if (!pool.equals(lastBroadcast.put(jackpot.getJackpotId(), pool))) {
+                changes.add(toUpdate(jackpot.getJackpotId(), pool));
+            }
+        }
+        return changes;
+    }
+    
+    void tick() {
+        // An exception escaping a periodic task would cancel every later tick
+        try {
+            List<JackpotAmountUpdate> changes = collectChanges();
+            if (!changes.isEmpty()) {
+                snapshotFrame = null;
+                broadcast(frame(UPDATE_EVENT, changes));
+            } else if (System.nanoTime() - lastFrameNanos >= TimeUnit.MILLISECONDS.toNanos(feed.getHeartbeatMs())) {
+                // Lets idle connections and the proxies in between notice a client that is gone
+                broadcast(SseEmitter.event().comment("keep-alive").build());
+            }
+        } catch (Exception e) {
+            log.error("Failed to publish jackpot amounts", e);
+        }
+    }
+    
+    private void broadcast(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.offer(frame)) {
+                log.debug("Dropping jackpot feed subscriber that fell {} frames behind", feed.getSubscriberQueueSize());
+                dropped.increment();
+                subscriber.stop();
+                subscriber.emitter.complete();
+            }
+        }
+        lastFrameNanos = System.nanoTime();
+    }
+    
+    private Set<ResponseBodyEmitter.DataWithMediaType> snapshotFrame() throws JsonProcessingException {
+        if (snapshotFrame == null) {
+            List<JackpotAmountUpdate> amounts = lastBroadcast.entrySet().stream()
+                    .map(entry -> toUpdate(entry.getKey(), entry.getValue()))
+                    .toList();
+            snapshotFrame = frame(SNAPSHOT_EVENT, amounts);
+        }
+        return snapshotFrame;
+    }
+    
+    private Set<ResponseBodyEmitter.DataWithMediaType> frame(String event, List<JackpotAmountUpdate> amounts)
+            throws JsonProcessingException {
+        // Serialized here once; every subscriber then writes the same string
+        return SseEmitter.event()
+                .name(event)
+                .data(objectMapper.writeValueAsString(amounts))
+                .build();
+    }
+    
+    private JackpotAmountUpdate toUpdate(String jackpotId, JackpotPool pool) {
+        return JackpotAmountUpdate.builder()
+                .jackpotId(jackpotId)
+                .currentAmount(pool.getAmount())
+                .version(pool.getVersion())
+                .updatedAt(pool.getUpdatedAt())
+                .build();
+    }
+    
+    /**
+     * One subscription: frames queue up here and its own virtual thread writes them to the client
+     */
+    private final class Subscriber implements Runnable {
+        
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> frames;
+        private volatile Thread sender;
+        
+        Subscriber(SseEmitter emitter, int queueSize) {
+            this.emitter = emitter;
+            this.frames = new ArrayBlockingQueue<>(Math.max(1, queueSize));
+        }
+        
+        boolean offer(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            return frames.offer(frame);
+        }
+        
+        void start() {
+            sender = Thread.ofVirtual().name("jackpot-amount-feed-subscriber").start(this);
+        }
+        
+        /**
+         * Unsubscribes and ends the sender; the emitter itself is completed by the caller, if needed
+         */
+        void stop() {
+            subscribers.remove(this);
+            Thread thread = sender;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+        
+        @Override
+        public void run() {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    emitter.send(frames.take());
+                }
+            } catch (InterruptedException e) {
+                // Unsubscribed
+            } catch (Exception e) {
+                log.debug("Dropping jackpot feed subscriber after a failed send", e);
+                stop();
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
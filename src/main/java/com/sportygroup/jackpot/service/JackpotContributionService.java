@@ -4,14 +4,21 @@ import com.sportygroup.jackpot.config.StrategyFactory;
 import com.sportygroup.jackpot.domain.Bet;
 import com.sportygroup.jackpot.domain.Jackpot;
 import com.sportygroup.jackpot.domain.JackpotContribution;
+import com.sportygroup.jackpot.domain.Money;
 import com.sportygroup.jackpot.repository.JackpotContributionRepository;
+import com.sportygroup.jackpot.repository.Page;
+import com.sportygroup.jackpot.repository.Totals;
 import com.sportygroup.jackpot.strategy.ContributionStrategy;
+import com.sportygroup.jackpot.strategy.StrategyParameters;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Service for managing jackpot contribution operations.
@@ -37,15 +44,27 @@ public class JackpotContributionService {
         Jackpot jackpot = jackpotService.getJackpot(bet.getJackpotId())
                 .orElseThrow(() -> new IllegalArgumentException("Jackpot not found: " + bet.getJackpotId()));
         
+        return contributionRepository.save(applyContribution(bet, jackpot));
+    }
+    
+    /**
+     * Adds a bet's contribution to an already resolved jackpot and returns the contribution record without storing it,
+     * so batch processing can save all records of a batch at once
+     */
+    public JackpotContribution applyContribution(Bet bet, Jackpot jackpot) {
         // Get the appropriate contribution strategy
         ContributionStrategy strategy = strategyFactory.getContributionStrategy(jackpot);
+        StrategyParameters parameters = strategyFactory.getStrategyParameters(jackpot);
         
-        // Calculate contribution amount
-        BigDecimal contributionAmount = strategy.calculateContribution(bet.getBetAmount(), jackpot);
+        // Calculate contribution amount in minor units; sub-cent stakes take the BigDecimal path
+        long betAmountCents = Money.toCentsExact(bet.getBetAmount());
+        long contributionCents = betAmountCents != Money.NOT_REPRESENTABLE
+                ? strategy.calculateContributionCents(betAmountCents, jackpot, parameters)
+                : Money.toCents(strategy.calculateContribution(bet.getBetAmount(), jackpot, parameters));
+        BigDecimal contributionAmount = Money.toBigDecimal(contributionCents);
         
-        // Add contribution to jackpot
-        jackpot.addContribution(contributionAmount);
-        jackpotService.updateJackpotAmount(jackpot, jackpot.getCurrentAmount());
+        // Atomically add contribution to jackpot
+        BigDecimal poolAmount = Money.toBigDecimal(jackpotService.contribute(jackpot, contributionCents));
         
         // Create contribution record
         JackpotContribution contribution = JackpotContribution.create(
@@ -54,13 +73,28 @@ public class JackpotContributionService {
                 bet.getJackpotId(),
                 bet.getBetAmount(),
                 contributionAmount,
-                jackpot.getCurrentAmount()
+                poolAmount
         );
         
-        log.info("Contribution processed: {} added to jackpot {}, new total: {}", 
-                contributionAmount, jackpot.getJackpotId(), jackpot.getCurrentAmount());
+        log.debug("Contribution processed: {} added to jackpot {}, new total: {}", 
+                contributionAmount, jackpot.getJackpotId(), poolAmount);
         
-        return contributionRepository.save(contribution);
+        return contribution;
+    }
+    
+    /**
+     * Takes an applied but unsaved contribution back out of its jackpot's pool, for a bet that failed after contributing
+     */
+    public long revertContribution(JackpotContribution contribution, Jackpot jackpot) {
+        log.debug("Reverting contribution {} of bet {}", contribution.getContributionAmount(), contribution.getBetId());
+        return jackpotService.contribute(jackpot, -Money.toCents(contribution.getContributionAmount()));
+    }
+    
+    /**
+     * Stores the contribution records of a processed batch
+     */
+    public List<JackpotContribution> saveContributions(List<JackpotContribution> contributions) {
+        return contributionRepository.saveAll(contributions);
     }
     
     /**
@@ -70,6 +104,13 @@ public class JackpotContributionService {
         return contributionRepository.findByBetId(betId);
     }
     
+    /**
+     * Checks whether a bet has already contributed to its jackpot
+     */
+    public boolean hasContribution(String betId) {
+        return contributionRepository.existsByBetId(betId);
+    }
+    
     /**
      * Retrieves all contributions for a specific user
      */
@@ -84,10 +125,53 @@ public class JackpotContributionService {
         return contributionRepository.findByJackpotId(jackpotId);
     }
     
+    /**
+     * Retrieves the latest contributions for a specific jackpot, newest first
+     */
+    public List<JackpotContribution> getLatestContributionsByJackpotId(String jackpotId, int limit) {
+        return contributionRepository.findLatestByJackpotId(jackpotId, limit);
+    }
+    
+    /**
+     * Retrieves the contributions for a specific jackpot made in [from, to), oldest first
+     */
+    public List<JackpotContribution> getContributionsByJackpotIdBetween(String jackpotId,
+                                                                        LocalDateTime from, LocalDateTime to) {
+        return contributionRepository.findByJackpotIdBetween(jackpotId, from, to);
+    }
+    
     /**
      * Retrieves all contributions
      */
     public List<JackpotContribution> getAllContributions() {
         return contributionRepository.findAll();
     }
+    
+    /**
+     * Retrieves one page of contributions in save order, starting after the cursor
+     */
+    public Page<JackpotContribution> getContributionsPage(String cursor, int limit) {
+        return contributionRepository.findPage(cursor, limit);
+    }
+    
+    /**
+     * Streams all contributions in save order, without loading them into memory
+     */
+    public Stream<JackpotContribution> streamAllContributions() {
+        return contributionRepository.streamAll();
+    }
+    
+    /**
+     * Retrieves the number and total contributed amount of all contributions
+     */
+    public Totals getContributionTotals() {
+        return contributionRepository.totals();
+    }
+    
+    /**
+     * Retrieves the number and total contributed amount of the contributions of each jackpot, keyed by jackpot ID
+     */
+    public Map<String, Totals> getContributionTotalsByJackpot() {
+        return contributionRepository.totalsByJackpot();
+    }
 }
@@ -3,15 +3,21 @@ package com.sportygroup.jackpot.service;
 import com.sportygroup.jackpot.config.StrategyFactory;
 import com.sportygroup.jackpot.domain.Bet;
 import com.sportygroup.jackpot.domain.Jackpot;
+import com.sportygroup.jackpot.domain.JackpotPool;
 import com.sportygroup.jackpot.domain.JackpotReward;
+import com.sportygroup.jackpot.domain.Money;
 import com.sportygroup.jackpot.repository.JackpotRewardRepository;
+import com.sportygroup.jackpot.repository.Page;
+import com.sportygroup.jackpot.repository.Totals;
 import com.sportygroup.jackpot.strategy.RewardStrategy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Service for managing jackpot reward operations.
@@ -37,37 +43,58 @@ public class JackpotRewardService {
         Jackpot jackpot = jackpotService.getJackpot(bet.getJackpotId())
                 .orElseThrow(() -> new IllegalArgumentException("Jackpot not found: " + bet.getJackpotId()));
         
+        return applyReward(bet, jackpot).map(rewardRepository::save);
+    }
+    
+    /**
+     * Evaluates a bet against an already resolved jackpot, claiming the pool on a win.
+     * The reward record is returned without storing it, so batch processing can save all rewards at once.
+     */
+    public Optional<JackpotReward> applyReward(Bet bet, Jackpot jackpot) {
         // Get the appropriate reward strategy
         RewardStrategy strategy = strategyFactory.getRewardStrategy(jackpot);
         
         // Evaluate if the bet wins
-        boolean isWinner = strategy.evaluateReward(jackpot);
+        boolean isWinner = strategy.evaluateReward(jackpot.getCurrentAmountCents(), jackpot,
+                strategyFactory.getStrategyParameters(jackpot));
         
         if (isWinner) {
+            // Atomically take the pool and reset it, so a concurrent winner can never be paid the same pool
+            JackpotPool claimed = jackpotService.claimJackpot(jackpot);
+            
             log.info("Bet {} won jackpot reward! Jackpot amount: {}", 
-                    bet.getBetId(), jackpot.getCurrentAmount());
+                    bet.getBetId(), claimed.getAmount());
             
             // Create reward record
-            JackpotReward reward = JackpotReward.create(
+            return Optional.of(JackpotReward.create(
                     bet.getBetId(),
                     bet.getUserId(),
                     bet.getJackpotId(),
-                    jackpot.getCurrentAmount()
-            );
-            
-            // Reset jackpot to initial amount
-            jackpotService.resetJackpot(jackpot);
-            
-            log.info("Jackpot {} reset to initial amount: {}", 
-                    jackpot.getJackpotId(), jackpot.getInitialAmount());
-            
-            return Optional.of(rewardRepository.save(reward));
+                    claimed.getAmount()
+            ));
         } else {
-            log.info("Bet {} did not win jackpot reward", bet.getBetId());
+            log.debug("Bet {} did not win jackpot reward", bet.getBetId());
             return Optional.empty();
         }
     }
     
+    /**
+     * Puts a claimed but unsaved reward back into its jackpot's pool, for a batch that failed to store its records
+     */
+    public long revertReward(JackpotReward reward, Jackpot jackpot) {
+        log.debug("Reverting reward {} of bet {}", reward.getJackpotRewardAmount(), reward.getBetId());
+        // The claim reset the pool to its initial amount, so only the difference goes back
+        return jackpotService.contribute(jackpot,
+                Money.toCents(reward.getJackpotRewardAmount()) - jackpot.getInitialAmountCents());
+    }
+    
+    /**
+     * Stores the rewards of a processed batch
+     */
+    public List<JackpotReward> saveRewards(List<JackpotReward> rewards) {
+        return rewardRepository.saveAll(rewards);
+    }
+    
     /**
      * Retrieves all rewards for a specific bet
      */
@@ -89,10 +116,45 @@ public class JackpotRewardService {
         return rewardRepository.findByJackpotId(jackpotId);
     }
     
+    /**
+     * Retrieves the last winners of a specific jackpot, newest first
+     */
+    public List<JackpotReward> getLatestWinnersByJackpotId(String jackpotId, int limit) {
+        return rewardRepository.findLatestWinnersByJackpotId(jackpotId, limit);
+    }
+    
     /**
      * Retrieves all rewards
      */
     public List<JackpotReward> getAllRewards() {
         return rewardRepository.findAll();
     }
+    
+    /**
+     * Retrieves one page of rewards in save order, starting after the cursor
+     */
+    public Page<JackpotReward> getRewardsPage(String cursor, int limit) {
+        return rewardRepository.findPage(cursor, limit);
+    }
+    
+    /**
+     * Streams all rewards in save order, without loading them into memory
+     */
+    public Stream<JackpotReward> streamAllRewards() {
+        return rewardRepository.streamAll();
+    }
+    
+    /**
+     * Retrieves the number and total paid-out amount of all rewards
+     */
+    public Totals getRewardTotals() {
+        return rewardRepository.totals();
+    }
+    
+    /**
+     * Retrieves the number and total paid-out amount of the rewards of each jackpot, keyed by jackpot ID
+     */
+    public Map<String, Totals> getRewardTotalsByJackpot() {
+        return rewardRepository.totalsByJackpot();
+    }
 }
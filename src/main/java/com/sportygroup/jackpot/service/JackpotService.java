@@ -1,11 +1,14 @@
 package com.sportygroup.jackpot.service;
 
+import com.sportygroup.jackpot.config.JackpotProperties;
 import com.sportygroup.jackpot.domain.Jackpot;
+import com.sportygroup.jackpot.domain.JackpotPool;
 import com.sportygroup.jackpot.repository.JackpotRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +22,7 @@ import java.util.Optional;
 public class JackpotService {
     
     private final JackpotRepository jackpotRepository;
+    private final JackpotProperties jackpotProperties;
     
     /**
      * Creates a new jackpot with the specified configuration
@@ -32,6 +36,14 @@ public class JackpotService {
                                        java.math.BigDecimal.valueOf(1000.0), 
                                        contributionType, rewardType);
         
+        JackpotProperties.Pool poolSettings = jackpotProperties.getPools().get(jackpotId);
+        if (poolSettings != null && poolSettings.isStriped()) {
+            int stripes = poolSettings.getStripes() > 0
+                    ? poolSettings.getStripes() : Runtime.getRuntime().availableProcessors();
+            jackpot.enableStriping(stripes);
+            log.info("Jackpot {} uses a striped pool with {} stripes", jackpotId, stripes);
+        }
+        
         return jackpotRepository.save(jackpot);
     }
     
@@ -49,6 +61,13 @@ public class JackpotService {
         return jackpotRepository.findAll();
     }
     
+    /**
+     * Returns a live, read-only view of all jackpots, for callers that only iterate them
+     */
+    public Collection<Jackpot> getAllJackpotsView() {
+        return jackpotRepository.findAllView();
+    }
+    
     /**
      * Updates a jackpot's current amount
      */
@@ -58,6 +77,28 @@ public class JackpotService {
         return jackpotRepository.save(jackpot);
     }
     
+    /**
+     * Atomically adds a contribution, in minor units, to a jackpot's pool.
+     * The pool is swapped in place on the stored jackpot, so no repository write is needed.
+     * 
+     * @return the pool amount in minor units including this contribution
+     */
+    public long contribute(Jackpot jackpot, long contributionCents) {
+        return jackpot.addContributionCents(contributionCents);
+    }
+    
+    /**
+     * Atomically pays out a jackpot's pool and resets it to the initial amount
+     * 
+     * @return the pool state that was paid out
+     */
+    public JackpotPool claimJackpot(Jackpot jackpot) {
+        JackpotPool claimed = jackpot.claimAndReset();
+        log.info("Jackpot {} claimed at {} and reset to initial amount: {}", 
+                jackpot.getJackpotId(), claimed.getAmount(), jackpot.getInitialAmount());
+        return claimed;
+    }
+    
     /**
      * Resets a jackpot to its initial amount
      */
@@ -75,4 +116,11 @@ public class JackpotService {
     public boolean jackpotExists(String jackpotId) {
         return jackpotRepository.existsById(jackpotId);
     }
+    
+    /**
+     * Returns the number of jackpots
+     */
+    public long countJackpots() {
+        return jackpotRepository.count();
+    }
 }
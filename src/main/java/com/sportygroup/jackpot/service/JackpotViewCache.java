@@ -0,0 +1,154 @@
+package com.sportygroup.jackpot.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportygroup.jackpot.domain.Jackpot;
+import com.sportygroup.jackpot.domain.JackpotPool;
+import com.sportygroup.jackpot.dto.JackpotInfoResponse;
+import com.sportygroup.jackpot.repository.JackpotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-side cache of serialized jackpot views.
+ * Each jackpot keeps its JSON and ETag until its pool or configuration changes, and the list of all jackpots
+ * is stitched together from those per-jackpot views. A read only compares the current pool snapshot
+ * with the cached one, so reads stay cheap however many contributions the write side applies.
+ */
+@Service
+@RequiredArgsConstructor
+public class JackpotViewCache {
+    
+    private final JackpotRepository jackpotRepository;
+    private final ObjectMapper objectMapper;
+    private final Map<String, CachedView> views = new ConcurrentHashMap<>();
+    private volatile ListView listView;
+    
+    /**
+     * Serialized jackpot view with the strong ETag of its content
+     */
+    public record JackpotView(byte[] json, String etag) {
+    }
+    
+    /**
+     * Retrieves the view of a jackpot, rebuilding it only when the jackpot changed
+     */
+    public Optional<JackpotView> getJackpotView(String jackpotId) {
+        return jackpotRepository.findById(jackpotId).map(this::viewOf);
+    }
+    
+    /**
+     * Retrieves the view of all jackpots as a JSON array, rebuilding it only when a jackpot changed
+     */
+    public JackpotView getAllJackpotsView() {
+        Collection<Jackpot> jackpots = jackpotRepository.findAllView();
+        ListView current = listView;
+        if (current != null && isCurrent(current, jackpots)) {
+            return current.view();
+        }
+        List<JackpotView> parts = jackpots.stream().map(this::viewOf).toList();
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        json.write('[');
+        for (int i = 0; i < parts.size(); i++) {
+            if (i > 0) {
+                json.write(',');
+            }
+            json.writeBytes(parts.get(i).json());
+        }
+        json.write(']');
+        ListView rebuilt = new ListView(parts, view(json.toByteArray()));
+        listView = rebuilt;
+        return rebuilt.view();
+    }
+    
+    private JackpotView viewOf(Jackpot jackpot) {
+        JackpotPool pool = jackpot.snapshot();
+        CachedView cached = views.get(jackpot.getJackpotId());
+        if (cached != null && cached.matches(jackpot, pool)) {
+            return cached.view();
+        }
+        // Racing rebuilds are harmless: a view overwritten with an older state is rebuilt by the next read
+        CachedView rebuilt = CachedView.of(jackpot, pool, view(serialize(toResponse(jackpot, pool))));
+        views.put(jackpot.getJackpotId(), rebuilt);
+        return rebuilt.view();
+    }
+    
+    private boolean isCurrent(ListView current, Collection<Jackpot> jackpots) {
+        // Each part is compared by identity: it is the same object as long as its jackpot did not change
+        Iterator<JackpotView> parts = current.parts().iterator();
+        for (Jackpot jackpot : jackpots) {
+            if (!parts.hasNext() || parts.next() != viewOf(jackpot)) {
+                return false;
+            }
+        }
+        return !parts.hasNext();
+    }
+    
+    private JackpotInfoResponse toResponse(Jackpot jackpot, JackpotPool pool) {
+        // Amount and update time come from one snapshot, so they always belong together
+        return JackpotInfoResponse.builder()
+                .jackpotId(jackpot.getJackpotId())
+                .name(jackpot.getName())
+                .currentAmount(pool.getAmount())
+                .initialAmount(jackpot.getInitialAmount())
+                .contributionType(jackpot.getContributionType().name())
+                .rewardType(jackpot.getRewardType().name())
+                .createdAt(jackpot.getCreatedAt())
+                .updatedAt(pool.getUpdatedAt())
+                .build();
+    }
+    
+    private byte[] serialize(JackpotInfoResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private static JackpotView view(byte[] json) {
+        return new JackpotView(json, "\"" + DigestUtils.md5DigestAsHex(json) + "\"");
+    }
+    
+    /**
+     * View of a jackpot together with the state it was built from
+     */
+    private record CachedView(JackpotView view, Jackpot jackpot, JackpotPool pool, String name,
+                              BigDecimal initialAmount, Jackpot.ContributionType contributionType,
+                              Jackpot.RewardType rewardType, LocalDateTime createdAt) {
+        
+        static CachedView of(Jackpot jackpot, JackpotPool pool, JackpotView view) {
+            return new CachedView(view, jackpot, pool, jackpot.getName(), jackpot.getInitialAmount(),
+                    jackpot.getContributionType(), jackpot.getRewardType(), jackpot.getCreatedAt());
+        }
+        
+        boolean matches(Jackpot current, JackpotPool currentPool) {
+            // Configuration fields are compared by reference: setters replace them, they are never mutated
+            return jackpot == current
+                    && pool.equals(currentPool)
+                    && name == current.getName()
+                    && initialAmount == current.getInitialAmount()
+                    && contributionType == current.getContributionType()
+                    && rewardType == current.getRewardType()
+                    && createdAt == current.getCreatedAt();
+        }
+    }
+    
+    /**
+     * View of all jackpots together with the per-jackpot views it was stitched from
+     */
+    private record ListView(List<JackpotView> parts, JackpotView view) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.sportygroup.jackpot.strategy;
 
 import com.sportygroup.jackpot.domain.Jackpot;
+import com.sportygroup.jackpot.domain.Money;
 
 import java.math.BigDecimal;
 
@@ -19,6 +20,45 @@ public interface ContributionStrategy {
      */
     BigDecimal calculateContribution(BigDecimal betAmount, Jackpot jackpot);
     
+    /**
+     * Calculates the contribution in minor units (see {@link Money}) for a bet amount in minor units.
+     * Implementations must round exactly like {@link #calculateContribution(BigDecimal, Jackpot)};
+     * the default delegates to it.
+     * 
+     * @param betAmountCents the amount of the bet, in minor units
+     * @param jackpot the jackpot to contribute to
+     * @return the contribution amount, in minor units
+     */
+    default long calculateContributionCents(long betAmountCents, Jackpot jackpot) {
+        return Money.toCents(calculateContribution(Money.toBigDecimal(betAmountCents), jackpot));
+    }
+    
+    /**
+     * Calculates the contribution with the parameters compiled for the jackpot.
+     * The default ignores them and reads the configuration, like {@link #calculateContribution(BigDecimal, Jackpot)}.
+     * 
+     * @param betAmount the amount of the bet
+     * @param jackpot the jackpot to contribute to
+     * @param parameters the jackpot's compiled strategy parameters
+     * @return the contribution amount
+     */
+    default BigDecimal calculateContribution(BigDecimal betAmount, Jackpot jackpot, StrategyParameters parameters) {
+        return calculateContribution(betAmount, jackpot);
+    }
+    
+    /**
+     * Calculates the contribution in minor units with the parameters compiled for the jackpot.
+     * The default ignores them and reads the configuration, like {@link #calculateContributionCents(long, Jackpot)}.
+     * 
+     * @param betAmountCents the amount of the bet, in minor units
+     * @param jackpot the jackpot to contribute to
+     * @param parameters the jackpot's compiled strategy parameters
+     * @return the contribution amount, in minor units
+     */
+    default long calculateContributionCents(long betAmountCents, Jackpot jackpot, StrategyParameters parameters) {
+        return calculateContributionCents(betAmountCents, jackpot);
+    }
+    
     /**
      * Returns the strategy type identifier
      */
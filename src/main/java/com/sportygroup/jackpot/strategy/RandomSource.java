@@ -0,0 +1,25 @@
+package com.sportygroup.jackpot.strategy;
+
+/**
+ * Source of the random draws behind reward evaluation.
+ * Implementations must be safe to call from every consumer and lane thread at once.
+ */
+public interface RandomSource {
+    
+    /**
+     * Returns the next uniformly distributed value in [0, 1) for a draw on the given jackpot
+     * 
+     * @param jackpotId the jackpot the draw is for
+     * @return a value between 0 (inclusive) and 1 (exclusive)
+     */
+    double nextDouble(String jackpotId);
+    
+    /**
+     * Returns the next uniformly distributed value in [0, bound) for a draw on the given jackpot
+     * 
+     * @param jackpotId the jackpot the draw is for
+     * @param bound the exclusive upper bound, strictly positive
+     * @return a value between 0 (inclusive) and bound (exclusive)
+     */
+    long nextLong(String jackpotId, long bound);
+}
@@ -16,6 +16,31 @@ public interface RewardStrategy {
      */
     boolean evaluateReward(Jackpot jackpot);
     
+    /**
+     * Evaluates if a bet should win a jackpot reward, given the pool amount in minor units.
+     * The default delegates to {@link #evaluateReward(Jackpot)}.
+     * 
+     * @param poolAmountCents the current pool amount, in minor units
+     * @param jackpot the jackpot to evaluate against
+     * @return true if the bet wins the jackpot reward, false otherwise
+     */
+    default boolean evaluateReward(long poolAmountCents, Jackpot jackpot) {
+        return evaluateReward(jackpot);
+    }
+    
+    /**
+     * Evaluates if a bet should win a jackpot reward with the parameters compiled for the jackpot.
+     * The default ignores them and reads the configuration, like {@link #evaluateReward(long, Jackpot)}.
+     * 
+     * @param poolAmountCents the current pool amount, in minor units
+     * @param jackpot the jackpot to evaluate against
+     * @param parameters the jackpot's compiled strategy parameters
+     * @return true if the bet wins the jackpot reward, false otherwise
+     */
+    default boolean evaluateReward(long poolAmountCents, Jackpot jackpot, StrategyParameters parameters) {
+        return evaluateReward(poolAmountCents, jackpot);
+    }
+    
     /**
      * Returns the strategy type identifier
      */
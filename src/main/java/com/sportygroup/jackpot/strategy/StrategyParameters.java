@@ -0,0 +1,196 @@
+package com.sportygroup.jackpot.strategy;
+
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.domain.Money;
+
+import java.math.BigDecimal;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Strategy parameters compiled for one jackpot.
+ * Each section keeps the configured values for the exact BigDecimal calculation next to their pre-scaled
+ * fixed-point forms (see {@link Money}), so strategies read no configuration per bet.
+ * A value without an exact fixed-point form is held as {@link Money#NOT_REPRESENTABLE},
+ * which sends the strategy to its BigDecimal calculation.
+ * 
+ * @param fixedContribution parameters of the fixed contribution strategy
+ * @param variableContribution parameters of the variable contribution strategy
+ * @param fixedReward parameters of the fixed reward strategy
+ * @param variableReward parameters of the variable reward strategy
+ */
+public record StrategyParameters(FixedContribution fixedContribution, VariableContribution variableContribution,
+                                 FixedReward fixedReward, VariableReward variableReward) {
+    
+    /**
+     * Probability 1 at scale 11, the scale of the pre-scaled chances
+     */
+    public static final long CHANCE_ONE = Money.RATE_ONE * 100L;
+    
+    /**
+     * Compiles every section of the given strategy configuration
+     */
+    public static StrategyParameters compile(JackpotProperties.Strategies strategies) {
+        return new StrategyParameters(
+                FixedContribution.of(strategies.getFixedContribution()),
+                VariableContribution.of(strategies.getVariableContribution()),
+                FixedReward.of(strategies.getFixedReward()),
+                VariableReward.of(strategies.getVariableReward()));
+    }
+    
+    /**
+     * A compiled section that can tell whether it is still up to date with its configuration.
+     * Setters replace the immutable configured values, so comparing references catches every change.
+     */
+    public interface Section<C> {
+        
+        boolean isCompiledFrom(C config);
+    }
+    
+    /**
+     * One section of the global strategy configuration, compiled once and again only after it changed.
+     * Serves the strategy methods called without compiled parameters.
+     */
+    public static final class Configured<C, S extends Section<C>> {
+        
+        private final Supplier<C> config;
+        private final Function<C, S> compiler;
+        private volatile S compiled;
+        
+        public Configured(Supplier<C> config, Function<C, S> compiler) {
+            this.config = config;
+            this.compiler = compiler;
+        }
+        
+        /**
+         * Returns the section compiled from the current configuration
+         */
+        public S get() {
+            C current = config.get();
+            S section = compiled;
+            if (section == null || !section.isCompiledFrom(current)) {
+                section = compiler.apply(current);
+                compiled = section;
+            }
+            return section;
+        }
+    }
+    
+    /**
+     * Converts a rate to nano-units times cents (scale 11), the scale the variable strategies calculate at
+     */
+    private static long toScaledRate(BigDecimal rate) {
+        long rateNanos = Money.toRateNanos(rate);
+        if (rateNanos == Money.NOT_REPRESENTABLE) {
+            return Money.NOT_REPRESENTABLE;
+        }
+        try {
+            return Math.multiplyExact(rateNanos, 100L);
+        } catch (ArithmeticException overflow) {
+            return Money.NOT_REPRESENTABLE;
+        }
+    }
+    
+    /**
+     * @param percentage share of the bet that goes to the pool
+     * @param percentageNanos the percentage in nano-units
+     */
+    public record FixedContribution(BigDecimal percentage, long percentageNanos)
+            implements Section<JackpotProperties.Strategies.FixedContribution> {
+        
+        public static FixedContribution of(JackpotProperties.Strategies.FixedContribution config) {
+            return new FixedContribution(config.getPercentage(), Money.toRateNanos(config.getPercentage()));
+        }
+        
+        @Override
+        public boolean isCompiledFrom(JackpotProperties.Strategies.FixedContribution config) {
+            return percentage == config.getPercentage();
+        }
+    }
+    
+    /**
+     * @param initialPercentage share of the bet that goes to the pool while it is at its initial amount
+     * @param decayRate percentage lost per unit of pool increase
+     * @param initialPercentageScaled the initial percentage at scale 11
+     * @param decayRateNanos the decay rate in nano-units
+     */
+    public record VariableContribution(BigDecimal initialPercentage, BigDecimal decayRate,
+                                       long initialPercentageScaled, long decayRateNanos)
+            implements Section<JackpotProperties.Strategies.VariableContribution> {
+        
+        public static VariableContribution of(JackpotProperties.Strategies.VariableContribution config) {
+            return new VariableContribution(config.getInitialPercentage(), config.getDecayRate(),
+                    toScaledRate(config.getInitialPercentage()), Money.toRateNanos(config.getDecayRate()));
+        }
+        
+        @Override
+        public boolean isCompiledFrom(JackpotProperties.Strategies.VariableContribution config) {
+            return initialPercentage == config.getInitialPercentage() && decayRate == config.getDecayRate();
+        }
+    }
+    
+    /**
+     * @param chancePercentage probability of a win per bet, as configured
+     * @param chance the probability as a double
+     */
+    public record FixedReward(BigDecimal chancePercentage, double chance)
+            implements Section<JackpotProperties.Strategies.FixedReward> {
+        
+        public static FixedReward of(JackpotProperties.Strategies.FixedReward config) {
+            return new FixedReward(config.getChancePercentage(), config.getChancePercentage().doubleValue());
+        }
+        
+        @Override
+        public boolean isCompiledFrom(JackpotProperties.Strategies.FixedReward config) {
+            return chancePercentage == config.getChancePercentage();
+        }
+    }
+    
+    /**
+     * @param baseChance probability of a win while the pool is at its initial amount
+     * @param increaseRate probability gained per unit of pool increase
+     * @param maxChance upper bound of the probability
+     * @param triggerLimit pool amount from which every bet wins
+     * @param baseChanceScaled the base chance at scale 11
+     * @param increaseRateNanos the increase rate in nano-units
+     * @param maxChanceScaled the maximum chance at scale 11
+     * @param triggerLimitCents the trigger limit in minor units
+     * @param saturationIncreaseCents pool increase, in minor units, from which the chance stays at its maximum
+     */
+    public record VariableReward(BigDecimal baseChance, BigDecimal increaseRate, BigDecimal maxChance,
+                                 BigDecimal triggerLimit, long baseChanceScaled, long increaseRateNanos,
+                                 long maxChanceScaled, long triggerLimitCents, long saturationIncreaseCents)
+            implements Section<JackpotProperties.Strategies.VariableReward> {
+        
+        public static VariableReward of(JackpotProperties.Strategies.VariableReward config) {
+            long baseChanceScaled = toScaledRate(config.getBaseChance());
+            long increaseRateNanos = Money.toRateNanos(config.getIncreaseRate());
+            long maxChanceScaled = toScaledRate(config.getMaxChance());
+            return new VariableReward(config.getBaseChance(), config.getIncreaseRate(), config.getMaxChance(),
+                    config.getTriggerLimit(), baseChanceScaled, increaseRateNanos, maxChanceScaled,
+                    Money.toCentsExact(config.getTriggerLimit()),
+                    saturationIncrease(baseChanceScaled, increaseRateNanos, maxChanceScaled));
+        }
+        
+        @Override
+        public boolean isCompiledFrom(JackpotProperties.Strategies.VariableReward config) {
+            return baseChance == config.getBaseChance() && increaseRate == config.getIncreaseRate()
+                    && maxChance == config.getMaxChance() && triggerLimit == config.getTriggerLimit();
+        }
+        
+        /**
+         * Smallest pool increase at which base + increase x rate reaches the maximum; past it the chance is a constant
+         */
+        private static long saturationIncrease(long baseChanceScaled, long increaseRateNanos, long maxChanceScaled) {
+            if (baseChanceScaled == Money.NOT_REPRESENTABLE || increaseRateNanos == Money.NOT_REPRESENTABLE
+                    || maxChanceScaled == Money.NOT_REPRESENTABLE) {
+                return Money.NOT_REPRESENTABLE;
+            }
+            if (increaseRateNanos <= 0) {
+                return Long.MAX_VALUE;
+            }
+            long headroom = maxChanceScaled - baseChanceScaled;
+            return headroom <= 0 ? 0 : Math.ceilDiv(headroom, increaseRateNanos);
+        }
+    }
+}
@@ -2,8 +2,9 @@ package com.sportygroup.jackpot.strategy.impl;
 
 import com.sportygroup.jackpot.config.JackpotProperties;
 import com.sportygroup.jackpot.domain.Jackpot;
+import com.sportygroup.jackpot.domain.Money;
 import com.sportygroup.jackpot.strategy.ContributionStrategy;
-import lombok.RequiredArgsConstructor;
+import com.sportygroup.jackpot.strategy.StrategyParameters;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -14,19 +15,53 @@ import java.math.RoundingMode;
  * Calculates contribution as a fixed percentage of the bet amount.
  */
 @Component
-@RequiredArgsConstructor
 public class FixedContributionStrategy implements ContributionStrategy {
     
-    private final JackpotProperties jackpotProperties;
+    private final StrategyParameters.Configured<JackpotProperties.Strategies.FixedContribution,
+            StrategyParameters.FixedContribution> configured;
+    
+    public FixedContributionStrategy(JackpotProperties jackpotProperties) {
+        this.configured = new StrategyParameters.Configured<>(
+                () -> jackpotProperties.getStrategies().getFixedContribution(), StrategyParameters.FixedContribution::of);
+    }
     
     @Override
     public BigDecimal calculateContribution(BigDecimal betAmount, Jackpot jackpot) {
-        BigDecimal percentage = jackpotProperties.getStrategies().getFixedContribution().getPercentage();
-        return betAmount.multiply(percentage).setScale(2, RoundingMode.HALF_UP);
+        return calculate(betAmount, configured.get());
+    }
+    
+    @Override
+    public BigDecimal calculateContribution(BigDecimal betAmount, Jackpot jackpot, StrategyParameters parameters) {
+        return calculate(betAmount, parameters.fixedContribution());
+    }
+    
+    @Override
+    public long calculateContributionCents(long betAmountCents, Jackpot jackpot) {
+        return calculateCents(betAmountCents, configured.get());
+    }
+    
+    @Override
+    public long calculateContributionCents(long betAmountCents, Jackpot jackpot, StrategyParameters parameters) {
+        return calculateCents(betAmountCents, parameters.fixedContribution());
     }
     
     @Override
     public String getStrategyType() {
         return "FIXED";
     }
+    
+    private static BigDecimal calculate(BigDecimal betAmount, StrategyParameters.FixedContribution parameters) {
+        return betAmount.multiply(parameters.percentage()).setScale(2, RoundingMode.HALF_UP);
+    }
+    
+    private static long calculateCents(long betAmountCents, StrategyParameters.FixedContribution parameters) {
+        if (parameters.percentageNanos() != Money.NOT_REPRESENTABLE) {
+            try {
+                return Money.applyRate(betAmountCents, parameters.percentageNanos());
+            } catch (ArithmeticException overflow) {
+                // Fall through to the exact BigDecimal calculation
+            }
+        }
+        return Money.toCents(calculate(Money.toBigDecimal(betAmountCents), parameters));
+    }
 }
@@ -2,33 +2,45 @@ package com.sportygroup.jackpot.strategy.impl;
 
 import com.sportygroup.jackpot.config.JackpotProperties;
 import com.sportygroup.jackpot.domain.Jackpot;
+import com.sportygroup.jackpot.strategy.RandomSource;
 import com.sportygroup.jackpot.strategy.RewardStrategy;
-import lombok.RequiredArgsConstructor;
+import com.sportygroup.jackpot.strategy.StrategyParameters;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
-import java.util.Random;
-
 /**
  * Fixed reward strategy implementation.
  * Evaluates rewards based on a fixed chance percentage.
  */
 @Component
-@RequiredArgsConstructor
 public class FixedRewardStrategy implements RewardStrategy {
     
-    private final JackpotProperties jackpotProperties;
-    private final Random random = new Random();
+    private final StrategyParameters.Configured<JackpotProperties.Strategies.FixedReward,
+            StrategyParameters.FixedReward> configured;
+    private final RandomSource randomSource;
+    
+    public FixedRewardStrategy(JackpotProperties jackpotProperties, RandomSource randomSource) {
+        this.configured = new StrategyParameters.Configured<>(
+                () -> jackpotProperties.getStrategies().getFixedReward(), StrategyParameters.FixedReward::of);
+        this.randomSource = randomSource;
+    }
     
     @Override
     public boolean evaluateReward(Jackpot jackpot) {
-        BigDecimal chancePercentage = jackpotProperties.getStrategies().getFixedReward().getChancePercentage();
-        double randomValue = random.nextDouble();
-        return randomValue < chancePercentage.doubleValue();
+        return evaluate(jackpot, configured.get());
+    }
+    
+    @Override
+    public boolean evaluateReward(long poolAmountCents, Jackpot jackpot, StrategyParameters parameters) {
+        return evaluate(jackpot, parameters.fixedReward());
     }
     
     @Override
     public String getStrategyType() {
         return "FIXED";
     }
+    
+    private boolean evaluate(Jackpot jackpot, StrategyParameters.FixedReward parameters) {
+        double randomValue = randomSource.nextDouble(jackpot.getJackpotId());
+        return randomValue < parameters.chance();
+    }
 }
@@ -0,0 +1,44 @@
+package com.sportygroup.jackpot.strategy.impl;
+
+import com.sportygroup.jackpot.strategy.RandomSource;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deterministic random source for reproducible simulations and audits.
+ * Every jackpot draws from its own generator seeded from the configured seed and the jackpot ID, so a jackpot's
+ * draws depend only on its own bet order, which the per-jackpot lanes keep, and not on how threads interleave.
+ */
+public class SeededRandomSource implements RandomSource {
+    
+    private final long seed;
+    private final Map<String, SplittableRandom> generators = new ConcurrentHashMap<>();
+    
+    public SeededRandomSource(long seed) {
+        this.seed = seed;
+    }
+    
+    @Override
+    public double nextDouble(String jackpotId) {
+        SplittableRandom generator = generator(jackpotId);
+        // Uncontended with lanes enabled: only the jackpot's lane draws from its generator
+        synchronized (generator) {
+            return generator.nextDouble();
+        }
+    }
+    
+    @Override
+    public long nextLong(String jackpotId, long bound) {
+        SplittableRandom generator = generator(jackpotId);
+        synchronized (generator) {
+            return generator.nextLong(bound);
+        }
+    }
+    
+    private SplittableRandom generator(String jackpotId) {
+        return generators.computeIfAbsent(jackpotId != null ? jackpotId : "",
+                id -> new SplittableRandom(seed ^ (id.hashCode() * 0x9E3779B97F4A7C15L)));
+    }
+}
@@ -0,0 +1,22 @@
+package com.sportygroup.jackpot.strategy.impl;
+
+import com.sportygroup.jackpot.strategy.RandomSource;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Random source drawing from each thread's own generator.
+ * Threads share no seed, so draws never contend, unlike a shared java.util.Random whose seed is updated by CAS.
+ */
+public class ThreadLocalRandomSource implements RandomSource {
+    
+    @Override
+    public double nextDouble(String jackpotId) {
+        return ThreadLocalRandom.current().nextDouble();
+    }
+    
+    @Override
+    public long nextLong(String jackpotId, long bound) {
+        return ThreadLocalRandom.current().nextLong(bound);
+    }
+}
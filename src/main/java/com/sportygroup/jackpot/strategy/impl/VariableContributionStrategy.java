@@ -2,8 +2,9 @@ package com.sportygroup.jackpot.strategy.impl;
 
 import com.sportygroup.jackpot.config.JackpotProperties;
 import com.sportygroup.jackpot.domain.Jackpot;
+import com.sportygroup.jackpot.domain.Money;
 import com.sportygroup.jackpot.strategy.ContributionStrategy;
-import lombok.RequiredArgsConstructor;
+import com.sportygroup.jackpot.strategy.StrategyParameters;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -14,20 +15,47 @@ import java.math.RoundingMode;
  * Calculates contribution as a variable percentage that decreases as the jackpot pool increases.
  */
 @Component
-@RequiredArgsConstructor
 public class VariableContributionStrategy implements ContributionStrategy {
     
-    private final JackpotProperties jackpotProperties;
+    private final StrategyParameters.Configured<JackpotProperties.Strategies.VariableContribution,
+            StrategyParameters.VariableContribution> configured;
+    
+    public VariableContributionStrategy(JackpotProperties jackpotProperties) {
+        this.configured = new StrategyParameters.Configured<>(
+                () -> jackpotProperties.getStrategies().getVariableContribution(), StrategyParameters.VariableContribution::of);
+    }
     
     @Override
     public BigDecimal calculateContribution(BigDecimal betAmount, Jackpot jackpot) {
-        BigDecimal initialPercentage = jackpotProperties.getStrategies().getVariableContribution().getInitialPercentage();
-        BigDecimal decayRate = jackpotProperties.getStrategies().getVariableContribution().getDecayRate();
-        
+        return calculate(betAmount, jackpot, configured.get());
+    }
+    
+    @Override
+    public BigDecimal calculateContribution(BigDecimal betAmount, Jackpot jackpot, StrategyParameters parameters) {
+        return calculate(betAmount, jackpot, parameters.variableContribution());
+    }
+    
+    @Override
+    public long calculateContributionCents(long betAmountCents, Jackpot jackpot) {
+        return calculateCents(betAmountCents, jackpot, configured.get());
+    }
+    
+    @Override
+    public long calculateContributionCents(long betAmountCents, Jackpot jackpot, StrategyParameters parameters) {
+        return calculateCents(betAmountCents, jackpot, parameters.variableContribution());
+    }
+    
+    @Override
+    public String getStrategyType() {
+        return "VARIABLE";
+    }
+    
+    private static BigDecimal calculate(BigDecimal betAmount, Jackpot jackpot,
+                                        StrategyParameters.VariableContribution parameters) {
         // Calculate current percentage based on jackpot amount
         BigDecimal poolIncrease = jackpot.getCurrentAmount().subtract(jackpot.getInitialAmount());
-        BigDecimal decayAmount = poolIncrease.multiply(decayRate);
-        BigDecimal currentPercentage = initialPercentage.subtract(decayAmount);
+        BigDecimal decayAmount = poolIncrease.multiply(parameters.decayRate());
+        BigDecimal currentPercentage = parameters.initialPercentage().subtract(decayAmount);
         
         // Ensure percentage doesn't go below 0
         if (currentPercentage.compareTo(BigDecimal.ZERO) < 0) {
@@ -37,8 +65,27 @@ public class VariableContributionStrategy implements ContributionStrategy {
         return betAmount.multiply(currentPercentage).setScale(2, RoundingMode.HALF_UP);
     }
     
-    @Override
-    public String getStrategyType() {
-        return "VARIABLE";
+    private static long calculateCents(long betAmountCents, Jackpot jackpot,
+                                       StrategyParameters.VariableContribution parameters) {
+        if (parameters.initialPercentageScaled() != Money.NOT_REPRESENTABLE
+                && parameters.decayRateNanos() != Money.NOT_REPRESENTABLE) {
+            try {
+                // Percentage at scale 11 (nano-units x cents), so the decay term stays exact
+                long poolIncreaseCents = jackpot.getCurrentAmountCents() - jackpot.getInitialAmountCents();
+                long currentPercentage = Math.subtractExact(
+                        parameters.initialPercentageScaled(),
+                        Math.multiplyExact(poolIncreaseCents, parameters.decayRateNanos()));
+                
+                // Ensure percentage doesn't go below 0
+                if (currentPercentage < 0) {
+                    currentPercentage = 0;
+                }
+                
+                return Money.divideHalfUp(Math.multiplyExact(betAmountCents, currentPercentage), Money.RATE_ONE * 100L);
+            } catch (ArithmeticException overflow) {
+                // Fall through to the exact BigDecimal calculation
+            }
+        }
+        return Money.toCents(calculate(Money.toBigDecimal(betAmountCents), jackpot, parameters));
     }
 }
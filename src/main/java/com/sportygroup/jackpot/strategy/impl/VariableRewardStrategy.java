@@ -2,54 +2,101 @@ package com.sportygroup.jackpot.strategy.impl;
 
 import com.sportygroup.jackpot.config.JackpotProperties;
 import com.sportygroup.jackpot.domain.Jackpot;
+import com.sportygroup.jackpot.domain.Money;
+import com.sportygroup.jackpot.strategy.RandomSource;
 import com.sportygroup.jackpot.strategy.RewardStrategy;
-import lombok.RequiredArgsConstructor;
+import com.sportygroup.jackpot.strategy.StrategyParameters;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.util.Random;
 
 /**
  * Variable reward strategy implementation.
  * Evaluates rewards based on a variable chance that increases with jackpot pool size.
  */
 @Component
-@RequiredArgsConstructor
 public class VariableRewardStrategy implements RewardStrategy {
     
-    private final JackpotProperties jackpotProperties;
-    private final Random random = new Random();
+    private final StrategyParameters.Configured<JackpotProperties.Strategies.VariableReward,
+            StrategyParameters.VariableReward> configured;
+    private final RandomSource randomSource;
+    
+    public VariableRewardStrategy(JackpotProperties jackpotProperties, RandomSource randomSource) {
+        this.configured = new StrategyParameters.Configured<>(
+                () -> jackpotProperties.getStrategies().getVariableReward(), StrategyParameters.VariableReward::of);
+        this.randomSource = randomSource;
+    }
     
     @Override
     public boolean evaluateReward(Jackpot jackpot) {
-        JackpotProperties.Strategies.VariableReward config = jackpotProperties.getStrategies().getVariableReward();
-        
-        BigDecimal baseChance = config.getBaseChance();
-        BigDecimal increaseRate = config.getIncreaseRate();
-        BigDecimal maxChance = config.getMaxChance();
-        BigDecimal triggerLimit = config.getTriggerLimit();
-        
+        return evaluate(jackpot, configured.get());
+    }
+    
+    @Override
+    public boolean evaluateReward(long poolAmountCents, Jackpot jackpot) {
+        return evaluateCents(poolAmountCents, jackpot, configured.get());
+    }
+    
+    @Override
+    public boolean evaluateReward(long poolAmountCents, Jackpot jackpot, StrategyParameters parameters) {
+        return evaluateCents(poolAmountCents, jackpot, parameters.variableReward());
+    }
+    
+    @Override
+    public String getStrategyType() {
+        return "VARIABLE";
+    }
+    
+    private boolean evaluate(Jackpot jackpot, StrategyParameters.VariableReward parameters) {
         // If jackpot exceeds trigger limit, chance becomes 100%
-        if (jackpot.getCurrentAmount().compareTo(triggerLimit) >= 0) {
+        if (jackpot.getCurrentAmount().compareTo(parameters.triggerLimit()) >= 0) {
             return true;
         }
         
         // Calculate current chance based on jackpot amount
         BigDecimal poolIncrease = jackpot.getCurrentAmount().subtract(jackpot.getInitialAmount());
-        BigDecimal chanceIncrease = poolIncrease.multiply(increaseRate);
-        BigDecimal currentChance = baseChance.add(chanceIncrease);
+        BigDecimal chanceIncrease = poolIncrease.multiply(parameters.increaseRate());
+        BigDecimal currentChance = parameters.baseChance().add(chanceIncrease);
         
         // Ensure chance doesn't exceed maximum
-        if (currentChance.compareTo(maxChance) > 0) {
-            currentChance = maxChance;
+        if (currentChance.compareTo(parameters.maxChance()) > 0) {
+            currentChance = parameters.maxChance();
         }
         
-        double randomValue = random.nextDouble();
+        double randomValue = randomSource.nextDouble(jackpot.getJackpotId());
         return randomValue < currentChance.doubleValue();
     }
     
-    @Override
-    public String getStrategyType() {
-        return "VARIABLE";
+    /**
+     * Integer form of the evaluation: the pool becomes a win threshold at scale 11, compared with one random long
+     * drawn below {@link StrategyParameters#CHANCE_ONE}. Wins with the same probability as the BigDecimal calculation.
+     */
+    private boolean evaluateCents(long poolAmountCents, Jackpot jackpot, StrategyParameters.VariableReward parameters) {
+        if (parameters.saturationIncreaseCents() == Money.NOT_REPRESENTABLE
+                || parameters.triggerLimitCents() == Money.NOT_REPRESENTABLE) {
+            return evaluate(jackpot, parameters);
+        }
+        
+        // If jackpot exceeds trigger limit, chance becomes 100%
+        if (poolAmountCents >= parameters.triggerLimitCents()) {
+            return true;
+        }
+        
+        // Past the saturation point the chance is the maximum; below it the product cannot overflow upwards
+        long poolIncreaseCents = poolAmountCents - jackpot.getInitialAmountCents();
+        long threshold;
+        if (poolIncreaseCents >= parameters.saturationIncreaseCents()) {
+            threshold = parameters.maxChanceScaled();
+        } else {
+            try {
+                threshold = Math.min(parameters.maxChanceScaled(), Math.addExact(
+                        parameters.baseChanceScaled(),
+                        Math.multiplyExact(poolIncreaseCents, parameters.increaseRateNanos())));
+            } catch (ArithmeticException overflow) {
+                return evaluate(jackpot, parameters);
+            }
+        }
+        
+        return randomSource.nextLong(jackpot.getJackpotId(), StrategyParameters.CHANCE_ONE) < threshold;
     }
 }
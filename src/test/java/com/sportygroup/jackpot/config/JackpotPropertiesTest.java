@@ -0,0 +1,48 @@
+package com.sportygroup.jackpot.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for JackpotProperties.
+ * Tests deriving the listener concurrency from the partition count of the bets topic.
+ */
+class JackpotPropertiesTest {
+    
+    private JackpotProperties jackpotProperties;
+    
+    @BeforeEach
+    void setUp() {
+        jackpotProperties = new JackpotProperties();
+        jackpotProperties.getTopics().setPartitions(12);
+    }
+    
+    @Test
+    void listenerConcurrency_WhenNotConfigured_ShouldFollowPartitions() {
+        // When / Then
+        assertThat(jackpotProperties.listenerConcurrency()).isEqualTo(12);
+    }
+    
+    @Test
+    void listenerConcurrency_WhenConfiguredWithinPartitions_ShouldUseIt() {
+        // Given
+        jackpotProperties.getConsumer().setConcurrency(4);
+        
+        // When / Then
+        assertThat(jackpotProperties.listenerConcurrency()).isEqualTo(4);
+    }
+    
+    @Test
+    void listenerConcurrency_WhenConfiguredAbovePartitions_ShouldFail() {
+        // Given
+        jackpotProperties.getConsumer().setConcurrency(16);
+        
+        // When / Then
+        assertThatThrownBy(() -> jackpotProperties.listenerConcurrency())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("jackpot.topics.partitions");
+    }
+}
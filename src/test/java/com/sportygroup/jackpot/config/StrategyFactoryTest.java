@@ -0,0 +1,84 @@
+package com.sportygroup.jackpot.config;
+
+import com.sportygroup.jackpot.domain.Jackpot;
+import com.sportygroup.jackpot.strategy.StrategyParameters;
+import com.sportygroup.jackpot.strategy.impl.FixedContributionStrategy;
+import com.sportygroup.jackpot.strategy.impl.FixedRewardStrategy;
+import com.sportygroup.jackpot.strategy.impl.ThreadLocalRandomSource;
+import com.sportygroup.jackpot.strategy.impl.VariableContributionStrategy;
+import com.sportygroup.jackpot.strategy.impl.VariableRewardStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for StrategyFactory.
+ * Tests compiling strategy parameters per jackpot, per-jackpot parameters and recompiling on refresh.
+ */
+class StrategyFactoryTest {
+    
+    private JackpotProperties jackpotProperties;
+    private StrategyFactory strategyFactory;
+    private Jackpot jackpot;
+    
+    @BeforeEach
+    void setUp() {
+        jackpotProperties = new JackpotProperties();
+        strategyFactory = new StrategyFactory(
+                new FixedContributionStrategy(jackpotProperties),
+                new VariableContributionStrategy(jackpotProperties),
+                new FixedRewardStrategy(jackpotProperties, new ThreadLocalRandomSource()),
+                new VariableRewardStrategy(jackpotProperties, new ThreadLocalRandomSource()),
+                jackpotProperties);
+        jackpot = Jackpot.create("jackpot-1", "Test Jackpot", BigDecimal.valueOf(1000.0),
+                Jackpot.ContributionType.VARIABLE, Jackpot.RewardType.VARIABLE);
+    }
+    
+    @Test
+    void getStrategyParameters_ShouldCompileGlobalParametersOnce() {
+        // When
+        StrategyParameters first = strategyFactory.getStrategyParameters(jackpot);
+        StrategyParameters second = strategyFactory.getStrategyParameters(jackpot);
+        
+        // Then: 5% is 50,000,000 nano-units; 10% at scale 11 is 10,000,000,000
+        assertThat(second).isSameAs(first);
+        assertThat(first.fixedContribution().percentageNanos()).isEqualTo(50_000_000L);
+        assertThat(first.variableContribution().initialPercentageScaled()).isEqualTo(10_000_000_000L);
+        assertThat(first.variableReward().triggerLimitCents()).isEqualTo(1_000_000L);
+    }
+    
+    @Test
+    void setStrategyParameters_ShouldReplaceGlobalParametersForThatJackpotOnly() {
+        // Given
+        Jackpot other = Jackpot.create("jackpot-2", "Other Jackpot", BigDecimal.valueOf(1000.0),
+                Jackpot.ContributionType.FIXED, Jackpot.RewardType.FIXED);
+        strategyFactory.getStrategyParameters(jackpot);
+        JackpotProperties.Strategies own = new JackpotProperties.Strategies();
+        own.getFixedContribution().setPercentage(new BigDecimal("0.20"));
+        
+        // When
+        strategyFactory.setStrategyParameters("jackpot-1", own);
+        
+        // Then
+        assertThat(strategyFactory.getStrategyParameters(jackpot).fixedContribution().percentage())
+                .isEqualByComparingTo("0.20");
+        assertThat(strategyFactory.getStrategyParameters(other).fixedContribution().percentage())
+                .isEqualByComparingTo("0.05");
+    }
+    
+    @Test
+    void refreshStrategyParameters_ShouldRecompileFromChangedConfiguration() {
+        // Given
+        strategyFactory.getStrategyParameters(jackpot);
+        jackpotProperties.getStrategies().getFixedReward().setChancePercentage(new BigDecimal("0.5"));
+        
+        // When
+        strategyFactory.refreshStrategyParameters();
+        
+        // Then
+        assertThat(strategyFactory.getStrategyParameters(jackpot).fixedReward().chance()).isEqualTo(0.5);
+    }
+}
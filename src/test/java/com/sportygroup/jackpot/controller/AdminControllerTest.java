@@ -0,0 +1,134 @@
+package com.sportygroup.jackpot.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.config.StrategyFactory;
+import com.sportygroup.jackpot.domain.Jackpot;
+import com.sportygroup.jackpot.service.JackpotService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for AdminController.
+ * Tests jackpot creation and the validation of per-jackpot strategy parameters.
+ */
+@WebMvcTest(AdminController.class)
+class AdminControllerTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @MockBean
+    private JackpotService jackpotService;
+    
+    @MockBean
+    private StrategyFactory strategyFactory;
+    
+    private Jackpot jackpot() {
+        return Jackpot.create("jackpot-1", "Main Jackpot", BigDecimal.valueOf(1000.0),
+                Jackpot.ContributionType.FIXED, Jackpot.RewardType.VARIABLE);
+    }
+    
+    @Test
+    void createJackpot_ShouldReturnCreatedJackpot() throws Exception {
+        // Given
+        when(jackpotService.createJackpot("jackpot-1", "Main Jackpot",
+                Jackpot.ContributionType.FIXED, Jackpot.RewardType.VARIABLE)).thenReturn(jackpot());
+        
+        // When & Then
+        mockMvc.perform(post("/api/v1/admin/jackpots")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"jackpotId\":\"jackpot-1\",\"name\":\"Main Jackpot\","
+                                + "\"contributionType\":\"FIXED\",\"rewardType\":\"VARIABLE\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.jackpotId").value("jackpot-1"))
+                .andExpect(jsonPath("$.contributionType").value("FIXED"))
+                .andExpect(jsonPath("$.rewardType").value("VARIABLE"));
+    }
+    
+    @Test
+    void setStrategyParameters_WithValidParameters_ShouldApplyThem() throws Exception {
+        // Given
+        JackpotProperties.Strategies strategies = new JackpotProperties.Strategies();
+        strategies.getFixedContribution().setPercentage(BigDecimal.valueOf(0.2));
+        when(jackpotService.getJackpot("jackpot-1")).thenReturn(Optional.of(jackpot()));
+        
+        // When & Then
+        mockMvc.perform(put("/api/v1/admin/jackpots/jackpot-1/strategies")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(strategies)))
+                .andExpect(status().isNoContent());
+        verify(strategyFactory).setStrategyParameters(eq("jackpot-1"), argThat(applied ->
+                applied.getFixedContribution().getPercentage().compareTo(BigDecimal.valueOf(0.2)) == 0));
+    }
+    
+    @Test
+    void setStrategyParameters_WithUnknownJackpot_ShouldReturnNotFound() throws Exception {
+        // Given
+        when(jackpotService.getJackpot("unknown")).thenReturn(Optional.empty());
+        
+        // When & Then
+        mockMvc.perform(put("/api/v1/admin/jackpots/unknown/strategies")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isNotFound());
+        verify(strategyFactory, never()).setStrategyParameters(anyString(), any());
+    }
+    
+    @Test
+    void setStrategyParameters_WithMissingValue_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(put("/api/v1/admin/jackpots/jackpot-1/strategies")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fixedContribution\":{\"percentage\":null}}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(put("/api/v1/admin/jackpots/jackpot-1/strategies")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"variableReward\":null}"))
+                .andExpect(status().isBadRequest());
+        verify(strategyFactory, never()).setStrategyParameters(anyString(), any());
+    }
+    
+    @Test
+    void setStrategyParameters_WithRateOutOfRange_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(put("/api/v1/admin/jackpots/jackpot-1/strategies")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"variableContribution\":{\"decayRate\":-0.001}}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(put("/api/v1/admin/jackpots/jackpot-1/strategies")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fixedReward\":{\"chancePercentage\":1.5}}"))
+                .andExpect(status().isBadRequest());
+        verify(strategyFactory, never()).setStrategyParameters(anyString(), any());
+    }
+    
+    @Test
+    void refreshStrategyParameters_ShouldRecompileEveryJackpot() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/v1/admin/jackpots/strategies/refresh"))
+                .andExpect(status().isNoContent());
+        verify(strategyFactory).refreshStrategyParameters();
+    }
+}
@@ -1,27 +1,45 @@
 package com.sportygroup.jackpot.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.domain.Bet;
 import com.sportygroup.jackpot.domain.Jackpot;
 import com.sportygroup.jackpot.dto.BetRequest;
 import com.sportygroup.jackpot.messaging.BetEventMapper;
 import com.sportygroup.jackpot.messaging.KafkaBetProducer;
 import com.sportygroup.jackpot.messaging.MockKafkaBetProducer;
+import com.sportygroup.jackpot.messaging.PublishOutcome;
+import com.sportygroup.jackpot.repository.Page;
 import com.sportygroup.jackpot.service.BetService;
 import com.sportygroup.jackpot.service.JackpotService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -31,6 +49,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Tests the REST API endpoints for bet operations.
  */
 @WebMvcTest(BetController.class)
+@Import(JackpotProperties.class)
 class BetControllerTest {
     
     @Autowired
@@ -69,18 +88,18 @@ class BetControllerTest {
         
         when(jackpotService.jackpotExists("jackpot-1")).thenReturn(true);
         when(betService.createBet(anyString(), anyString(), any(BigDecimal.class)))
-                .thenReturn(com.sportygroup.jackpot.domain.Bet.builder()
+                .thenReturn(Bet.builder()
                         .betId("bet-1")
                         .userId("user-1")
                         .jackpotId("jackpot-1")
                         .betAmount(BigDecimal.valueOf(100.0))
                         .createdAt(LocalDateTime.now())
                         .build());
+        when(kafkaBetProducer.publishBetEvent(any()))
+                .thenReturn(CompletableFuture.completedFuture(PublishOutcome.ACCEPTED));
         
         // When & Then
-        mockMvc.perform(post("/api/v1/bets")
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .content(objectMapper.writeValueAsString(betRequest)))
+        performPlaceBet(betRequest)
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.betId").exists())
                 .andExpect(jsonPath("$.userId").value("user-1"))
@@ -89,6 +108,62 @@ class BetControllerTest {
                 .andExpect(jsonPath("$.status").value("SUCCESS"));
     }
     
+    @Test
+    void placeBet_WhenPublishFails_ShouldReturnServiceUnavailable() throws Exception {
+        // Given
+        BetRequest betRequest = new BetRequest();
+        betRequest.setUserId("user-1");
+        betRequest.setJackpotId("jackpot-1");
+        betRequest.setBetAmount(BigDecimal.valueOf(100.0));
+        
+        when(jackpotService.jackpotExists("jackpot-1")).thenReturn(true);
+        when(betService.createBet(anyString(), anyString(), any(BigDecimal.class)))
+                .thenReturn(Bet.builder()
+                        .betId("bet-1")
+                        .userId("user-1")
+                        .jackpotId("jackpot-1")
+                        .betAmount(BigDecimal.valueOf(100.0))
+                        .createdAt(LocalDateTime.now())
+                        .build());
+        when(kafkaBetProducer.publishBetEvent(any()))
+                .thenReturn(CompletableFuture.completedFuture(PublishOutcome.REJECTED));
+        
+        // When & Then
+        performPlaceBet(betRequest)
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.betId").value("bet-1"))
+                .andExpect(jsonPath("$.status").value("ERROR"));
+        verify(betService).deleteBet("bet-1");
+    }
+    
+    @Test
+    void placeBet_WhenAckTimesOut_ShouldKeepBetAndReturnAccepted() throws Exception {
+        // Given
+        BetRequest betRequest = new BetRequest();
+        betRequest.setUserId("user-1");
+        betRequest.setJackpotId("jackpot-1");
+        betRequest.setBetAmount(BigDecimal.valueOf(100.0));
+        
+        when(jackpotService.jackpotExists("jackpot-1")).thenReturn(true);
+        when(betService.createBet(anyString(), anyString(), any(BigDecimal.class)))
+                .thenReturn(Bet.builder()
+                        .betId("bet-1")
+                        .userId("user-1")
+                        .jackpotId("jackpot-1")
+                        .betAmount(BigDecimal.valueOf(100.0))
+                        .createdAt(LocalDateTime.now())
+                        .build());
+        when(kafkaBetProducer.publishBetEvent(any()))
+                .thenReturn(CompletableFuture.completedFuture(PublishOutcome.UNKNOWN));
+        
+        // When & Then
+        performPlaceBet(betRequest)
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.betId").value("bet-1"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+        verify(betService, never()).deleteBet(anyString());
+    }
+    
     @Test
     void placeBet_WithNonExistentJackpot_ShouldReturnBadRequest() throws Exception {
         // Given
@@ -100,9 +175,7 @@ class BetControllerTest {
         when(jackpotService.jackpotExists("non-existent")).thenReturn(false);
         
         // When & Then
-        mockMvc.perform(post("/api/v1/bets")
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .content(objectMapper.writeValueAsString(betRequest)))
+        performPlaceBet(betRequest)
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.status").value("ERROR"))
                 .andExpect(jsonPath("$.message").value("Jackpot not found: non-existent"));
@@ -123,11 +196,112 @@ class BetControllerTest {
                 .andExpect(status().isBadRequest());
     }
     
+    @Test
+    void placeBets_WithMixedBets_ShouldReturnPerItemResults() throws Exception {
+        // Given
+        List<BetRequest> betRequests = List.of(
+                new BetRequest("user-1", "jackpot-1", BigDecimal.valueOf(100.0)),
+                new BetRequest("user-2", "non-existent", BigDecimal.valueOf(50.0)),
+                new BetRequest("user-3", "jackpot-1", BigDecimal.valueOf(-10.0)),
+                new BetRequest("user-4", "jackpot-1", BigDecimal.valueOf(20.0)));
+        
+        when(jackpotService.jackpotExists("jackpot-1")).thenReturn(true);
+        when(jackpotService.jackpotExists("non-existent")).thenReturn(false);
+        when(kafkaBetProducer.publishBetEvents(anyList())).thenReturn(new PublishOutcome[]{PublishOutcome.ACCEPTED, PublishOutcome.REJECTED});
+        
+        // When & Then: the second valid bet is not acknowledged and is removed again
+        mockMvc.perform(post("/api/v1/bets/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(betRequests)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.accepted").value(1))
+                .andExpect(jsonPath("$.rejected").value(3))
+                .andExpect(jsonPath("$.results[0].status").value("SUCCESS"))
+                .andExpect(jsonPath("$.results[0].betId").exists())
+                .andExpect(jsonPath("$.results[1].message").value("Jackpot not found: non-existent"))
+                .andExpect(jsonPath("$.results[2].status").value("ERROR"))
+                .andExpect(jsonPath("$.results[3].message").value("Bet could not be accepted, please retry"));
+        verify(jackpotService, times(1)).jackpotExists("jackpot-1");
+        verify(betService).saveBets(argThat(bets -> bets.size() == 2));
+        verify(betService).deleteBet(anyString());
+    }
+    
+    @Test
+    void placeBets_WhenAckTimesOut_ShouldKeepPendingBets() throws Exception {
+        // Given
+        List<BetRequest> betRequests = List.of(
+                new BetRequest("user-1", "jackpot-1", BigDecimal.valueOf(100.0)),
+                new BetRequest("user-2", "jackpot-1", BigDecimal.valueOf(50.0)));
+        
+        when(jackpotService.jackpotExists("jackpot-1")).thenReturn(true);
+        when(kafkaBetProducer.publishBetEvents(anyList()))
+                .thenReturn(new PublishOutcome[]{PublishOutcome.ACCEPTED, PublishOutcome.UNKNOWN});
+        
+        // When & Then: the unacknowledged bet may still be delivered, so it is reported as pending and kept
+        mockMvc.perform(post("/api/v1/bets/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(betRequests)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.accepted").value(1))
+                .andExpect(jsonPath("$.pending").value(1))
+                .andExpect(jsonPath("$.rejected").value(0))
+                .andExpect(jsonPath("$.results[1].status").value("PENDING"))
+                .andExpect(jsonPath("$.results[1].betId").exists());
+        verify(betService, never()).deleteBet(anyString());
+    }
+    
+    @Test
+    void placeBets_WithMalformedArray_ShouldReturnBadRequest() throws Exception {
+        // Given
+        String body = "[" + objectMapper.writeValueAsString(new BetRequest("user-1", "jackpot-1", BigDecimal.ONE)) + ", {";
+        
+        // When & Then
+        mockMvc.perform(post("/api/v1/bets/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Malformed bet at position 2"));
+        verify(betService, never()).saveBets(anyList());
+    }
+    
+    @Test
+    void placeBets_WithNdjsonStream_ShouldPlaceEveryBet() throws Exception {
+        // Given
+        String ndjson = objectMapper.writeValueAsString(new BetRequest("user-1", "jackpot-1", BigDecimal.valueOf(100.0)))
+                + "\n" + objectMapper.writeValueAsString(new BetRequest("user-2", "jackpot-1", BigDecimal.valueOf(5.0)))
+                + "\n";
+        
+        when(jackpotService.jackpotExists("jackpot-1")).thenReturn(true);
+        when(kafkaBetProducer.publishBetEvents(anyList())).thenReturn(new PublishOutcome[]{PublishOutcome.ACCEPTED, PublishOutcome.ACCEPTED});
+        
+        // When & Then
+        mockMvc.perform(post("/api/v1/bets/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.accepted").value(2))
+                .andExpect(jsonPath("$.results[1].userId").value("user-2"));
+    }
+    
+    @Test
+    void placeBets_WithTooManyBets_ShouldReject() throws Exception {
+        // Given
+        List<BetRequest> betRequests = Collections.nCopies(1001,
+                new BetRequest("user-1", "jackpot-1", BigDecimal.valueOf(1.0)));
+        
+        // When & Then
+        mockMvc.perform(post("/api/v1/bets/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(betRequests)))
+                .andExpect(status().isPayloadTooLarge());
+        verify(betService, never()).saveBets(anyList());
+    }
+    
     @Test
     void getBet_WithExistingBet_ShouldReturnBet() throws Exception {
         // Given
         String betId = "bet-1";
-        com.sportygroup.jackpot.domain.Bet bet = com.sportygroup.jackpot.domain.Bet.builder()
+        Bet bet = Bet.builder()
                 .betId(betId)
                 .userId("user-1")
                 .jackpotId("jackpot-1")
@@ -162,7 +336,7 @@ class BetControllerTest {
     void getBetsByUser_ShouldReturnUserBets() throws Exception {
         // Given
         String userId = "user-1";
-        com.sportygroup.jackpot.domain.Bet bet1 = com.sportygroup.jackpot.domain.Bet.builder()
+        Bet bet1 = Bet.builder()
                 .betId("bet-1")
                 .userId(userId)
                 .jackpotId("jackpot-1")
@@ -170,7 +344,7 @@ class BetControllerTest {
                 .createdAt(LocalDateTime.now())
                 .build();
         
-        when(betService.getBetsByUserId(userId)).thenReturn(java.util.List.of(bet1));
+        when(betService.getBetsByUserId(userId)).thenReturn(List.of(bet1));
         
         // When & Then
         mockMvc.perform(get("/api/v1/bets/user/{userId}", userId))
@@ -183,7 +357,7 @@ class BetControllerTest {
     @Test
     void getAllBets_ShouldReturnAllBets() throws Exception {
         // Given
-        com.sportygroup.jackpot.domain.Bet bet1 = com.sportygroup.jackpot.domain.Bet.builder()
+        Bet bet1 = Bet.builder()
                 .betId("bet-1")
                 .userId("user-1")
                 .jackpotId("jackpot-1")
@@ -191,7 +365,7 @@ class BetControllerTest {
                 .createdAt(LocalDateTime.now())
                 .build();
         
-        when(betService.getAllBets()).thenReturn(java.util.List.of(bet1));
+        when(betService.getAllBets()).thenReturn(List.of(bet1));
         
         // When & Then
         mockMvc.perform(get("/api/v1/bets"))
@@ -199,4 +373,77 @@ class BetControllerTest {
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$[0].betId").value("bet-1"));
     }
+    
+    @Test
+    void getBetsPage_ShouldReturnItemsAndNextCursor() throws Exception {
+        // Given
+        Bet bet1 = Bet.builder()
+                .betId("bet-1")
+                .userId("user-1")
+                .jackpotId("jackpot-1")
+                .betAmount(BigDecimal.valueOf(100.0))
+                .createdAt(LocalDateTime.now())
+                .build();
+        
+        when(betService.getBetsPage("cursor-1", 1000)).thenReturn(new Page<>(List.of(bet1), "cursor-2"));
+        
+        // When & Then: the limit is clamped to the maximum page size
+        mockMvc.perform(get("/api/v1/bets/page").param("cursor", "cursor-1").param("limit", "5000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].betId").value("bet-1"))
+                .andExpect(jsonPath("$.nextCursor").value("cursor-2"));
+    }
+    
+    @Test
+    void getBetsPage_WithMalformedCursor_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(betService.getBetsPage("broken", 100)).thenThrow(new IllegalArgumentException("Invalid cursor: broken"));
+        
+        // When & Then
+        mockMvc.perform(get("/api/v1/bets/page").param("cursor", "broken"))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    void streamBets_ShouldWriteOneJsonObjectPerLine() throws Exception {
+        // Given
+        Bet bet1 = Bet.builder()
+                .betId("bet-1")
+                .userId("user-1")
+                .jackpotId("jackpot-1")
+                .betAmount(BigDecimal.valueOf(100.0))
+                .build();
+        Bet bet2 = Bet.builder()
+                .betId("bet-2")
+                .userId("user-2")
+                .jackpotId("jackpot-1")
+                .betAmount(BigDecimal.valueOf(50.0))
+                .build();
+        
+        when(betService.streamAllBets()).thenReturn(Stream.of(bet1, bet2));
+        
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/bets/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        
+        // Then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("betId").asText()).isEqualTo("bet-1");
+        assertThat(objectMapper.readTree(lines[1]).get("betId").asText()).isEqualTo("bet-2");
+    }
+    
+    private ResultActions performPlaceBet(BetRequest betRequest) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/bets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(betRequest)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
 }
@@ -0,0 +1,116 @@
+package com.sportygroup.jackpot.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.domain.JackpotContribution;
+import com.sportygroup.jackpot.repository.Page;
+import com.sportygroup.jackpot.service.JackpotContributionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for ContributionController.
+ * Tests the paginated and streamed contribution listings.
+ */
+@WebMvcTest(ContributionController.class)
+@Import(JackpotProperties.class)
+class ContributionControllerTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @MockBean
+    private JackpotContributionService contributionService;
+    
+    private JackpotContribution contribution(String contributionId, String betId) {
+        return JackpotContribution.builder()
+                .contributionId(contributionId)
+                .betId(betId)
+                .userId("user-1")
+                .jackpotId("jackpot-1")
+                .stakeAmount(BigDecimal.valueOf(100.0))
+                .contributionAmount(BigDecimal.valueOf(5.0))
+                .currentJackpotAmount(BigDecimal.valueOf(1005.0))
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+    
+    @Test
+    void getContributionsPage_ShouldReturnItemsAndNextCursor() throws Exception {
+        // Given
+        when(contributionService.getContributionsPage("cursor-1", 1000))
+                .thenReturn(new Page<>(List.of(contribution("contribution-1", "bet-1")), "cursor-2"));
+        
+        // When & Then: the limit is clamped to the maximum page size
+        mockMvc.perform(get("/api/v1/contributions/page").param("cursor", "cursor-1").param("limit", "5000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].contributionId").value("contribution-1"))
+                .andExpect(jsonPath("$.items[0].contributionAmount").value(5.0))
+                .andExpect(jsonPath("$.nextCursor").value("cursor-2"));
+    }
+    
+    @Test
+    void getContributionsPage_WithoutCursor_ShouldUseDefaultPageSize() throws Exception {
+        // Given
+        when(contributionService.getContributionsPage(null, 100)).thenReturn(new Page<>(List.of(), null));
+        
+        // When & Then
+        mockMvc.perform(get("/api/v1/contributions/page"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty())
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+    
+    @Test
+    void getContributionsPage_WithMalformedCursor_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(contributionService.getContributionsPage("broken", 100))
+                .thenThrow(new IllegalArgumentException("Invalid cursor: broken"));
+        
+        // When & Then
+        mockMvc.perform(get("/api/v1/contributions/page").param("cursor", "broken"))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    void streamContributions_ShouldWriteOneJsonObjectPerLine() throws Exception {
+        // Given
+        when(contributionService.streamAllContributions())
+                .thenReturn(Stream.of(contribution("contribution-1", "bet-1"), contribution("contribution-2", "bet-2")));
+        
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/contributions/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        
+        // Then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("contributionId").asText()).isEqualTo("contribution-1");
+        assertThat(objectMapper.readTree(lines[1]).get("betId").asText()).isEqualTo("bet-2");
+    }
+}
@@ -0,0 +1,106 @@
+package com.sportygroup.jackpot.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.domain.JackpotReward;
+import com.sportygroup.jackpot.repository.Page;
+import com.sportygroup.jackpot.service.BetService;
+import com.sportygroup.jackpot.service.JackpotRewardService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for RewardController.
+ * Tests the paginated and streamed reward listings.
+ */
+@WebMvcTest(RewardController.class)
+@Import(JackpotProperties.class)
+class RewardControllerTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @MockBean
+    private BetService betService;
+    
+    @MockBean
+    private JackpotRewardService rewardService;
+    
+    private JackpotReward reward(String rewardId, String betId) {
+        return JackpotReward.builder()
+                .rewardId(rewardId)
+                .betId(betId)
+                .userId("user-1")
+                .jackpotId("jackpot-1")
+                .jackpotRewardAmount(BigDecimal.valueOf(1000.0))
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+    
+    @Test
+    void getRewardsPage_ShouldReturnItemsAndNextCursor() throws Exception {
+        // Given
+        when(rewardService.getRewardsPage("cursor-1", 1000))
+                .thenReturn(new Page<>(List.of(reward("reward-1", "bet-1")), "cursor-2"));
+        
+        // When & Then: the limit is clamped to the maximum page size
+        mockMvc.perform(get("/api/v1/rewards/page").param("cursor", "cursor-1").param("limit", "5000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].betId").value("bet-1"))
+                .andExpect(jsonPath("$.items[0].rewardAmount").value(1000.0))
+                .andExpect(jsonPath("$.nextCursor").value("cursor-2"));
+    }
+    
+    @Test
+    void getRewardsPage_WithMalformedCursor_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(rewardService.getRewardsPage("broken", 100))
+                .thenThrow(new IllegalArgumentException("Invalid cursor: broken"));
+        
+        // When & Then
+        mockMvc.perform(get("/api/v1/rewards/page").param("cursor", "broken"))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    void streamRewards_ShouldWriteOneJsonObjectPerLine() throws Exception {
+        // Given
+        when(rewardService.streamAllRewards())
+                .thenReturn(Stream.of(reward("reward-1", "bet-1"), reward("reward-2", "bet-2")));
+        
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/rewards/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        
+        // Then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("betId").asText()).isEqualTo("bet-1");
+        assertThat(objectMapper.readTree(lines[1]).get("betId").asText()).isEqualTo("bet-2");
+    }
+}
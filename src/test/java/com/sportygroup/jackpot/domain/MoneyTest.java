@@ -0,0 +1,53 @@
+package com.sportygroup.jackpot.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for Money.
+ * Verifies fixed-point conversions and that rounding matches BigDecimal HALF_UP.
+ */
+class MoneyTest {
+    
+    @Test
+    void toCents_ShouldRoundHalfUpToMinorUnits() {
+        assertThat(Money.toCents(BigDecimal.valueOf(1000.0))).isEqualTo(100_000L);
+        assertThat(Money.toCents(new BigDecimal("0.005"))).isEqualTo(1L);
+        assertThat(Money.toCents(new BigDecimal("-0.005"))).isEqualTo(-1L);
+        assertThat(Money.toCents(null)).isZero();
+    }
+    
+    @Test
+    void toCentsExact_WithSubCentDigits_ShouldReturnNotRepresentable() {
+        assertThat(Money.toCentsExact(new BigDecimal("12.34"))).isEqualTo(1234L);
+        assertThat(Money.toCentsExact(new BigDecimal("1E+3"))).isEqualTo(100_000L);
+        assertThat(Money.toCentsExact(new BigDecimal("12.345"))).isEqualTo(Money.NOT_REPRESENTABLE);
+    }
+    
+    @Test
+    void toRateNanos_ShouldScaleRatesExactly() {
+        assertThat(Money.toRateNanos(BigDecimal.valueOf(0.05))).isEqualTo(50_000_000L);
+        assertThat(Money.toRateNanos(BigDecimal.ONE)).isEqualTo(Money.RATE_ONE);
+        assertThat(Money.toRateNanos(new BigDecimal("0.0000000001"))).isEqualTo(Money.NOT_REPRESENTABLE);
+    }
+    
+    @Test
+    void divideHalfUp_ShouldMatchBigDecimalHalfUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long numerator = random.nextLong() % 1_000_000_000_000L;
+            long denominator = 1 + random.nextInt(1_000_000);
+            
+            long expected = BigDecimal.valueOf(numerator)
+                    .divide(BigDecimal.valueOf(denominator), 0, RoundingMode.HALF_UP)
+                    .longValueExact();
+            
+            assertThat(Money.divideHalfUp(numerator, denominator)).isEqualTo(expected);
+        }
+    }
+}
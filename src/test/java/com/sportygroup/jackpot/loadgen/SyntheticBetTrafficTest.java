@@ -0,0 +1,74 @@
+package com.sportygroup.jackpot.loadgen;
+
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.dto.BetRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SyntheticBetTraffic.
+ * Tests the shape of the jackpot mix, the stake bounds and reproducibility from the seed.
+ */
+class SyntheticBetTrafficTest {
+    
+    private static final List<String> JACKPOT_IDS = List.of("jackpot-a", "jackpot-b", "jackpot-c", "jackpot-d");
+    
+    private JackpotProperties.LoadGen loadGen;
+    
+    @BeforeEach
+    void setUp() {
+        loadGen = new JackpotProperties.LoadGen();
+        loadGen.setUserCount(1000);
+    }
+    
+    @Test
+    void get_ShouldSendMostBetsToTheTopRankedJackpot() {
+        // Given
+        SyntheticBetTraffic traffic = new SyntheticBetTraffic(JACKPOT_IDS, loadGen);
+        Map<String, Integer> betsByJackpot = new HashMap<>();
+        
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            betsByJackpot.merge(traffic.get().getJackpotId(), 1, Integer::sum);
+        }
+        
+        // Then
+        assertThat(betsByJackpot.get("jackpot-a")).isGreaterThan(betsByJackpot.get("jackpot-b"));
+        assertThat(betsByJackpot.get("jackpot-b")).isGreaterThan(betsByJackpot.get("jackpot-d"));
+    }
+    
+    @Test
+    void get_ShouldKeepStakesWithinConfiguredBounds() {
+        // Given
+        loadGen.setStakeSpread(3.0);
+        SyntheticBetTraffic traffic = new SyntheticBetTraffic(JACKPOT_IDS, loadGen);
+        
+        // When
+        List<BigDecimal> stakes = Stream.generate(traffic).limit(10_000).map(BetRequest::getBetAmount).toList();
+        
+        // Then
+        assertThat(stakes).allSatisfy(stake -> {
+            assertThat(stake).isBetween(loadGen.getMinStake(), loadGen.getMaxStake());
+            assertThat(stake.scale()).isEqualTo(2);
+        });
+    }
+    
+    @Test
+    void get_WithSameSeed_ShouldProduceSameTraffic() {
+        // Given
+        SyntheticBetTraffic first = new SyntheticBetTraffic(JACKPOT_IDS, loadGen);
+        SyntheticBetTraffic second = new SyntheticBetTraffic(JACKPOT_IDS, loadGen);
+        
+        // When / Then
+        assertThat(Stream.generate(first).limit(100).toList())
+                .isEqualTo(Stream.generate(second).limit(100).toList());
+    }
+}
@@ -0,0 +1,107 @@
+package com.sportygroup.jackpot.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.sportygroup.jackpot.config.JackpotProperties.Producer.WireFormat;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for BetEventCodec.
+ * Verifies binary round trips, JSON compatibility and format detection.
+ */
+class BetEventCodecTest {
+    
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final BetEventCodec codec = new BetEventCodec(objectMapper);
+    
+    @Test
+    void binary_ShouldRoundTripEveryField() throws Exception {
+        // Given
+        BetEvent betEvent = betEvent(UUID.randomUUID().toString(), new BigDecimal("100.0"));
+        
+        // When
+        byte[] bytes = codec.encode(betEvent, WireFormat.BINARY);
+        BetEvent decoded = codec.decode(bytes);
+        
+        // Then: the amount keeps its scale, exactly like the JSON path
+        assertThat(bytes[0]).isEqualTo(BetEventCodec.MAGIC);
+        assertThat(bytes[1]).isEqualTo(BetEventCodec.VERSION);
+        assertThat(decoded).isEqualTo(betEvent);
+        assertThat(decoded.getBetAmount().scale()).isEqualTo(1);
+    }
+    
+    @Test
+    void binary_WithNullsAndNonUuidIds_ShouldRoundTrip() throws Exception {
+        // Given
+        BetEvent betEvent = BetEvent.builder()
+                .betId("bet-1")
+                .userId(null)
+                .jackpotId("main-jackpot")
+                .betAmount(new BigDecimal("123456789012345678901234567890.12"))
+                .eventType("BET_CANCELLED")
+                .build();
+        
+        // When
+        BetEvent decoded = codec.decode(codec.encode(betEvent, WireFormat.BINARY));
+        
+        // Then
+        assertThat(decoded).isEqualTo(betEvent);
+    }
+    
+    @Test
+    void decode_WithJsonMessage_ShouldReadLegacyFormat() throws Exception {
+        // Given
+        BetEvent betEvent = betEvent(UUID.randomUUID().toString(), new BigDecimal("25.50"));
+        byte[] json = objectMapper.writeValueAsBytes(betEvent);
+        
+        // When
+        BetEvent decoded = codec.decode(json);
+        
+        // Then
+        assertThat(BetEventCodec.isBinary(json)).isFalse();
+        assertThat(decoded).isEqualTo(betEvent);
+    }
+    
+    @Test
+    void binary_ShouldBeMuchSmallerThanJson() throws Exception {
+        // Given
+        BetEvent betEvent = betEvent(UUID.randomUUID().toString(), new BigDecimal("100.0"));
+        
+        // When
+        int binarySize = codec.encode(betEvent, WireFormat.BINARY).length;
+        int jsonSize = codec.encode(betEvent, WireFormat.JSON).length;
+        
+        // Then
+        assertThat(binarySize * 2).isLessThan(jsonSize);
+    }
+    
+    @Test
+    void decode_WithUnknownVersion_ShouldFail() throws Exception {
+        // Given
+        byte[] bytes = codec.encode(betEvent("bet-1", BigDecimal.TEN), WireFormat.BINARY);
+        bytes[1] = 99;
+        
+        // When & Then
+        assertThatThrownBy(() -> codec.decode(bytes))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("version");
+    }
+    
+    private BetEvent betEvent(String betId, BigDecimal amount) {
+        return BetEvent.builder()
+                .betId(betId)
+                .userId("user-1")
+                .jackpotId("main-jackpot")
+                .betAmount(amount)
+                .timestamp(LocalDateTime.of(2024, 5, 17, 12, 30, 15, 123_456_789))
+                .eventType("BET_PLACED")
+                .build();
+    }
+}
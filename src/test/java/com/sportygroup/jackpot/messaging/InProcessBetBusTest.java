@@ -0,0 +1,139 @@
+package com.sportygroup.jackpot.messaging;
+
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.pipeline.BetRetryScheduler;
+import com.sportygroup.jackpot.pipeline.JackpotLaneDispatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for InProcessBetBus.
+ * Tests delivery to the jackpot lanes under every wait strategy, backpressure and dead-lettering.
+ */
+@ExtendWith(MockitoExtension.class)
+class InProcessBetBusTest {
+    
+    @Mock
+    private JackpotLaneDispatcher laneDispatcher;
+    
+    @Mock
+    private BetRetryScheduler retryScheduler;
+    
+    @ParameterizedTest
+    @EnumSource(JackpotProperties.Bus.WaitStrategy.class)
+    void publish_FromManyThreads_ShouldDeliverEveryBetGroupedByJackpotInOrder(
+            JackpotProperties.Bus.WaitStrategy waitStrategy) throws InterruptedException {
+        // Given
+        Map<String, List<String>> dispatched = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            String jackpotId = invocation.getArgument(0);
+            List<BetEvent> events = invocation.getArgument(1);
+            events.forEach(event -> dispatched.computeIfAbsent(jackpotId, k -> new CopyOnWriteArrayList<>())
+                    .add(event.getBetId()));
+            return null;
+        }).when(laneDispatcher).dispatchAll(anyString(), anyList());
+        JackpotProperties jackpotProperties = new JackpotProperties();
+        jackpotProperties.getBus().setWaitStrategy(waitStrategy);
+        jackpotProperties.getBus().setCapacity(1024);
+        InProcessBetBus bus = new InProcessBetBus(laneDispatcher, retryScheduler, jackpotProperties,
+                new SimpleMeterRegistry());
+        
+        // When: each publisher owns one jackpot, so its bets must arrive in publish order
+        int publishers = 4;
+        int perPublisher = 5_000;
+        CountDownLatch done = new CountDownLatch(publishers);
+        for (int p = 0; p < publishers; p++) {
+            String jackpotId = "jackpot-" + p;
+            Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < perPublisher; i++) {
+                    bus.publish(betEvent("bet-" + i, jackpotId));
+                }
+                done.countDown();
+            });
+        }
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        bus.shutdown();
+        
+        // Then
+        assertThat(dispatched).hasSize(publishers);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < perPublisher; i++) {
+            expected.add("bet-" + i);
+        }
+        dispatched.values().forEach(betIds -> assertThat(betIds).containsExactlyElementsOf(expected));
+        assertThat(bus.depth()).isZero();
+    }
+    
+    @Test
+    void publish_WhenBusStaysFull_ShouldReject() throws InterruptedException {
+        // Given: the consumer is stuck in the lane
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(laneDispatcher).dispatchAll(anyString(), anyList());
+        JackpotProperties jackpotProperties = new JackpotProperties();
+        jackpotProperties.getBus().setCapacity(2);
+        jackpotProperties.getBus().setPublishTimeoutMs(50);
+        InProcessBetBus bus = new InProcessBetBus(laneDispatcher, retryScheduler, jackpotProperties,
+                new SimpleMeterRegistry());
+        
+        // When / Then: at most one drained batch plus two queued bets fit
+        try {
+            assertThatThrownBy(() -> {
+                for (int i = 0; i < 10; i++) {
+                    bus.publish(betEvent("bet-" + i, "jackpot-1"));
+                }
+            }).isInstanceOf(IllegalStateException.class).hasMessageContaining("full");
+        } finally {
+            release.countDown();
+            bus.shutdown();
+        }
+    }
+    
+    @Test
+    void publish_WithoutJackpot_ShouldDeadLetter() throws InterruptedException {
+        // Given
+        InProcessBetBus bus = new InProcessBetBus(laneDispatcher, retryScheduler, new JackpotProperties(),
+                new SimpleMeterRegistry());
+        BetEvent betEvent = betEvent("bet-1", null);
+        
+        // When
+        bus.publish(betEvent);
+        bus.shutdown();
+        
+        // Then
+        verify(retryScheduler).deadLetter(eq(betEvent), eq(1), anyString());
+    }
+    
+    private BetEvent betEvent(String betId, String jackpotId) {
+        return BetEvent.builder()
+                .betId(betId)
+                .userId("user-1")
+                .jackpotId(jackpotId)
+                .betAmount(BigDecimal.valueOf(100.0))
+                .build();
+    }
+}
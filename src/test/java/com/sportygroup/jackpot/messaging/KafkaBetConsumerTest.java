@@ -0,0 +1,126 @@
+package com.sportygroup.jackpot.messaging;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.sportygroup.jackpot.pipeline.BetRetryScheduler;
+import com.sportygroup.jackpot.pipeline.JackpotLaneDispatcher;
+import com.sportygroup.jackpot.pipeline.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for KafkaBetConsumer.
+ * Tests that records are acknowledged only once their lane or the dead-letter topic has taken them.
+ */
+@ExtendWith(MockitoExtension.class)
+class KafkaBetConsumerTest {
+    
+    @Mock
+    private JackpotLaneDispatcher laneDispatcher;
+    
+    @Mock
+    private BetRetryScheduler retryScheduler;
+    
+    @Mock
+    private Acknowledgment acknowledgment;
+    
+    private KafkaBetConsumer kafkaBetConsumer;
+    
+    @BeforeEach
+    void setUp() {
+        kafkaBetConsumer = new KafkaBetConsumer(new BetEventCodec(JsonMapper.builder().findAndAddModules().build()),
+                laneDispatcher, retryScheduler, new PipelineMetrics(new SimpleMeterRegistry()));
+    }
+    
+    @Test
+    void handleBetEvent_ShouldAcknowledgeOnlyOnceTheLaneHasProcessedTheBet() throws Exception {
+        // Given
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        when(laneDispatcher.dispatch(any(BetEvent.class))).thenReturn(completion);
+        
+        // When
+        kafkaBetConsumer.handleBetEvent(record(betEvent("jackpot-1")), acknowledgment);
+        
+        // Then
+        verify(acknowledgment, never()).acknowledge();
+        completion.complete(null);
+        verify(acknowledgment).acknowledge();
+    }
+    
+    @Test
+    void handleBetEvent_WhenProcessingFails_ShouldNotAcknowledge() throws Exception {
+        // Given
+        when(laneDispatcher.dispatch(any(BetEvent.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Lane closed")));
+        
+        // When
+        kafkaBetConsumer.handleBetEvent(record(betEvent("jackpot-1")), acknowledgment);
+        
+        // Then
+        verify(acknowledgment, never()).acknowledge();
+    }
+    
+    @Test
+    void handleBetEvent_WhenUndecodable_ShouldDeadLetterAndAcknowledge() {
+        // Given
+        byte[] garbage = "not a bet".getBytes(StandardCharsets.UTF_8);
+        doReturn(CompletableFuture.completedFuture(null))
+                .when(retryScheduler).deadLetter(eq("key-1"), eq(garbage), anyInt(), anyString());
+        
+        // When
+        kafkaBetConsumer.handleBetEvent(new ConsumerRecord<>("jackpot-bets", 0, 7L, "key-1", garbage), acknowledgment);
+        
+        // Then
+        verify(acknowledgment).acknowledge();
+        verifyNoInteractions(laneDispatcher);
+    }
+    
+    @Test
+    void handleBetEvent_WhenJackpotIdMissing_ShouldAcknowledgeOnlyOnceDeadLettered() {
+        // Given
+        CompletableFuture<Object> sent = new CompletableFuture<>();
+        doReturn(sent).when(retryScheduler).deadLetter(any(BetEvent.class), anyInt(), anyString());
+        
+        // When
+        kafkaBetConsumer.handleBetEvent(record(betEvent(null)), acknowledgment);
+        
+        // Then
+        verify(acknowledgment, never()).acknowledge();
+        sent.complete(null);
+        verify(acknowledgment).acknowledge();
+        verifyNoInteractions(laneDispatcher);
+    }
+    
+    private BetEvent betEvent(String jackpotId) {
+        return BetEvent.builder()
+                .betId("bet-1")
+                .userId("user-1")
+                .jackpotId(jackpotId)
+                .betAmount(new BigDecimal("10.00"))
+                .eventType("BET_PLACED")
+                .build();
+    }
+    
+    private ConsumerRecord<String, byte[]> record(BetEvent betEvent) {
+        return new ConsumerRecord<>("jackpot-bets", 0, 7L, betEvent.getJackpotId(), BetEventCodec.encodeBinary(betEvent));
+    }
+}
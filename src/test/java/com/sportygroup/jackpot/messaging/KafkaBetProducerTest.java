@@ -0,0 +1,71 @@
+package com.sportygroup.jackpot.messaging;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.sportygroup.jackpot.config.JackpotProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for KafkaBetProducer.
+ * Tests that the record key, and with it the partition, follows the configured key mode.
+ */
+@ExtendWith(MockitoExtension.class)
+class KafkaBetProducerTest {
+    
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+    
+    private JackpotProperties jackpotProperties;
+    private KafkaBetProducer betProducer;
+    
+    @BeforeEach
+    void setUp() {
+        jackpotProperties = new JackpotProperties();
+        betProducer = new KafkaBetProducer(kafkaTemplate,
+                new BetEventCodec(JsonMapper.builder().findAndAddModules().build()), jackpotProperties);
+        when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class))).thenReturn(new CompletableFuture<>());
+    }
+    
+    @Test
+    void publishBetEventAsync_ByDefault_ShouldKeyRecordByJackpotId() {
+        // When
+        betProducer.publishBetEventAsync(betEvent());
+        
+        // Then: all bets of a jackpot share one partition, so the lane sees them in order
+        verify(kafkaTemplate).send(eq("jackpot-bets"), eq("jackpot-1"), any(byte[].class));
+    }
+    
+    @Test
+    void publishBetEventAsync_WithBetIdKeyMode_ShouldKeyRecordByBetId() {
+        // Given
+        jackpotProperties.getProducer().setKeyMode(JackpotProperties.Producer.KeyMode.BET_ID);
+        
+        // When
+        betProducer.publishBetEventAsync(betEvent());
+        
+        // Then
+        verify(kafkaTemplate).send(eq("jackpot-bets"), eq("bet-1"), any(byte[].class));
+    }
+    
+    private BetEvent betEvent() {
+        return BetEvent.builder()
+                .betId("bet-1")
+                .userId("user-1")
+                .jackpotId("jackpot-1")
+                .betAmount(BigDecimal.valueOf(100.0))
+                .build();
+    }
+}
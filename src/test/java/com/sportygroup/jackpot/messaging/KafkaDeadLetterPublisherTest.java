@@ -0,0 +1,117 @@
+package com.sportygroup.jackpot.messaging;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.pipeline.BetRetryScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for KafkaDeadLetterPublisher against an embedded broker.
+ * Tests the topic, key, payload and failure headers of dead-lettered bet events,
+ * including retries dead-lettered when the retry scheduler shuts down.
+ */
+@EmbeddedKafka(partitions = 1, topics = {KafkaDeadLetterPublisherTest.DLT, KafkaDeadLetterPublisherTest.SHUTDOWN_DLT})
+class KafkaDeadLetterPublisherTest {
+    
+    static final String DLT = "jackpot-bets.DLT";
+    static final String SHUTDOWN_DLT = "jackpot-bets-shutdown.DLT";
+    
+    private EmbeddedKafkaBroker embeddedKafka;
+    private DefaultKafkaProducerFactory<String, byte[]> producerFactory;
+    private JackpotProperties jackpotProperties;
+    private KafkaDeadLetterPublisher deadLetterPublisher;
+    
+    @BeforeEach
+    void setUp(EmbeddedKafkaBroker embeddedKafka) {
+        this.embeddedKafka = embeddedKafka;
+        producerFactory = new DefaultKafkaProducerFactory<>(KafkaTestUtils.producerProps(embeddedKafka),
+                new StringSerializer(), new ByteArraySerializer());
+        jackpotProperties = new JackpotProperties();
+        deadLetterPublisher = new KafkaDeadLetterPublisher(new KafkaTemplate<>(producerFactory), jackpotProperties);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        producerFactory.destroy();
+    }
+    
+    @Test
+    void publish_ShouldSendOriginalMessageWithAttemptsAndReasonHeaders() throws Exception {
+        // Given
+        byte[] message = "{\"betId\":\"bet-1\"}".getBytes(StandardCharsets.UTF_8);
+        
+        // When
+        deadLetterPublisher.publish("jackpot-1", message, 3, "Failed after 3 attempts").get(10, TimeUnit.SECONDS);
+        
+        // Then
+        ConsumerRecord<String, byte[]> record = consumeOne(DLT);
+        assertThat(record.key()).isEqualTo("jackpot-1");
+        assertThat(record.value()).isEqualTo(message);
+        assertThat(header(record, KafkaDeadLetterPublisher.ATTEMPTS_HEADER)).isEqualTo("3");
+        assertThat(header(record, KafkaDeadLetterPublisher.REASON_HEADER)).isEqualTo("Failed after 3 attempts");
+    }
+    
+    @Test
+    void retrySchedulerShutdown_ShouldDeadLetterPendingRetries() throws Exception {
+        // Given: a retry that would only fire in a minute
+        jackpotProperties.getTopics().setBetsDlt(SHUTDOWN_DLT);
+        jackpotProperties.getRetry().setInitialBackoffMs(60_000);
+        BetEventCodec betEventCodec = new BetEventCodec(JsonMapper.builder().findAndAddModules().build());
+        BetRetryScheduler retryScheduler = new BetRetryScheduler(jackpotProperties, betEventCodec,
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(retryScheduler, "deadLetterPublisher", deadLetterPublisher);
+        BetEvent betEvent = BetEvent.builder()
+                .betId("bet-1")
+                .userId("user-1")
+                .jackpotId("jackpot-1")
+                .betAmount(BigDecimal.valueOf(100.0))
+                .build();
+        retryScheduler.onFailure(betEvent, 1, () -> { });
+        
+        // When
+        retryScheduler.shutdown();
+        
+        // Then
+        ConsumerRecord<String, byte[]> record = consumeOne(SHUTDOWN_DLT);
+        assertThat(record.key()).isEqualTo("jackpot-1");
+        assertThat(betEventCodec.decode(record.value()).getBetId()).isEqualTo("bet-1");
+        assertThat(header(record, KafkaDeadLetterPublisher.ATTEMPTS_HEADER)).isEqualTo("1");
+        assertThat(header(record, KafkaDeadLetterPublisher.REASON_HEADER)).contains("pending at shutdown");
+    }
+    
+    private ConsumerRecord<String, byte[]> consumeOne(String topic) {
+        DefaultKafkaConsumerFactory<String, byte[]> consumerFactory = new DefaultKafkaConsumerFactory<>(
+                KafkaTestUtils.consumerProps(topic + "-test", "false", embeddedKafka),
+                new StringDeserializer(), new ByteArrayDeserializer());
+        try (Consumer<String, byte[]> consumer = consumerFactory.createConsumer()) {
+            embeddedKafka.consumeFromAnEmbeddedTopic(consumer, topic);
+            return KafkaTestUtils.getSingleRecord(consumer, topic);
+        }
+    }
+    
+    private static String header(ConsumerRecord<String, byte[]> record, String name) {
+        return new String(record.headers().lastHeader(name).value(), StandardCharsets.UTF_8);
+    }
+}
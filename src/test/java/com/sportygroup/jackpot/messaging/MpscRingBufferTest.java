@@ -0,0 +1,97 @@
+package com.sportygroup.jackpot.messaging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for MpscRingBuffer.
+ * Tests capacity bounds, FIFO order and concurrent producers.
+ */
+class MpscRingBufferTest {
+    
+    @Test
+    void offer_WhenFull_ShouldRejectUntilConsumerFreesSlot() {
+        // Given
+        MpscRingBuffer<Integer> ring = new MpscRingBuffer<>(3);
+        for (int i = 0; i < ring.capacity(); i++) {
+            assertThat(ring.offer(i)).isTrue();
+        }
+        
+        // When
+        boolean offeredWhenFull = ring.offer(99);
+        Integer first = ring.poll();
+        boolean offeredAfterPoll = ring.offer(4);
+        
+        // Then: capacity is rounded up to 4, and elements come out in order
+        assertThat(ring.capacity()).isEqualTo(4);
+        assertThat(offeredWhenFull).isFalse();
+        assertThat(first).isZero();
+        assertThat(offeredAfterPoll).isTrue();
+        List<Integer> rest = new ArrayList<>();
+        assertThat(ring.drainTo(rest, 10)).isEqualTo(4);
+        assertThat(rest).containsExactly(1, 2, 3, 4);
+        assertThat(ring.poll()).isNull();
+        assertThat(ring.isEmpty()).isTrue();
+    }
+    
+    @Test
+    void offer_FromManyProducers_ShouldDeliverEveryElementOnceInProducerOrder() throws InterruptedException {
+        // Given
+        int producers = 8;
+        int perProducer = 50_000;
+        MpscRingBuffer<long[]> ring = new MpscRingBuffer<>(1024);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            threads.add(Thread.ofPlatform().start(() -> {
+                awaitQuietly(start);
+                for (long i = 0; i < perProducer; i++) {
+                    long[] element = {producer, i};
+                    while (!ring.offer(element)) {
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+        
+        // When
+        start.countDown();
+        Map<Long, Long> lastSeen = new ConcurrentHashMap<>();
+        int received = 0;
+        boolean inOrder = true;
+        while (received < producers * perProducer) {
+            long[] element = ring.poll();
+            if (element == null) {
+                Thread.yield();
+                continue;
+            }
+            Long previous = lastSeen.put(element[0], element[1]);
+            inOrder &= element[1] == (previous == null ? 0 : previous + 1);
+            received++;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        // Then
+        assertThat(inOrder).isTrue();
+        assertThat(lastSeen).hasSize(producers).allSatisfy((producer, last) -> assertThat(last).isEqualTo(perProducer - 1));
+        assertThat(ring.poll()).isNull();
+    }
+    
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.sportygroup.jackpot.pipeline;
+
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.service.JackpotContributionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for BetDeduplicator.
+ * Tests the Bloom filter screen, the exact recent set and the repository fallback for filter hits.
+ */
+@ExtendWith(MockitoExtension.class)
+class BetDeduplicatorTest {
+    
+    @Mock
+    private JackpotContributionService contributionService;
+    
+    private BetDeduplicator deduplicator;
+    
+    @BeforeEach
+    void setUp() {
+        JackpotProperties jackpotProperties = new JackpotProperties();
+        jackpotProperties.getDedupe().setRecentIds(10);
+        deduplicator = new BetDeduplicator(contributionService, jackpotProperties, new SimpleMeterRegistry());
+    }
+    
+    @Test
+    void isDuplicate_WithNewBet_ShouldAcceptItWithoutRepositoryLookup() {
+        // Given
+        String betId = UUID.randomUUID().toString();
+        
+        // When
+        boolean duplicate = deduplicator.isDuplicate(betId);
+        
+        // Then
+        assertThat(duplicate).isFalse();
+        verify(contributionService, never()).hasContribution(anyString());
+    }
+    
+    @Test
+    void isDuplicate_WithRecentlyProcessedBet_ShouldAnswerFromRecentSet() {
+        // Given
+        deduplicator.markProcessed("bet-1");
+        
+        // When & Then
+        assertThat(deduplicator.isDuplicate("bet-1")).isTrue();
+        verify(contributionService, never()).hasContribution(anyString());
+    }
+    
+    @Test
+    void isDuplicate_WithBetEvictedFromRecentSet_ShouldConfirmWithRepository() {
+        // Given
+        deduplicator.markProcessed("bet-1");
+        for (int i = 0; i < 10; i++) {
+            deduplicator.markProcessed("bet-other-" + i);
+        }
+        when(contributionService.hasContribution("bet-1")).thenReturn(true);
+        
+        // When & Then
+        assertThat(deduplicator.isDuplicate("bet-1")).isTrue();
+        verify(contributionService).hasContribution("bet-1");
+    }
+    
+    @Test
+    void isDuplicate_WithBetForgottenByFilter_ShouldAcceptItWithoutRepositoryLookup() {
+        // Given: two filter generations go by after bet-1 was processed
+        JackpotProperties jackpotProperties = new JackpotProperties();
+        jackpotProperties.getDedupe().setExpectedInsertions(10);
+        jackpotProperties.getDedupe().setRecentIds(10);
+        deduplicator = new BetDeduplicator(contributionService, jackpotProperties, new SimpleMeterRegistry());
+        deduplicator.markProcessed("bet-1");
+        for (int i = 0; i < 30; i++) {
+            deduplicator.markProcessed("bet-other-" + i);
+        }
+        
+        // When & Then: the redelivery is older than the dedupe window
+        assertThat(deduplicator.isDuplicate("bet-1")).isFalse();
+        verify(contributionService, never()).hasContribution(anyString());
+    }
+    
+    @Test
+    void isDuplicate_WithManyNewBets_ShouldNeverRejectThem() {
+        // Given
+        for (int i = 0; i < 100_000; i++) {
+            deduplicator.markProcessed(UUID.randomUUID().toString());
+        }
+        
+        // When
+        int rejected = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (deduplicator.isDuplicate(UUID.randomUUID().toString())) {
+                rejected++;
+            }
+        }
+        
+        // Then: only filter false positives reach the repository, and it clears them
+        assertThat(rejected).isZero();
+        verify(contributionService, atMost(1_000)).hasContribution(anyString());
+    }
+}
@@ -0,0 +1,234 @@
+package com.sportygroup.jackpot.pipeline;
+
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.config.StrategyFactory;
+import com.sportygroup.jackpot.domain.Jackpot;
+import com.sportygroup.jackpot.messaging.BetEvent;
+import com.sportygroup.jackpot.messaging.BetEventMapper;
+import com.sportygroup.jackpot.repository.BetRepository;
+import com.sportygroup.jackpot.repository.JackpotContributionRepository;
+import com.sportygroup.jackpot.repository.JackpotRepository;
+import com.sportygroup.jackpot.repository.JackpotRewardRepository;
+import com.sportygroup.jackpot.service.BetService;
+import com.sportygroup.jackpot.service.JackpotContributionService;
+import com.sportygroup.jackpot.service.JackpotRewardService;
+import com.sportygroup.jackpot.service.JackpotService;
+import com.sportygroup.jackpot.strategy.impl.FixedContributionStrategy;
+import com.sportygroup.jackpot.strategy.impl.FixedRewardStrategy;
+import com.sportygroup.jackpot.strategy.impl.ThreadLocalRandomSource;
+import com.sportygroup.jackpot.strategy.impl.VariableContributionStrategy;
+import com.sportygroup.jackpot.strategy.impl.VariableRewardStrategy;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for BetProcessor.
+ * Tests single-pass batch processing with bulk repository writes, duplicate rejection and failed bets
+ * or failed bulk writes leaving no trace.
+ */
+class BetProcessorTest {
+    
+    private BetRepository betRepository;
+    private JackpotContributionRepository contributionRepository;
+    private JackpotProperties jackpotProperties;
+    private JackpotService jackpotService;
+    private JackpotContributionService contributionService;
+    private JackpotRewardService rewardService;
+    private SimpleMeterRegistry meterRegistry;
+    private BetProcessor betProcessor;
+    
+    @BeforeEach
+    void setUp() {
+        jackpotProperties = new JackpotProperties();
+        jackpotProperties.getStrategies().getFixedReward().setChancePercentage(BigDecimal.ZERO);
+        StrategyFactory strategyFactory = new StrategyFactory(
+                new FixedContributionStrategy(jackpotProperties),
+                new VariableContributionStrategy(jackpotProperties),
+                new FixedRewardStrategy(jackpotProperties, new ThreadLocalRandomSource()),
+                new VariableRewardStrategy(jackpotProperties, new ThreadLocalRandomSource()),
+                jackpotProperties);
+        meterRegistry = new SimpleMeterRegistry();
+        betRepository = new BetRepository();
+        contributionRepository = new JackpotContributionRepository();
+        jackpotService = new JackpotService(new JackpotRepository(), jackpotProperties);
+        contributionService = spy(new JackpotContributionService(contributionRepository, jackpotService, strategyFactory));
+        rewardService = spy(new JackpotRewardService(new JackpotRewardRepository(), jackpotService, strategyFactory));
+        betProcessor = new BetProcessor(
+                new BetService(betRepository),
+                jackpotService,
+                contributionService,
+                rewardService,
+                new BetEventMapper(),
+                new BetDeduplicator(contributionService, jackpotProperties, meterRegistry),
+                new PipelineMetrics(meterRegistry));
+    }
+    
+    @Test
+    void processBatch_ShouldApplyEveryBetAndStoreResultsInBulk() {
+        // Given
+        Jackpot jackpot = jackpotService.createJackpot("jackpot-1", "Batch Jackpot",
+                Jackpot.ContributionType.FIXED, Jackpot.RewardType.FIXED);
+        List<BetEvent> betEvents = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            betEvents.add(betEvent("bet-" + i, "jackpot-1"));
+        }
+        
+        // When
+        List<BetEvent> failed = betProcessor.processBatch("jackpot-1", betEvents);
+        
+        // Then: every 100.00 bet contributes exactly 5.00, and bets keep their IDs
+        assertThat(failed).isEmpty();
+        assertThat(betRepository.count()).isEqualTo(100);
+        assertThat(betRepository.findById("bet-42")).isPresent();
+        assertThat(contributionRepository.count()).isEqualTo(100);
+        assertThat(jackpot.getCurrentAmount()).isEqualByComparingTo(BigDecimal.valueOf(1500.0));
+        assertThat(contributionRepository.findByJackpotId("jackpot-1"))
+                .extracting(contribution -> contribution.getCurrentJackpotAmount())
+                .anySatisfy(amount -> assertThat(amount).isEqualByComparingTo(BigDecimal.valueOf(1500.0)));
+    }
+    
+    @Test
+    void processBatch_WithRedeliveredBets_ShouldProcessEachBetOnce() {
+        // Given
+        Jackpot jackpot = jackpotService.createJackpot("jackpot-1", "Batch Jackpot",
+                Jackpot.ContributionType.FIXED, Jackpot.RewardType.FIXED);
+        List<BetEvent> betEvents = List.of(betEvent("bet-1", "jackpot-1"), betEvent("bet-2", "jackpot-1"),
+                betEvent("bet-1", "jackpot-1"));
+        
+        // When: the whole batch is delivered again, e.g. after a consumer restart
+        betProcessor.processBatch("jackpot-1", betEvents);
+        List<BetEvent> failed = betProcessor.processBatch("jackpot-1", betEvents);
+        
+        // Then
+        assertThat(failed).isEmpty();
+        assertThat(betRepository.count()).isEqualTo(2);
+        assertThat(contributionRepository.count()).isEqualTo(2);
+        assertThat(jackpot.getCurrentAmount()).isEqualByComparingTo(BigDecimal.valueOf(1010.0));
+    }
+    
+    @Test
+    void processBatch_WhenRewardStepFails_ShouldRevertContributionAndStoreNothing() {
+        // Given
+        Jackpot jackpot = jackpotService.createJackpot("jackpot-1", "Batch Jackpot",
+                Jackpot.ContributionType.FIXED, Jackpot.RewardType.FIXED);
+        List<BetEvent> betEvents = List.of(betEvent("bet-1", "jackpot-1"), betEvent("bet-2", "jackpot-1"));
+        doThrow(new IllegalStateException("Reward evaluation failed")).when(rewardService).applyReward(any(), any());
+        
+        // When
+        List<BetEvent> failed = betProcessor.processBatch("jackpot-1", betEvents);
+        
+        // Then
+        assertThat(failed).containsExactlyElementsOf(betEvents);
+        assertThat(jackpot.getCurrentAmount()).isEqualByComparingTo(BigDecimal.valueOf(1000.0));
+        assertThat(contributionRepository.count()).isZero();
+        assertThat(betRepository.count()).isZero();
+        
+        // When: the failed events are retried once the reward step works again
+        doCallRealMethod().when(rewardService).applyReward(any(), any());
+        betProcessor.processBatch("jackpot-1", failed);
+        
+        // Then: each contribution is applied exactly once
+        assertThat(jackpot.getCurrentAmount()).isEqualByComparingTo(BigDecimal.valueOf(1010.0));
+        assertThat(contributionRepository.count()).isEqualTo(2);
+    }
+    
+    @Test
+    void processBatch_WhenPersistFails_ShouldRevertPoolAndRetryBets() {
+        // Given
+        Jackpot jackpot = jackpotService.createJackpot("jackpot-1", "Batch Jackpot",
+                Jackpot.ContributionType.FIXED, Jackpot.RewardType.FIXED);
+        List<BetEvent> betEvents = List.of(betEvent("bet-1", "jackpot-1"), betEvent("bet-2", "jackpot-1"));
+        doThrow(new IllegalStateException("Store unavailable")).when(contributionService).saveContributions(any());
+        
+        // When
+        List<BetEvent> failed = betProcessor.processBatch("jackpot-1", betEvents);
+        
+        // Then
+        assertThat(failed).containsExactlyElementsOf(betEvents);
+        assertThat(jackpot.getCurrentAmount()).isEqualByComparingTo(BigDecimal.valueOf(1000.0));
+        assertThat(contributionRepository.count()).isZero();
+        
+        // When: the failed events are retried once the store is back
+        doCallRealMethod().when(contributionService).saveContributions(any());
+        failed = betProcessor.processBatch("jackpot-1", failed);
+        
+        // Then: the bets are not mistaken for duplicates and each contribution is applied exactly once
+        assertThat(failed).isEmpty();
+        assertThat(jackpot.getCurrentAmount()).isEqualByComparingTo(BigDecimal.valueOf(1010.0));
+        assertThat(contributionRepository.count()).isEqualTo(2);
+    }
+    
+    @Test
+    void processBatch_WhenPersistFailsAfterWin_ShouldPutClaimedPoolBack() {
+        // Given: every bet wins
+        jackpotProperties.getStrategies().getFixedReward().setChancePercentage(BigDecimal.valueOf(100));
+        Jackpot jackpot = jackpotService.createJackpot("jackpot-1", "Batch Jackpot",
+                Jackpot.ContributionType.FIXED, Jackpot.RewardType.FIXED);
+        doThrow(new IllegalStateException("Store unavailable")).when(contributionService).saveContributions(any());
+        
+        // When
+        List<BetEvent> failed = betProcessor.processBatch("jackpot-1", List.of(betEvent("bet-1", "jackpot-1")));
+        
+        // Then: neither the contribution nor the claim stays applied
+        assertThat(failed).hasSize(1);
+        verify(rewardService).revertReward(any(), eq(jackpot));
+        assertThat(jackpot.getCurrentAmount()).isEqualByComparingTo(BigDecimal.valueOf(1000.0));
+    }
+    
+    @Test
+    void processBatch_WhenJackpotDoesNotExist_ShouldFailWholeBatch() {
+        // Given
+        List<BetEvent> betEvents = List.of(betEvent("bet-1", "missing"), betEvent("bet-2", "missing"));
+        
+        // When
+        List<BetEvent> failed = betProcessor.processBatch("missing", betEvents);
+        
+        // Then
+        assertThat(failed).containsExactlyElementsOf(betEvents);
+        assertThat(betRepository.count()).isZero();
+    }
+    
+    @Test
+    void processBatch_ShouldTimeEveryStageAndEndToEndLatency() {
+        // Given
+        jackpotService.createJackpot("jackpot-1", "Timed Jackpot",
+                Jackpot.ContributionType.FIXED, Jackpot.RewardType.FIXED);
+        BetEvent betEvent = betEvent("bet-1", "jackpot-1");
+        betEvent.setTimestamp(LocalDateTime.now().minusSeconds(2));
+        
+        // When
+        betProcessor.processBatch("jackpot-1", List.of(betEvent, betEvent("bet-2", "jackpot-1")));
+        
+        // Then: per-bet stages count both bets, persist counts the batch, end-to-end only the timestamped event
+        assertThat(meterRegistry.get("jackpot.pipeline.stage").tag("stage", "contribute").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("jackpot.pipeline.stage").tag("stage", "persist").timer().count()).isEqualTo(1);
+        Timer endToEnd = meterRegistry.get("jackpot.consumer.end.to.end").timer();
+        assertThat(endToEnd.count()).isEqualTo(1);
+        assertThat(endToEnd.totalTime(TimeUnit.SECONDS)).isGreaterThanOrEqualTo(2.0);
+    }
+    
+    private BetEvent betEvent(String betId, String jackpotId) {
+        return BetEvent.builder()
+                .betId(betId)
+                .userId("user-1")
+                .jackpotId(jackpotId)
+                .betAmount(BigDecimal.valueOf(100.0))
+                .build();
+    }
+}
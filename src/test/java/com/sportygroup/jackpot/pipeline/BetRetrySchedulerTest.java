@@ -0,0 +1,129 @@
+package com.sportygroup.jackpot.pipeline;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.messaging.BetEvent;
+import com.sportygroup.jackpot.messaging.BetEventCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for BetRetryScheduler.
+ * Tests the backoff policy, delayed retries and dead-lettering after the last attempt and at shutdown.
+ */
+class BetRetrySchedulerTest {
+    
+    private JackpotProperties jackpotProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private BetRetryScheduler retryScheduler;
+    
+    @BeforeEach
+    void setUp() {
+        jackpotProperties = new JackpotProperties();
+        jackpotProperties.getRetry().setMaxAttempts(3);
+        jackpotProperties.getRetry().setInitialBackoffMs(20);
+        jackpotProperties.getRetry().setTickMs(5);
+        meterRegistry = new SimpleMeterRegistry();
+        retryScheduler = new BetRetryScheduler(jackpotProperties,
+                new BetEventCodec(JsonMapper.builder().findAndAddModules().build()), meterRegistry);
+    }
+    
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        retryScheduler.shutdown();
+    }
+    
+    @Test
+    void backoffMillis_ShouldGrowExponentiallyUpToTheCap() {
+        // Given
+        jackpotProperties.getRetry().setInitialBackoffMs(200);
+        jackpotProperties.getRetry().setMaxBackoffMs(1000);
+        
+        // When / Then
+        assertThat(retryScheduler.backoffMillis(1)).isEqualTo(200);
+        assertThat(retryScheduler.backoffMillis(2)).isEqualTo(400);
+        assertThat(retryScheduler.backoffMillis(3)).isEqualTo(800);
+        assertThat(retryScheduler.backoffMillis(4)).isEqualTo(1000);
+        assertThat(retryScheduler.backoffMillis(30)).isEqualTo(1000);
+    }
+    
+    @Test
+    void onFailure_BeforeLastAttempt_ShouldRunRetryAfterBackoff() throws InterruptedException {
+        // Given
+        CountDownLatch retried = new CountDownLatch(1);
+        long start = System.nanoTime();
+        
+        // When
+        retryScheduler.onFailure(betEvent("bet-1"), 1, retried::countDown);
+        
+        // Then
+        assertThat(retried.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(20);
+        assertThat(meterRegistry.get("jackpot.pipeline.retried").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("jackpot.pipeline.dead.lettered").counter().count()).isZero();
+    }
+    
+    @Test
+    void onFailure_OnLastAttempt_ShouldDeadLetterInsteadOfRetrying() throws InterruptedException {
+        // Given
+        AtomicInteger retries = new AtomicInteger();
+        
+        // When
+        retryScheduler.onFailure(betEvent("bet-1"), 3, retries::incrementAndGet);
+        
+        // Then: nothing waits on the wheel, so the retry can never fire
+        assertThat(meterRegistry.get("jackpot.pipeline.retry.pending").gauge().value()).isZero();
+        assertThat(retries).hasValue(0);
+        assertThat(meterRegistry.get("jackpot.pipeline.retried").counter().count()).isZero();
+        assertThat(meterRegistry.get("jackpot.pipeline.dead.lettered").counter().count()).isEqualTo(1.0);
+    }
+    
+    @Test
+    void shutdown_WithPendingRetry_ShouldDeadLetterItInsteadOfDroppingIt() throws InterruptedException {
+        // Given
+        jackpotProperties.getRetry().setInitialBackoffMs(60_000);
+        AtomicInteger retries = new AtomicInteger();
+        retryScheduler.onFailure(betEvent("bet-1"), 1, retries::incrementAndGet);
+        
+        // When
+        retryScheduler.shutdown();
+        
+        // Then
+        assertThat(retries).hasValue(0);
+        assertThat(meterRegistry.get("jackpot.pipeline.retry.pending").gauge().value()).isZero();
+        assertThat(meterRegistry.get("jackpot.pipeline.dead.lettered").counter().count()).isEqualTo(1.0);
+    }
+    
+    @Test
+    void onFailure_AfterShutdown_ShouldDeadLetter() throws InterruptedException {
+        // Given
+        AtomicInteger retries = new AtomicInteger();
+        retryScheduler.shutdown();
+        
+        // When
+        retryScheduler.onFailure(betEvent("bet-1"), 1, retries::incrementAndGet);
+        
+        // Then
+        assertThat(retries).hasValue(0);
+        assertThat(meterRegistry.get("jackpot.pipeline.retried").counter().count()).isZero();
+        assertThat(meterRegistry.get("jackpot.pipeline.dead.lettered").counter().count()).isEqualTo(1.0);
+    }
+    
+    private BetEvent betEvent(String betId) {
+        return BetEvent.builder()
+                .betId(betId)
+                .userId("user-1")
+                .jackpotId("jackpot-1")
+                .betAmount(BigDecimal.valueOf(100.0))
+                .build();
+    }
+}
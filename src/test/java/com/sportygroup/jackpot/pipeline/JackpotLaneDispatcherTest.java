@@ -0,0 +1,253 @@
+package com.sportygroup.jackpot.pipeline;
+
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.domain.Jackpot;
+import com.sportygroup.jackpot.messaging.BetEvent;
+import com.sportygroup.jackpot.service.JackpotService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for JackpotLaneDispatcher.
+ * Tests per-jackpot ordering, single-writer lanes, lane metrics, retry hand-off, completion tracking
+ * and rejection of unknown jackpots, late submits and retries after shutdown.
+ */
+@ExtendWith(MockitoExtension.class)
+class JackpotLaneDispatcherTest {
+    
+    @Mock
+    private BetProcessor betProcessor;
+    
+    @Mock
+    private BetRetryScheduler retryScheduler;
+    
+    @Mock
+    private JackpotService jackpotService;
+    
+    private JackpotProperties jackpotProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private JackpotLaneDispatcher dispatcher;
+    
+    @BeforeEach
+    void setUp() {
+        jackpotProperties = new JackpotProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(jackpotService.getJackpot(anyString())).thenAnswer(invocation -> Optional.of(Jackpot.create(
+                invocation.getArgument(0), "Test Jackpot", BigDecimal.valueOf(1000.0),
+                Jackpot.ContributionType.FIXED, Jackpot.RewardType.FIXED)));
+        lenient().when(jackpotService.getJackpot("unknown")).thenReturn(Optional.empty());
+        dispatcher = new JackpotLaneDispatcher(betProcessor, retryScheduler, jackpotService, jackpotProperties,
+                meterRegistry);
+    }
+    
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+    
+    @Test
+    void dispatch_ShouldProcessEachJackpotOnOneThreadInOrder() throws InterruptedException {
+        // Given
+        Map<String, List<String>> processedBets = new ConcurrentHashMap<>();
+        Map<String, Set<Thread>> threads = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            String jackpotId = invocation.getArgument(0);
+            List<BetEvent> events = invocation.getArgument(1);
+            events.forEach(event -> processedBets.computeIfAbsent(jackpotId, k -> new CopyOnWriteArrayList<>())
+                    .add(event.getBetId()));
+            threads.computeIfAbsent(jackpotId, k -> ConcurrentHashMap.newKeySet()).add(Thread.currentThread());
+            return List.of();
+        }).when(betProcessor).processBatch(anyString(), anyList());
+        
+        // When
+        for (int i = 0; i < 1000; i++) {
+            dispatcher.dispatch(betEvent("bet-" + i, "jackpot-" + (i % 2)));
+        }
+        dispatcher.shutdown();
+        
+        // Then
+        assertThat(processedBets.get("jackpot-0")).hasSize(500).isSortedAccordingTo(
+                (a, b) -> Integer.compare(Integer.parseInt(a.substring(4)), Integer.parseInt(b.substring(4))));
+        assertThat(processedBets.get("jackpot-1")).hasSize(500);
+        assertThat(threads.get("jackpot-0")).hasSize(1);
+        assertThat(threads.get("jackpot-1")).hasSize(1).doesNotContainAnyElementsOf(threads.get("jackpot-0"));
+        assertThat(meterRegistry.get("jackpot.pipeline.processed").tag("jackpot", "jackpot-0").counter().count())
+                .isEqualTo(500.0);
+    }
+    
+    @Test
+    void dispatch_WhenBatchFails_ShouldCountFailuresAndKeepLaneRunning() throws InterruptedException {
+        // Given
+        List<String> processedBets = new CopyOnWriteArrayList<>();
+        BetEvent failing = betEvent("bet-1", "jackpot-1");
+        doAnswer(invocation -> {
+            List<BetEvent> events = invocation.getArgument(1);
+            if (events.stream().anyMatch(event -> event.getBetId().equals("bet-1"))) {
+                throw new IllegalStateException("boom");
+            }
+            events.forEach(event -> processedBets.add(event.getBetId()));
+            return List.of();
+        }).when(betProcessor).processBatch(anyString(), anyList());
+        
+        // When
+        dispatcher.dispatch(failing);
+        awaitFirstFailure();
+        dispatcher.dispatch(betEvent("bet-2", "jackpot-1"));
+        dispatcher.shutdown();
+        
+        // Then
+        assertThat(processedBets).containsExactly("bet-2");
+        assertThat(meterRegistry.get("jackpot.pipeline.failed").tag("jackpot", "jackpot-1").counter().count())
+                .isEqualTo(1.0);
+        verify(retryScheduler).onFailure(eq(failing), eq(1), any(Runnable.class));
+    }
+    
+    @Test
+    void dispatch_WhenBetFails_ShouldResubmitOnlyThatBetWithNextAttempt() throws InterruptedException {
+        // Given: bet-1 fails on its first attempt only
+        jackpotProperties.getPipeline().setEnabled(false);
+        BetEvent failing = betEvent("bet-1", "jackpot-1");
+        BetEvent succeeding = betEvent("bet-2", "jackpot-1");
+        List<String> processedBets = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            List<BetEvent> events = invocation.getArgument(1);
+            events.forEach(event -> processedBets.add(event.getBetId()));
+            return processedBets.size() == 1 && events.contains(failing) ? List.of(failing) : List.of();
+        }).when(betProcessor).processBatch(anyString(), anyList());
+        ArgumentCaptor<Runnable> retry = ArgumentCaptor.forClass(Runnable.class);
+        
+        // When
+        dispatcher.dispatchAll("jackpot-1", List.of(failing, succeeding));
+        verify(retryScheduler).onFailure(eq(failing), eq(1), retry.capture());
+        retry.getValue().run();
+        
+        // Then
+        assertThat(processedBets).containsExactly("bet-1", "bet-2", "bet-1");
+        verify(retryScheduler, never()).onFailure(eq(failing), eq(2), any(Runnable.class));
+        verify(retryScheduler, never()).onFailure(eq(succeeding), anyInt(), any(Runnable.class));
+    }
+    
+    @Test
+    void resubmit_AfterShutdown_ShouldDeadLetterWithoutCreatingLane() throws InterruptedException {
+        // Given: bet-1 fails and its retry fires only after shutdown
+        BetEvent failing = betEvent("bet-1", "jackpot-2");
+        doAnswer(invocation -> List.of(failing)).when(betProcessor).processBatch(anyString(), anyList());
+        ArgumentCaptor<Runnable> retry = ArgumentCaptor.forClass(Runnable.class);
+        dispatcher.dispatch(failing).join();
+        verify(retryScheduler).onFailure(eq(failing), eq(1), retry.capture());
+        dispatcher.shutdown();
+        
+        // When
+        retry.getValue().run();
+        
+        // Then
+        verify(retryScheduler).deadLetter(eq(failing), eq(2), anyString());
+        assertThat(dispatcher.queueDepths()).isEmpty();
+        assertThatThrownBy(() -> dispatcher.dispatch(betEvent("bet-2", "jackpot-3")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+    
+    @Test
+    void dispatch_WhenPipelineDisabled_ShouldProcessInline() throws InterruptedException {
+        // Given
+        jackpotProperties.getPipeline().setEnabled(false);
+        BetEvent event = betEvent("bet-1", "jackpot-1");
+        
+        // When
+        dispatcher.dispatch(event);
+        
+        // Then
+        verify(betProcessor).processBatch("jackpot-1", List.of(event));
+        assertThat(dispatcher.queueDepths()).isEmpty();
+    }
+    
+    @Test
+    void dispatch_ShouldCompleteOnlyOnceLaneHasProcessedTheBet() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return List.of();
+        }).when(betProcessor).processBatch(anyString(), anyList());
+        
+        // When
+        CompletableFuture<Void> done = dispatcher.dispatch(betEvent("bet-1", "jackpot-1"));
+        
+        // Then
+        assertThat(done).isNotDone();
+        release.countDown();
+        done.get(5, TimeUnit.SECONDS);
+        assertThat(done).isCompleted();
+    }
+    
+    @Test
+    void dispatch_ForUnknownJackpot_ShouldDeadLetterWithoutCreatingLane() throws InterruptedException {
+        // Given
+        BetEvent event = betEvent("bet-1", "unknown");
+        
+        // When
+        CompletableFuture<Void> done = dispatcher.dispatch(event);
+        
+        // Then
+        assertThat(done).isCompleted();
+        verify(retryScheduler).deadLetter(eq(event), eq(1), anyString());
+        assertThat(dispatcher.queueDepths()).isEmpty();
+    }
+    
+    @Test
+    void submit_AfterLaneStopped_ShouldBeRejected() throws InterruptedException {
+        // Given
+        JackpotLane lane = new JackpotLane("jackpot-1", betProcessor, pendingBet -> { }, 16, 16, meterRegistry);
+        lane.stop(1000);
+        
+        // When / Then
+        assertThatThrownBy(() -> lane.submit(PendingBet.first(betEvent("bet-1", "jackpot-1"), null)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+    
+    private void awaitFirstFailure() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.find("jackpot.pipeline.failed").counters().stream().mapToDouble(c -> c.count()).sum() == 0
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+    
+    private BetEvent betEvent(String betId, String jackpotId) {
+        return BetEvent.builder()
+                .betId(betId)
+                .userId("user-1")
+                .jackpotId(jackpotId)
+                .betAmount(BigDecimal.valueOf(100.0))
+                .build();
+    }
+}
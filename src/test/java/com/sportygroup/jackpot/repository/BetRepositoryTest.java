@@ -0,0 +1,161 @@
+package com.sportygroup.jackpot.repository;
+
+import com.sportygroup.jackpot.domain.Bet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for BetRepository.
+ * Verifies that the user, jackpot and save-ordered indexes follow saves, updates and deletes.
+ */
+class BetRepositoryTest {
+    
+    private BetRepository betRepository;
+    
+    @BeforeEach
+    void setUp() {
+        betRepository = new BetRepository();
+    }
+    
+    private Bet bet(String betId, String userId, String jackpotId) {
+        return Bet.builder()
+                .betId(betId)
+                .userId(userId)
+                .jackpotId(jackpotId)
+                .betAmount(BigDecimal.valueOf(100.0))
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+    
+    @Test
+    void findByUserIdAndJackpotId_ShouldReturnOnlyMatchingBets() {
+        // Given
+        betRepository.save(bet("bet-1", "user-1", "jackpot-1"));
+        betRepository.save(bet("bet-2", "user-1", "jackpot-2"));
+        betRepository.save(bet("bet-3", "user-2", "jackpot-1"));
+        
+        // Then
+        assertThat(betRepository.findByUserId("user-1"))
+                .extracting(Bet::getBetId)
+                .containsExactlyInAnyOrder("bet-1", "bet-2");
+        assertThat(betRepository.findByJackpotId("jackpot-1"))
+                .extracting(Bet::getBetId)
+                .containsExactlyInAnyOrder("bet-1", "bet-3");
+        assertThat(betRepository.findByUserId("unknown")).isEmpty();
+    }
+    
+    @Test
+    void save_WithChangedUser_ShouldMoveBetBetweenIndexes() {
+        // Given
+        betRepository.save(bet("bet-1", "user-1", "jackpot-1"));
+        
+        // When
+        betRepository.save(bet("bet-1", "user-2", "jackpot-1"));
+        
+        // Then
+        assertThat(betRepository.findByUserId("user-1")).isEmpty();
+        assertThat(betRepository.findByUserId("user-2")).hasSize(1);
+        assertThat(betRepository.findByJackpotId("jackpot-1")).hasSize(1);
+        assertThat(betRepository.count()).isEqualTo(1);
+    }
+    
+    @Test
+    void deleteById_ShouldRemoveBetFromIndexes() {
+        // Given
+        betRepository.save(bet("bet-1", "user-1", "jackpot-1"));
+        
+        // When
+        betRepository.deleteById("bet-1");
+        
+        // Then
+        assertThat(betRepository.findById("bet-1")).isEmpty();
+        assertThat(betRepository.findByUserId("user-1")).isEmpty();
+        assertThat(betRepository.findByJackpotId("jackpot-1")).isEmpty();
+    }
+    
+    @Test
+    void findPage_ShouldWalkAllBetsOnceInSaveOrder() {
+        // Given: a re-saved bet moves to the end
+        LocalDateTime now = LocalDateTime.of(2024, 1, 15, 10, 30);
+        for (int i = 0; i < 25; i++) {
+            Bet bet = bet(String.format("bet-%02d", i), "user-1", "jackpot-1");
+            bet.setCreatedAt(now.plusSeconds(i / 5));
+            betRepository.save(bet);
+        }
+        Bet moved = bet("bet-00", "user-1", "jackpot-1");
+        moved.setCreatedAt(now.plusMinutes(1));
+        betRepository.save(moved);
+        betRepository.deleteById("bet-01");
+        
+        // When
+        List<String> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            Page<Bet> page = betRepository.findPage(cursor, 10);
+            page.items().forEach(bet -> walked.add(bet.getBetId()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+        
+        // Then
+        assertThat(pages).isEqualTo(3);
+        assertThat(walked).hasSize(24).doesNotHaveDuplicates().startsWith("bet-02").endsWith("bet-24", "bet-00");
+        assertThat(betRepository.streamAll().map(Bet::getBetId).toList()).isEqualTo(walked);
+    }
+    
+    @Test
+    void findPage_WhenBetWithEarlierTimestampIsSavedLate_ShouldNotSkipIt() {
+        // Given: a client has paged to the end
+        LocalDateTime now = LocalDateTime.of(2024, 1, 15, 10, 30);
+        for (int i = 0; i < 3; i++) {
+            Bet bet = bet("bet-" + i, "user-1", "jackpot-1");
+            bet.setCreatedAt(now.plusSeconds(i));
+            betRepository.save(bet);
+        }
+        String cursor = betRepository.findPage(null, 2).nextCursor();
+        
+        // When: a bet stamped before all of them is saved after the cursor was issued
+        Bet late = bet("bet-late", "user-1", "jackpot-1");
+        late.setCreatedAt(now.minusMinutes(1));
+        betRepository.save(late);
+        
+        // Then
+        assertThat(betRepository.findPage(cursor, 10).items())
+                .extracting(Bet::getBetId)
+                .containsExactly("bet-2", "bet-late");
+    }
+    
+    @Test
+    void findPage_WithMalformedCursor_ShouldThrow() {
+        // When / Then
+        assertThatThrownBy(() -> betRepository.findPage("not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    void totals_ShouldFollowSavesResavesAndDeletes() {
+        // Given
+        betRepository.save(bet("bet-1", "user-1", "jackpot-1"));
+        betRepository.save(bet("bet-2", "user-1", "jackpot-1"));
+        betRepository.save(bet("bet-3", "user-2", "jackpot-2"));
+        
+        // When
+        betRepository.save(bet("bet-2", "user-1", "jackpot-2"));
+        betRepository.deleteById("bet-1");
+        
+        // Then
+        assertThat(betRepository.totals()).isEqualTo(new Totals(2, 20000));
+        assertThat(betRepository.totalsByJackpot())
+                .containsEntry("jackpot-1", Totals.EMPTY)
+                .containsEntry("jackpot-2", new Totals(2, 20000));
+    }
+}
@@ -0,0 +1,103 @@
+package com.sportygroup.jackpot.repository;
+
+import com.sportygroup.jackpot.domain.JackpotContribution;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for JackpotContributionRepository.
+ * Verifies the indexed lookups and the per-jackpot time ordering.
+ */
+class JackpotContributionRepositoryTest {
+    
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 15, 10, 0);
+    
+    private JackpotContributionRepository contributionRepository;
+    
+    @BeforeEach
+    void setUp() {
+        contributionRepository = new JackpotContributionRepository();
+    }
+    
+    private JackpotContribution contribution(String id, String betId, String jackpotId, int minute) {
+        return JackpotContribution.builder()
+                .contributionId(id)
+                .betId(betId)
+                .userId("user-1")
+                .jackpotId(jackpotId)
+                .stakeAmount(BigDecimal.valueOf(100.0))
+                .contributionAmount(BigDecimal.valueOf(5.0))
+                .currentJackpotAmount(BigDecimal.valueOf(1005.0))
+                .createdAt(START.plusMinutes(minute))
+                .build();
+    }
+    
+    @Test
+    void findLatestByJackpotId_ShouldReturnNewestFirst() {
+        // Given
+        contributionRepository.save(contribution("c-2", "bet-2", "jackpot-1", 2));
+        contributionRepository.save(contribution("c-1", "bet-1", "jackpot-1", 1));
+        contributionRepository.save(contribution("c-3", "bet-3", "jackpot-1", 3));
+        contributionRepository.save(contribution("c-4", "bet-4", "jackpot-2", 4));
+        
+        // Then
+        assertThat(contributionRepository.findLatestByJackpotId("jackpot-1", 2))
+                .extracting(JackpotContribution::getContributionId)
+                .containsExactly("c-3", "c-2");
+        assertThat(contributionRepository.findByJackpotId("jackpot-1"))
+                .extracting(JackpotContribution::getContributionId)
+                .containsExactly("c-1", "c-2", "c-3");
+    }
+    
+    @Test
+    void findByJackpotIdBetween_ShouldIncludeFromAndExcludeTo() {
+        // Given
+        contributionRepository.save(contribution("c-1", "bet-1", "jackpot-1", 1));
+        contributionRepository.save(contribution("c-2", "bet-2", "jackpot-1", 2));
+        contributionRepository.save(contribution("c-3", "bet-3", "jackpot-1", 3));
+        
+        // Then
+        assertThat(contributionRepository.findByJackpotIdBetween("jackpot-1", START.plusMinutes(2), START.plusMinutes(3)))
+                .extracting(JackpotContribution::getContributionId)
+                .containsExactly("c-2");
+    }
+    
+    @Test
+    void findByBetId_ShouldUseIndex() {
+        // Given
+        contributionRepository.save(contribution("c-1", "bet-1", "jackpot-1", 1));
+        contributionRepository.save(contribution("c-2", "bet-2", "jackpot-1", 2));
+        
+        // Then
+        assertThat(contributionRepository.findByBetId("bet-2"))
+                .extracting(JackpotContribution::getContributionId)
+                .containsExactly("c-2");
+        assertThat(contributionRepository.findByUserId("user-1")).hasSize(2);
+    }
+    
+    @Test
+    void save_WhenContributionMovesToAnotherBetAndJackpot_ShouldDropItsOldEntries() {
+        // Given
+        contributionRepository.save(contribution("c-1", "bet-1", "jackpot-1", 1));
+        
+        // When
+        contributionRepository.save(contribution("c-1", "bet-2", "jackpot-2", 1));
+        
+        // Then
+        assertThat(contributionRepository.existsByBetId("bet-1")).isFalse();
+        assertThat(contributionRepository.findByBetId("bet-1")).isEmpty();
+        assertThat(contributionRepository.findByBetId("bet-2"))
+                .extracting(JackpotContribution::getJackpotId)
+                .containsExactly("jackpot-2");
+        assertThat(contributionRepository.findByJackpotId("jackpot-1")).isEmpty();
+        assertThat(contributionRepository.findLatestByJackpotId("jackpot-1", 10)).isEmpty();
+        assertThat(contributionRepository.findByJackpotId("jackpot-2"))
+                .extracting(JackpotContribution::getContributionId)
+                .containsExactly("c-1");
+    }
+}
@@ -0,0 +1,143 @@
+package com.sportygroup.jackpot.repository;
+
+import com.sportygroup.jackpot.domain.JackpotReward;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for JackpotRewardRepository.
+ * Verifies the indexed lookups, re-saves and the bounded, time-ordered winner history.
+ */
+class JackpotRewardRepositoryTest {
+    
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 15, 10, 0);
+    
+    private JackpotRewardRepository rewardRepository;
+    
+    @BeforeEach
+    void setUp() {
+        rewardRepository = new JackpotRewardRepository();
+    }
+    
+    private JackpotReward reward(String id, String userId, String jackpotId, int minute) {
+        return JackpotReward.builder()
+                .rewardId(id)
+                .betId("bet-" + id)
+                .userId(userId)
+                .jackpotId(jackpotId)
+                .jackpotRewardAmount(BigDecimal.valueOf(1000.0))
+                .createdAt(START.plusMinutes(minute))
+                .build();
+    }
+    
+    @Test
+    void findByUserIdAndJackpotId_ShouldReturnMatchingRewards() {
+        // Given
+        rewardRepository.save(reward("r-1", "user-1", "jackpot-1", 1));
+        rewardRepository.save(reward("r-2", "user-2", "jackpot-1", 2));
+        rewardRepository.save(reward("r-3", "user-1", "jackpot-2", 3));
+        
+        // Then
+        assertThat(rewardRepository.findByUserId("user-1"))
+                .extracting(JackpotReward::getRewardId)
+                .containsExactlyInAnyOrder("r-1", "r-3");
+        assertThat(rewardRepository.findByJackpotId("jackpot-1"))
+                .extracting(JackpotReward::getRewardId)
+                .containsExactly("r-1", "r-2");
+        assertThat(rewardRepository.findByBetId("bet-r-2"))
+                .extracting(JackpotReward::getRewardId)
+                .containsExactly("r-2");
+        assertThat(rewardRepository.findByUserId("unknown")).isEmpty();
+    }
+    
+    @Test
+    void findLatestWinnersByJackpotId_ShouldOrderByCreatedAtNotSaveOrder() {
+        // Given: the newest reward is saved first
+        rewardRepository.save(reward("r-3", "user-3", "jackpot-1", 3));
+        rewardRepository.save(reward("r-1", "user-1", "jackpot-1", 1));
+        rewardRepository.save(reward("r-2", "user-2", "jackpot-1", 2));
+        
+        // When / Then
+        assertThat(rewardRepository.findLatestWinnersByJackpotId("jackpot-1", 10))
+                .extracting(JackpotReward::getRewardId)
+                .containsExactly("r-3", "r-2", "r-1");
+    }
+    
+    @Test
+    void save_WhenRewardIsResaved_ShouldReplaceItInEveryIndex() {
+        // Given
+        rewardRepository.save(reward("r-1", "user-1", "jackpot-1", 1));
+        rewardRepository.save(reward("r-2", "user-2", "jackpot-1", 2));
+        
+        // When: r-2 moves to another user and jackpot
+        rewardRepository.save(reward("r-2", "user-3", "jackpot-2", 2));
+        
+        // Then
+        assertThat(rewardRepository.count()).isEqualTo(2);
+        assertThat(rewardRepository.findByUserId("user-2")).isEmpty();
+        assertThat(rewardRepository.findByUserId("user-3"))
+                .extracting(JackpotReward::getRewardId)
+                .containsExactly("r-2");
+        assertThat(rewardRepository.findLatestWinnersByJackpotId("jackpot-1", 10))
+                .extracting(JackpotReward::getRewardId)
+                .containsExactly("r-1");
+        assertThat(rewardRepository.findLatestWinnersByJackpotId("jackpot-2", 10))
+                .extracting(JackpotReward::getUserId)
+                .containsExactly("user-3");
+    }
+    
+    @Test
+    void save_WhenLastRewardMovesToAnotherJackpot_ShouldLeaveOldJackpotEmpty() {
+        // Given
+        rewardRepository.save(reward("r-1", "user-1", "jackpot-1", 1));
+        
+        // When
+        rewardRepository.save(reward("r-1", "user-1", "jackpot-2", 1));
+        
+        // Then
+        assertThat(rewardRepository.findByJackpotId("jackpot-1")).isEmpty();
+        assertThat(rewardRepository.findLatestWinnersByJackpotId("jackpot-1", 10)).isEmpty();
+        assertThat(rewardRepository.findByJackpotId("jackpot-2"))
+                .extracting(JackpotReward::getRewardId)
+                .containsExactly("r-1");
+    }
+    
+    @Test
+    void save_WhenRewardIsResavedUnchanged_ShouldNotDuplicateWinner() {
+        // Given
+        JackpotReward reward = reward("r-1", "user-1", "jackpot-1", 1);
+        rewardRepository.save(reward);
+        
+        // When
+        rewardRepository.save(reward);
+        
+        // Then
+        assertThat(rewardRepository.findLatestWinnersByJackpotId("jackpot-1", 10)).hasSize(1);
+        assertThat(rewardRepository.findByJackpotId("jackpot-1")).hasSize(1);
+        assertThat(rewardRepository.totals().count()).isEqualTo(1);
+    }
+    
+    @Test
+    void findLatestWinnersByJackpotId_ShouldKeepOnlyTheNewestWinners() {
+        // Given
+        int saved = JackpotRewardRepository.WINNER_HISTORY_SIZE + 20;
+        for (int i = 0; i < saved; i++) {
+            rewardRepository.save(reward("r-" + i, "user-1", "jackpot-1", i));
+        }
+        
+        // When
+        List<JackpotReward> winners = rewardRepository.findLatestWinnersByJackpotId("jackpot-1", saved);
+        
+        // Then
+        assertThat(winners).hasSize(JackpotRewardRepository.WINNER_HISTORY_SIZE);
+        assertThat(winners.get(0).getRewardId()).isEqualTo("r-" + (saved - 1));
+        assertThat(winners.get(winners.size() - 1).getRewardId()).isEqualTo("r-20");
+        assertThat(rewardRepository.findLatestWinnersByJackpotId("jackpot-1", 0)).isEmpty();
+    }
+}
@@ -0,0 +1,205 @@
+package com.sportygroup.jackpot.service;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.domain.Jackpot;
+import com.sportygroup.jackpot.dto.JackpotAmountUpdate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for JackpotAmountFeed.
+ * Tests that pool changes are detected per tick and coalesced into one update per jackpot,
+ * and that subscribers get the snapshot and updates and are dropped when their sends fail or fall behind.
+ */
+@ExtendWith(MockitoExtension.class)
+class JackpotAmountFeedTest {
+    
+    @Mock
+    private JackpotService jackpotService;
+    
+    private JackpotProperties jackpotProperties;
+    private JackpotAmountFeed jackpotAmountFeed;
+    private Jackpot mainJackpot;
+    private Jackpot dailyJackpot;
+    
+    @BeforeEach
+    void setUp() {
+        jackpotProperties = new JackpotProperties();
+        // The ticker never fires during a test; ticks are driven through collectChanges() and tick()
+        jackpotProperties.getFeed().setTickMs(3_600_000);
+        jackpotAmountFeed = newFeed();
+        mainJackpot = Jackpot.create("jackpot-1", "Main Jackpot", BigDecimal.valueOf(1000.0),
+                Jackpot.ContributionType.FIXED, Jackpot.RewardType.FIXED);
+        dailyJackpot = Jackpot.create("jackpot-2", "Daily Jackpot", BigDecimal.valueOf(500.0),
+                Jackpot.ContributionType.FIXED, Jackpot.RewardType.FIXED);
+        when(jackpotService.getAllJackpotsView()).thenReturn(List.of(mainJackpot, dailyJackpot));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        jackpotAmountFeed.shutdown();
+    }
+    
+    private JackpotAmountFeed newFeed() {
+        return new JackpotAmountFeed(jackpotService, JsonMapper.builder().findAndAddModules().build(),
+                jackpotProperties, new SimpleMeterRegistry());
+    }
+    
+    private static String text(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        return frame.stream().map(data -> data.getData().toString()).collect(Collectors.joining());
+    }
+    
+    @Test
+    void collectChanges_OnFirstTick_ShouldReportEveryJackpot() {
+        // When
+        List<JackpotAmountUpdate> changes = jackpotAmountFeed.collectChanges();
+        
+        // Then
+        assertThat(changes).extracting(JackpotAmountUpdate::getJackpotId).containsExactly("jackpot-1", "jackpot-2");
+    }
+    
+    @Test
+    void collectChanges_AfterBurstOfContributions_ShouldReportOneUpdateWithTheLatestAmount() {
+        // Given
+        jackpotAmountFeed.collectChanges();
+        mainJackpot.addContribution(BigDecimal.valueOf(5.0));
+        mainJackpot.addContribution(BigDecimal.valueOf(5.0));
+        mainJackpot.addContribution(BigDecimal.valueOf(5.0));
+        
+        // When
+        List<JackpotAmountUpdate> changes = jackpotAmountFeed.collectChanges();
+        
+        // Then
+        assertThat(changes).hasSize(1);
+        assertThat(changes.get(0).getJackpotId()).isEqualTo("jackpot-1");
+        assertThat(changes.get(0).getCurrentAmount()).isEqualByComparingTo("1015.0");
+        assertThat(changes.get(0).getVersion()).isEqualTo(3);
+        assertThat(jackpotAmountFeed.collectChanges()).isEmpty();
+    }
+    
+    @Test
+    void subscribe_ShouldSendSnapshotThenBroadcastChanges() throws Exception {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter();
+        jackpotAmountFeed.subscribe(emitter);
+        String snapshot = emitter.nextFrame();
+        
+        // When
+        mainJackpot.addContribution(BigDecimal.valueOf(5.0));
+        jackpotAmountFeed.tick();
+        
+        // Then
+        assertThat(snapshot).contains("event:" + JackpotAmountFeed.SNAPSHOT_EVENT, "jackpot-1", "jackpot-2");
+        assertThat(emitter.nextFrame())
+                .contains("event:" + JackpotAmountFeed.UPDATE_EVENT, "jackpot-1", "1005")
+                .doesNotContain("jackpot-2");
+        assertThat(jackpotAmountFeed.subscriberCount()).isEqualTo(1);
+    }
+    
+    @Test
+    void subscribe_WhenSendFails_ShouldRemoveSubscriber() throws Exception {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.failure = new IOException("Broken pipe");
+        
+        // When
+        jackpotAmountFeed.subscribe(emitter);
+        
+        // Then
+        assertThat(emitter.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(emitter.error).isSameAs(emitter.failure);
+        assertThat(jackpotAmountFeed.subscriberCount()).isZero();
+    }
+    
+    @Test
+    void tick_WhenSubscriberFallsBehind_ShouldDropItWithoutWaiting() throws Exception {
+        // Given: a subscriber whose client stopped reading, with room for one queued frame
+        jackpotAmountFeed.shutdown();
+        jackpotProperties.getFeed().setSubscriberQueueSize(1);
+        jackpotAmountFeed = newFeed();
+        RecordingEmitter slow = new RecordingEmitter();
+        slow.release = new CountDownLatch(1);
+        try {
+            jackpotAmountFeed.subscribe(slow);
+            slow.nextFrame(); // The sender is now stuck writing the snapshot
+            
+            // When
+            mainJackpot.addContribution(BigDecimal.valueOf(5.0));
+            jackpotAmountFeed.tick();
+            mainJackpot.addContribution(BigDecimal.valueOf(5.0));
+            jackpotAmountFeed.tick();
+            
+            // Then
+            assertThat(slow.completed.getCount()).isZero();
+            assertThat(slow.error).isNull();
+            assertThat(jackpotAmountFeed.subscriberCount()).isZero();
+        } finally {
+            slow.release.countDown();
+        }
+    }
+    
+    /**
+     * Emitter that records the frames written to it, and can fail or stall its sends
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        
+        private final BlockingQueue<String> frames = new LinkedBlockingQueue<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile IOException failure;
+        private volatile CountDownLatch release;
+        private volatile Throwable error;
+        
+        @Override
+        public void send(Set<ResponseBodyEmitter.DataWithMediaType> frame) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            frames.add(text(frame));
+            if (release != null) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+        
+        @Override
+        public void completeWithError(Throwable ex) {
+            error = ex;
+            completed.countDown();
+        }
+        
+        String nextFrame() throws InterruptedException {
+            String frame = frames.poll(5, TimeUnit.SECONDS);
+            assertThat(frame).as("frame sent within 5 s").isNotNull();
+            return frame;
+        }
+    }
+}
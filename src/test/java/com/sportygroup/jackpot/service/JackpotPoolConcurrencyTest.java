@@ -0,0 +1,253 @@
+package com.sportygroup.jackpot.service;
+
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.config.StrategyFactory;
+import com.sportygroup.jackpot.domain.Bet;
+import com.sportygroup.jackpot.domain.Jackpot;
+import com.sportygroup.jackpot.domain.JackpotPool;
+import com.sportygroup.jackpot.repository.JackpotContributionRepository;
+import com.sportygroup.jackpot.repository.JackpotRepository;
+import com.sportygroup.jackpot.strategy.impl.FixedContributionStrategy;
+import com.sportygroup.jackpot.strategy.impl.FixedRewardStrategy;
+import com.sportygroup.jackpot.strategy.impl.ThreadLocalRandomSource;
+import com.sportygroup.jackpot.strategy.impl.VariableContributionStrategy;
+import com.sportygroup.jackpot.strategy.impl.VariableRewardStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Multi-threaded stress tests for jackpot pool updates.
+ * Verifies that no contribution is lost and no pool is paid out twice under heavy contention.
+ */
+class JackpotPoolConcurrencyTest {
+    
+    private static final int THREADS = Math.max(8, Runtime.getRuntime().availableProcessors() * 2);
+    private static final BigDecimal INITIAL_AMOUNT = BigDecimal.valueOf(1000.0);
+    
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    
+    private JackpotService jackpotService;
+    private JackpotContributionService contributionService;
+    private JackpotContributionRepository contributionRepository;
+    
+    @BeforeEach
+    void setUp() {
+        JackpotProperties jackpotProperties = new JackpotProperties();
+        JackpotProperties.Pool stripedPool = new JackpotProperties.Pool();
+        stripedPool.setStriped(true);
+        stripedPool.setStripes(THREADS);
+        jackpotProperties.getPools().put("hot-jackpot", stripedPool);
+        StrategyFactory strategyFactory = new StrategyFactory(
+                new FixedContributionStrategy(jackpotProperties),
+                new VariableContributionStrategy(jackpotProperties),
+                new FixedRewardStrategy(jackpotProperties, new ThreadLocalRandomSource()),
+                new VariableRewardStrategy(jackpotProperties, new ThreadLocalRandomSource()),
+                jackpotProperties);
+        jackpotService = new JackpotService(new JackpotRepository(), jackpotProperties);
+        contributionRepository = new JackpotContributionRepository();
+        contributionService = new JackpotContributionService(contributionRepository, jackpotService, strategyFactory);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+    
+    private <T> List<T> runConcurrently(int tasks, Callable<T> task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get(60, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+    
+    @Test
+    void processContribution_FromManyThreads_ShouldNotLoseContributions() throws Exception {
+        // Given
+        Jackpot jackpot = jackpotService.createJackpot("jackpot-1", "Stress Jackpot",
+                Jackpot.ContributionType.FIXED, Jackpot.RewardType.FIXED);
+        int betsPerThread = 500;
+        
+        // When
+        runConcurrently(THREADS, () -> {
+            for (int i = 0; i < betsPerThread; i++) {
+                contributionService.processContribution(Bet.create("user-1", "jackpot-1", BigDecimal.valueOf(100.0)));
+            }
+            return null;
+        });
+        
+        // Then: every 100.00 bet contributes exactly 5.00
+        long totalBets = (long) THREADS * betsPerThread;
+        assertThat(jackpot.getCurrentAmount())
+                .isEqualByComparingTo(INITIAL_AMOUNT.add(BigDecimal.valueOf(5.0).multiply(BigDecimal.valueOf(totalBets))));
+        assertThat(jackpot.getPool().getVersion()).isEqualTo(totalBets);
+        assertThat(contributionRepository.count()).isEqualTo(totalBets);
+    }
+    
+    @Test
+    void processContribution_OnStripedPool_ShouldNotLoseContributions() throws Exception {
+        // Given
+        Jackpot jackpot = jackpotService.createJackpot("hot-jackpot", "Hot Jackpot",
+                Jackpot.ContributionType.FIXED, Jackpot.RewardType.FIXED);
+        int betsPerThread = 500;
+        
+        // When
+        runConcurrently(THREADS, () -> {
+            for (int i = 0; i < betsPerThread; i++) {
+                contributionService.processContribution(Bet.create("user-1", "hot-jackpot", BigDecimal.valueOf(100.0)));
+            }
+            return null;
+        });
+        
+        // Then
+        long totalBets = (long) THREADS * betsPerThread;
+        assertThat(jackpot.isStriped()).isTrue();
+        assertThat(jackpot.getCurrentAmount())
+                .isEqualByComparingTo(INITIAL_AMOUNT.add(BigDecimal.valueOf(5.0).multiply(BigDecimal.valueOf(totalBets))));
+        assertThat(jackpot.snapshot().getVersion()).isEqualTo(totalBets);
+        assertThat(contributionRepository.count()).isEqualTo(totalBets);
+    }
+    
+    @Test
+    void contribute_OnStripedPool_ShouldReturnAmountIncludingPendingContributions() {
+        // Given
+        Jackpot jackpot = jackpotService.createJackpot("hot-jackpot", "Hot Jackpot",
+                Jackpot.ContributionType.FIXED, Jackpot.RewardType.FIXED);
+        long initialCents = jackpot.getInitialAmountCents();
+        jackpotService.contribute(jackpot, 500);
+        
+        // When
+        long amountCents = jackpotService.contribute(jackpot, 250);
+        
+        // Then
+        assertThat(amountCents).isEqualTo(initialCents + 750);
+        assertThat(jackpot.getCurrentAmountCents()).isEqualTo(initialCents + 750);
+    }
+    
+    @Test
+    void setCurrentAmount_OnStripedPool_ShouldFoldPendingContributionsAndKeepLaterOnes() {
+        // Given
+        Jackpot jackpot = jackpotService.createJackpot("hot-jackpot", "Hot Jackpot",
+                Jackpot.ContributionType.FIXED, Jackpot.RewardType.FIXED);
+        jackpotService.contribute(jackpot, 500);
+        
+        // When
+        jackpot.setCurrentAmount(BigDecimal.valueOf(2000.0));
+        jackpotService.contribute(jackpot, 500);
+        
+        // Then: the pending contribution is ordered before the overwrite, the later one is kept
+        JackpotPool snapshot = jackpot.snapshot();
+        assertThat(snapshot.getAmount()).isEqualByComparingTo(BigDecimal.valueOf(2005.0));
+        assertThat(snapshot.getVersion()).isEqualTo(3);
+    }
+    
+    @Test
+    void snapshot_OnStripedPoolDuringClaims_ShouldNeverGoBackInVersion() throws Exception {
+        // Given
+        Jackpot jackpot = jackpotService.createJackpot("hot-jackpot", "Hot Jackpot",
+                Jackpot.ContributionType.FIXED, Jackpot.RewardType.FIXED);
+        int operationsPerThread = 20_000;
+        
+        // When: contributors and claimers run while every thread also reads the pool
+        List<Boolean> monotonic = runConcurrently(THREADS, new Callable<Boolean>() {
+            private final AtomicInteger ids = new AtomicInteger();
+            
+            @Override
+            public Boolean call() {
+                boolean claimer = ids.getAndIncrement() % 4 == 0;
+                long lastVersion = -1L;
+                for (int i = 0; i < operationsPerThread; i++) {
+                    if (claimer && i % 100 == 0) {
+                        jackpotService.claimJackpot(jackpot);
+                    } else if (!claimer) {
+                        jackpotService.contribute(jackpot, 5);
+                    }
+                    long version = jackpot.snapshot().getVersion();
+                    if (version < lastVersion) {
+                        return false;
+                    }
+                    lastVersion = version;
+                }
+                return true;
+            }
+        });
+        
+        // Then
+        assertThat(monotonic).containsOnly(true);
+    }
+    
+    @Test
+    void claimJackpot_ConcurrentWithContributions_ShouldConserveMoney() throws Exception {
+        // Given
+        Jackpot jackpot = jackpotService.createJackpot("jackpot-1", "Stress Jackpot",
+                Jackpot.ContributionType.FIXED, Jackpot.RewardType.FIXED);
+        
+        // When / Then
+        assertMoneyConserved(jackpot);
+    }
+    
+    @Test
+    void claimJackpot_OnStripedPool_ShouldConserveMoney() throws Exception {
+        // Given
+        Jackpot jackpot = jackpotService.createJackpot("hot-jackpot", "Hot Jackpot",
+                Jackpot.ContributionType.FIXED, Jackpot.RewardType.FIXED);
+        
+        // When / Then
+        assertMoneyConserved(jackpot);
+    }
+    
+    private void assertMoneyConserved(Jackpot jackpot) throws Exception {
+        int operationsPerThread = 20_000;
+        long contributionCents = 5;
+        BigDecimal contribution = BigDecimal.valueOf(0.05);
+        
+        // When: half of the threads contribute, the other half keep winning the pool
+        List<BigDecimal> paidOutPerThread = runConcurrently(THREADS, new Callable<BigDecimal>() {
+            private final AtomicInteger ids = new AtomicInteger();
+            
+            @Override
+            public BigDecimal call() {
+                boolean claimer = ids.getAndIncrement() % 2 == 0;
+                BigDecimal paidOut = BigDecimal.ZERO;
+                for (int i = 0; i < operationsPerThread; i++) {
+                    if (claimer && i % 100 == 0) {
+                        JackpotPool claimed = jackpotService.claimJackpot(jackpot);
+                        paidOut = paidOut.add(claimed.getAmount()).subtract(INITIAL_AMOUNT);
+                    } else if (!claimer) {
+                        jackpotService.contribute(jackpot, contributionCents);
+                    }
+                }
+                return paidOut;
+            }
+        });
+        
+        // Then: every contribution is either still in the pool or was paid out exactly once
+        BigDecimal totalContributed = contribution.multiply(BigDecimal.valueOf((long) (THREADS / 2) * operationsPerThread));
+        BigDecimal totalPaidOut = paidOutPerThread.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertThat(jackpot.getCurrentAmount().subtract(INITIAL_AMOUNT).add(totalPaidOut))
+                .isEqualByComparingTo(totalContributed);
+    }
+}
@@ -1,5 +1,6 @@
 package com.sportygroup.jackpot.service;
 
+import com.sportygroup.jackpot.config.JackpotProperties;
 import com.sportygroup.jackpot.domain.Jackpot;
 import com.sportygroup.jackpot.repository.JackpotRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,7 +31,7 @@ class JackpotServiceTest {
     
     @BeforeEach
     void setUp() {
-        jackpotService = new JackpotService(jackpotRepository);
+        jackpotService = new JackpotService(jackpotRepository, new JackpotProperties());
     }
     
     @Test
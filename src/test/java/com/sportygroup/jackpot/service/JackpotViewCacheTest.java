@@ -0,0 +1,77 @@
+package com.sportygroup.jackpot.service;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.sportygroup.jackpot.domain.Jackpot;
+import com.sportygroup.jackpot.repository.JackpotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for JackpotViewCache.
+ * Tests that views are reused while jackpots are unchanged and rebuilt with a new ETag once they change.
+ */
+class JackpotViewCacheTest {
+    
+    private JackpotRepository jackpotRepository;
+    private JackpotViewCache jackpotViewCache;
+    private Jackpot jackpot;
+    
+    @BeforeEach
+    void setUp() {
+        jackpotRepository = new JackpotRepository();
+        jackpotViewCache = new JackpotViewCache(jackpotRepository, JsonMapper.builder().findAndAddModules().build());
+        jackpot = jackpotRepository.save(Jackpot.create("jackpot-1", "Main Jackpot", BigDecimal.valueOf(1000.0),
+                Jackpot.ContributionType.FIXED, Jackpot.RewardType.FIXED));
+        jackpotRepository.save(Jackpot.create("jackpot-2", "Daily Jackpot", BigDecimal.valueOf(500.0),
+                Jackpot.ContributionType.FIXED, Jackpot.RewardType.FIXED));
+    }
+    
+    @Test
+    void getJackpotView_WhenUnchanged_ShouldReturnTheCachedView() {
+        // Given
+        JackpotViewCache.JackpotView first = jackpotViewCache.getJackpotView("jackpot-1").orElseThrow();
+        
+        // When
+        JackpotViewCache.JackpotView second = jackpotViewCache.getJackpotView("jackpot-1").orElseThrow();
+        
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.json(), StandardCharsets.UTF_8)).contains("\"jackpotId\":\"jackpot-1\"");
+    }
+    
+    @Test
+    void getJackpotView_AfterContribution_ShouldRebuildWithNewETag() {
+        // Given
+        JackpotViewCache.JackpotView before = jackpotViewCache.getJackpotView("jackpot-1").orElseThrow();
+        
+        // When
+        jackpot.addContribution(BigDecimal.valueOf(50.0));
+        JackpotViewCache.JackpotView after = jackpotViewCache.getJackpotView("jackpot-1").orElseThrow();
+        
+        // Then
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(new String(after.json(), StandardCharsets.UTF_8)).contains("1050");
+    }
+    
+    @Test
+    void getAllJackpotsView_ShouldBeReusedUntilAJackpotChanges() throws IOException {
+        // Given
+        JackpotViewCache.JackpotView first = jackpotViewCache.getAllJackpotsView();
+        
+        // When
+        JackpotViewCache.JackpotView unchanged = jackpotViewCache.getAllJackpotsView();
+        jackpot.addContribution(BigDecimal.valueOf(50.0));
+        JackpotViewCache.JackpotView changed = jackpotViewCache.getAllJackpotsView();
+        
+        // Then
+        assertThat(unchanged).isSameAs(first);
+        assertThat(changed.etag()).isNotEqualTo(first.etag());
+        assertThat(JsonMapper.builder().build().readTree(changed.json()).size()).isEqualTo(2);
+    }
+}
@@ -112,4 +112,24 @@ class FixedContributionStrategyTest {
         // Then
         assertThat(result).isEqualTo("FIXED");
     }
+    
+    @Test
+    void calculateContribution_WhenPercentageIsChanged_ShouldUseTheNewPercentage() {
+        // Given
+        JackpotProperties properties = new JackpotProperties();
+        FixedContributionStrategy configuredStrategy = new FixedContributionStrategy(properties);
+        Jackpot jackpot = Jackpot.builder()
+                .jackpotId("jackpot-1")
+                .currentAmount(BigDecimal.valueOf(1000.0))
+                .build();
+        assertThat(configuredStrategy.calculateContributionCents(10_000L, jackpot)).isEqualTo(500L);
+        
+        // When
+        properties.getStrategies().getFixedContribution().setPercentage(BigDecimal.valueOf(0.10));
+        
+        // Then
+        assertThat(configuredStrategy.calculateContributionCents(10_000L, jackpot)).isEqualTo(1_000L);
+        assertThat(configuredStrategy.calculateContribution(BigDecimal.valueOf(100.0), jackpot))
+                .isEqualByComparingTo("10.00");
+    }
 }
@@ -0,0 +1,51 @@
+package com.sportygroup.jackpot.strategy.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SeededRandomSource.
+ * Tests that draws are reproducible per jackpot, whatever other jackpots draw in between.
+ */
+class SeededRandomSourceTest {
+    
+    @Test
+    void nextDouble_WithSameSeed_ShouldRepeatDrawsPerJackpot() {
+        // Given
+        SeededRandomSource first = new SeededRandomSource(42);
+        SeededRandomSource second = new SeededRandomSource(42);
+        
+        // When
+        double[] firstDraws = new double[100];
+        double[] secondDraws = new double[100];
+        for (int i = 0; i < 100; i++) {
+            firstDraws[i] = first.nextDouble("jackpot-1");
+            // Draws for another jackpot in between must not shift this jackpot's sequence
+            second.nextDouble("jackpot-2");
+            secondDraws[i] = second.nextDouble("jackpot-1");
+        }
+        
+        // Then
+        assertThat(secondDraws).containsExactly(firstDraws);
+        assertThat(Arrays.stream(firstDraws).boxed())
+                .allSatisfy(draw -> assertThat(draw).isGreaterThanOrEqualTo(0.0).isLessThan(1.0));
+    }
+    
+    @Test
+    void nextDouble_WithDifferentSeedOrJackpot_ShouldDrawDifferently() {
+        // Given
+        SeededRandomSource source = new SeededRandomSource(42);
+        SeededRandomSource otherSeed = new SeededRandomSource(43);
+        
+        // When
+        double draw = source.nextDouble("jackpot-1");
+        double otherJackpotDraw = source.nextDouble("jackpot-2");
+        double otherSeedDraw = otherSeed.nextDouble("jackpot-1");
+        
+        // Then
+        assertThat(draw).isNotEqualTo(otherJackpotDraw).isNotEqualTo(otherSeedDraw);
+    }
+}
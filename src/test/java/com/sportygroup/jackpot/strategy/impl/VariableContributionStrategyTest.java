@@ -0,0 +1,78 @@
+package com.sportygroup.jackpot.strategy.impl;
+
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.domain.Jackpot;
+import com.sportygroup.jackpot.domain.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for VariableContributionStrategy.
+ * Verifies that the fixed-point calculation rounds exactly like the BigDecimal one.
+ */
+class VariableContributionStrategyTest {
+    
+    private JackpotProperties jackpotProperties;
+    private VariableContributionStrategy strategy;
+    
+    @BeforeEach
+    void setUp() {
+        jackpotProperties = new JackpotProperties();
+        strategy = new VariableContributionStrategy(jackpotProperties);
+    }
+    
+    private Jackpot jackpot(long currentAmountCents) {
+        Jackpot jackpot = Jackpot.create("jackpot-1", "Test Jackpot", BigDecimal.valueOf(1000.0),
+                Jackpot.ContributionType.VARIABLE, Jackpot.RewardType.FIXED);
+        jackpot.addContributionCents(currentAmountCents - jackpot.getInitialAmountCents());
+        return jackpot;
+    }
+    
+    @Test
+    void calculateContribution_ShouldDecreaseAsPoolGrows() {
+        // Given
+        BigDecimal betAmount = BigDecimal.valueOf(100.0);
+        
+        // When
+        BigDecimal atInitialPool = strategy.calculateContribution(betAmount, jackpot(100_000L));
+        BigDecimal afterGrowth = strategy.calculateContribution(betAmount, jackpot(105_000L));
+        BigDecimal afterDepletion = strategy.calculateContribution(betAmount, jackpot(1_000_000L));
+        
+        // Then: 10% initially, 10% - 50 x 0.1% = 5% after growing by 50, never below 0
+        assertThat(atInitialPool).isEqualByComparingTo(BigDecimal.valueOf(10.0));
+        assertThat(afterGrowth).isEqualByComparingTo(BigDecimal.valueOf(5.0));
+        assertThat(afterDepletion).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+    
+    @Test
+    void calculateContributionCents_ShouldMatchBigDecimalCalculation() {
+        // Given: rates with awkward digits so HALF_UP ties and sub-cent results occur
+        BigDecimal[] initialPercentages = {BigDecimal.valueOf(0.10), new BigDecimal("0.0725"), new BigDecimal("0.123456789")};
+        BigDecimal[] decayRates = {BigDecimal.valueOf(0.001), new BigDecimal("0.00037"), new BigDecimal("0.000000005")};
+        Random random = new Random(7);
+        
+        for (BigDecimal initialPercentage : initialPercentages) {
+            for (BigDecimal decayRate : decayRates) {
+                jackpotProperties.getStrategies().getVariableContribution().setInitialPercentage(initialPercentage);
+                jackpotProperties.getStrategies().getVariableContribution().setDecayRate(decayRate);
+                
+                for (int i = 0; i < 5_000; i++) {
+                    long betAmountCents = 1 + random.nextInt(10_000_000);
+                    Jackpot jackpot = jackpot(100_000L + random.nextInt(20_000_000));
+                    
+                    // When
+                    long cents = strategy.calculateContributionCents(betAmountCents, jackpot);
+                    BigDecimal expected = strategy.calculateContribution(Money.toBigDecimal(betAmountCents), jackpot);
+                    
+                    // Then
+                    assertThat(Money.toBigDecimal(cents)).isEqualByComparingTo(expected);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.sportygroup.jackpot.strategy.impl;
+
+import com.sportygroup.jackpot.config.JackpotProperties;
+import com.sportygroup.jackpot.domain.Jackpot;
+import com.sportygroup.jackpot.strategy.StrategyParameters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for VariableRewardStrategy.
+ * Verifies that the integer threshold draw wins as often as the BigDecimal calculation along the whole chance curve.
+ */
+class VariableRewardStrategyTest {
+    
+    private static final int DRAWS = 200_000;
+    
+    private JackpotProperties jackpotProperties;
+    private VariableRewardStrategy strategy;
+    private StrategyParameters parameters;
+    
+    @BeforeEach
+    void setUp() {
+        jackpotProperties = new JackpotProperties();
+        JackpotProperties.Strategies.VariableReward config = jackpotProperties.getStrategies().getVariableReward();
+        config.setBaseChance(new BigDecimal("0.02"));
+        config.setIncreaseRate(new BigDecimal("0.0003"));
+        config.setMaxChance(new BigDecimal("0.35"));
+        config.setTriggerLimit(BigDecimal.valueOf(5000.0));
+        strategy = new VariableRewardStrategy(jackpotProperties, new SeededRandomSource(42));
+        parameters = StrategyParameters.compile(jackpotProperties.getStrategies());
+    }
+    
+    private Jackpot jackpot(long currentAmountCents) {
+        Jackpot jackpot = Jackpot.create("jackpot-1", "Test Jackpot", BigDecimal.valueOf(1000.0),
+                Jackpot.ContributionType.FIXED, Jackpot.RewardType.VARIABLE);
+        jackpot.addContributionCents(currentAmountCents - jackpot.getInitialAmountCents());
+        return jackpot;
+    }
+    
+    @Test
+    void evaluateReward_WithThresholdDraw_ShouldWinAsOftenAsBigDecimalCalculation() {
+        // Given: the initial pool, the rising part, just below and past the maximum, and past the trigger limit
+        long[] poolAmountsCents = {100_000L, 150_000L, 200_000L, 209_999L, 300_000L, 500_000L};
+        double[] chances = {0.02, 0.17, 0.32, 0.349997, 0.35, 1.0};
+        
+        for (int level = 0; level < poolAmountsCents.length; level++) {
+            Jackpot jackpot = jackpot(poolAmountsCents[level]);
+            
+            // When
+            int thresholdWins = 0;
+            int bigDecimalWins = 0;
+            for (int i = 0; i < DRAWS; i++) {
+                if (strategy.evaluateReward(poolAmountsCents[level], jackpot, parameters)) {
+                    thresholdWins++;
+                }
+                if (strategy.evaluateReward(jackpot)) {
+                    bigDecimalWins++;
+                }
+            }
+            
+            // Then: both win rates within five standard deviations of the chance and of each other
+            double chance = chances[level];
+            double tolerance = 5 * Math.sqrt(chance * (1 - chance) / DRAWS);
+            assertThat((double) thresholdWins / DRAWS).isCloseTo(chance, within(tolerance));
+            assertThat((double) bigDecimalWins / DRAWS).isCloseTo(chance, within(tolerance));
+            assertThat((double) (thresholdWins - bigDecimalWins) / DRAWS).isCloseTo(0.0, within(tolerance * Math.sqrt(2)));
+        }
+    }
+    
+    @Test
+    void compile_ShouldPlaceSaturationWhereChanceReachesMaximum() {
+        // When
+        long saturation = parameters.variableReward().saturationIncreaseCents();
+        
+        // Then: (0.35 - 0.02) / 0.0003 = 1100.00, i.e. 110,000 cents of pool increase
+        assertThat(saturation).isEqualTo(110_000L);
+    }
+}